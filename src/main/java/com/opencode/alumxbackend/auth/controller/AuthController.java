@@ -7,6 +7,8 @@ import com.opencode.alumxbackend.auth.dto.RegisterRequest;
 import com.opencode.alumxbackend.auth.dto.RegisterResponse;
 import com.opencode.alumxbackend.auth.service.AuthService;
 import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.users.dto.AvailabilityResponse;
+import com.opencode.alumxbackend.users.service.UserAvailabilityService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
@@ -19,12 +21,14 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final UserAvailabilityService userAvailabilityService;
     
     @Value("${admin.creation.secret}")
     private String adminCreationSecret;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, UserAvailabilityService userAvailabilityService) {
         this.authService = authService;
+        this.userAvailabilityService = userAvailabilityService;
     }
 
     @PostMapping("/login")
@@ -39,6 +43,14 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // Live "is this taken" check for the signup form
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> checkAvailability(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email) {
+        return ResponseEntity.ok(userAvailabilityService.checkAvailability(username, email));
+    }
+
     @PostMapping("/create-admin")
     public ResponseEntity<RegisterResponse> createAdmin(
             @RequestHeader("X-ADMIN-SECRET") String providedSecret,
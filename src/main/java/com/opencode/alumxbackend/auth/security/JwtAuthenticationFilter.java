@@ -23,17 +23,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         this.jwtTokenProvider = jwtTokenProvider;
     }
 
+    // Streamed responses finish with an async dispatch that goes through the
+    // security chain again; authenticate it from the same header
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = getTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
-            String email = jwtTokenProvider.getEmailFromToken(token);
-            String role = jwtTokenProvider.getRoleFromToken(token);
+        JwtClaims claims = StringUtils.hasText(token)
+                ? jwtTokenProvider.verify(token).orElse(null)
+                : null;
 
-            UserPrincipal userPrincipal = new UserPrincipal(userId, email, role);
+        if (claims != null) {
+            String role = claims.role();
+            UserPrincipal userPrincipal = new UserPrincipal(claims.userId(), claims.email(), role);
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
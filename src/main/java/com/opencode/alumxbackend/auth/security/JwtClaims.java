@@ -0,0 +1,21 @@
+package com.opencode.alumxbackend.auth.security;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of a token whose signature has already been verified.
+ * The filter reads everything it needs from this object instead of
+ * parsing the token once per claim.
+ */
+public record JwtClaims(
+        Long userId,
+        String email,
+        String username,
+        String role,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -8,18 +8,27 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
     private final long expiration;
+    private final JwtParser parser;
+    private final JwtVerificationCache verificationCache;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long expiration) {
+            @Value("${jwt.expiration}") long expiration,
+            JwtVerificationCache verificationCache) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expiration = expiration;
+        // the parser is immutable and thread-safe, so build it once
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verificationCache = verificationCache;
     }
 
     public String generateToken(Long userId, String email, String username, String role) {
@@ -41,33 +50,39 @@ public class JwtTokenProvider {
         return expiration;
     }
 
+    /**
+     * Verifies the token once and returns all the claims the application uses.
+     * Tokens seen before are served from {@link JwtVerificationCache} without
+     * re-checking the signature.
+     *
+     * @return the verified claims, or empty if the token is invalid or expired
+     */
+    public Optional<JwtClaims> verify(String token) {
+        try {
+            return Optional.of(resolve(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     public String getEmailFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.getSubject();
+        return resolve(token).email();
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("userId", Long.class);
+        return resolve(token).userId();
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("username", String.class);
+        return resolve(token).username();
     }
 
     public String getRoleFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("role", String.class);
+        return resolve(token).role();
     }
 
     public boolean validateToken(String token) {
-        try {
-            parseToken(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return verify(token).isPresent();
     }
 
     public boolean isTokenExpired(String token) {
@@ -81,11 +96,26 @@ public class JwtTokenProvider {
         }
     }
 
+    private JwtClaims resolve(String token) {
+        String key = verificationCache.key(token);
+        JwtClaims cached = verificationCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseToken(token);
+        JwtClaims verified = new JwtClaims(
+                claims.get("userId", Long.class),
+                claims.getSubject(),
+                claims.get("username", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+        verificationCache.put(key, verified);
+        return verified;
+    }
+
     private Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,103 @@
+package com.opencode.alumxbackend.auth.security;
+
+import com.opencode.alumxbackend.common.cache.BoundedMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of tokens that already passed signature verification.
+ *
+ * Entries are keyed by a SHA-256 digest of the raw token so the cache never
+ * holds bearer tokens in memory, and an entry is dropped as soon as the
+ * token it describes has expired.
+ */
+@Component
+public class JwtVerificationCache implements MeterBinder {
+
+    // once full, expired tokens go first; losing a live one only costs a re-verification
+    private final BoundedMap<String, JwtClaims> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JwtVerificationCache(@Value("${jwt.cache.max-entries:10000}") int maxEntries) {
+        this.entries = new BoundedMap<>(maxEntries, claims -> claims.isExpired(Instant.now()));
+    }
+
+    /**
+     * What a token is cached under, computed once per lookup and passed to
+     * both {@link #get} and {@link #put}; null while the cache is disabled.
+     */
+    public String key(String token) {
+        return entries.isEnabled() ? digest(token) : null;
+    }
+
+    public JwtClaims get(String key) {
+        if (key == null) {
+            misses.increment();
+            return null;
+        }
+        JwtClaims claims = entries.get(key);
+        if (claims == null) {
+            misses.increment();
+            return null;
+        }
+        if (claims.isExpired(Instant.now())) {
+            entries.remove(key, claims);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return claims;
+    }
+
+    public void put(String key, JwtClaims claims) {
+        if (key != null) {
+            entries.put(key, claims);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.verification.cache", hits, LongAdder::doubleValue)
+                .description("Bearer tokens resolved from the verification cache")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("jwt.verification.cache", misses, LongAdder::doubleValue)
+                .description("Bearer tokens that required signature verification")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("jwt.verification.cache.size", entries, BoundedMap::size)
+                .description("Verified tokens currently cached")
+                .register(registry);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -8,13 +8,20 @@ import com.opencode.alumxbackend.auth.dto.RegisterResponse;
 import com.opencode.alumxbackend.auth.exception.InvalidCredentialsException;
 import com.opencode.alumxbackend.auth.security.JwtTokenProvider;
 import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.users.dto.UserCredentialsView;
 import com.opencode.alumxbackend.users.model.User;
 import com.opencode.alumxbackend.users.model.UserRole;
 import com.opencode.alumxbackend.users.repository.UserRepository;
+import com.opencode.alumxbackend.users.service.UserAvailabilityService;
+import com.opencode.alumxbackend.users.service.UserIdentifierFilter;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+
 @Service
 @Transactional
 public class AuthServiceImpl implements AuthService {
@@ -22,26 +29,47 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordVerificationService passwordVerificationService;
+    private final UserIdentifierFilter userIdentifierFilter;
+    private final UserAvailabilityService userAvailabilityService;
 
     public AuthServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
-                           JwtTokenProvider jwtTokenProvider) {
+                           JwtTokenProvider jwtTokenProvider,
+                           PasswordVerificationService passwordVerificationService,
+                           UserIdentifierFilter userIdentifierFilter,
+                           UserAvailabilityService userAvailabilityService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.passwordVerificationService = passwordVerificationService;
+        this.userIdentifierFilter = userIdentifierFilter;
+        this.userAvailabilityService = userAvailabilityService;
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // don't hold a connection while BCrypt runs
     public LoginResponse login(LoginRequest loginRequest) {
-        // Find user by email or username
-        User user = userRepository.findByEmail(loginRequest.getEmailOrUsername())
-                .orElseGet(() -> userRepository.findByUsername(loginRequest.getEmailOrUsername())
-                        .orElseThrow(() -> new InvalidCredentialsException("Invalid credentials")));
+        String identifier = loginRequest.getEmailOrUsername();
+
+        // Identifiers that were never registered are rejected without touching the database
+        if (!userIdentifierFilter.mightExist(identifier)) {
+            throw new InvalidCredentialsException("Invalid credentials");
+        }
+
+        // Find user by email or username, preferring an email match
+        UserCredentialsView user = userRepository.findCredentialsByEmailOrUsername(identifier)
+                .stream()
+                .min(Comparator.comparing(candidate -> !identifier.equals(candidate.getEmail())))
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid credentials"));
 
-        // Verify password
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPasswordHash())) {
+        // Verify password on the bounded login pool
+        if (!passwordVerificationService.matches(loginRequest.getPassword(), user.getPasswordHash())) {
             throw new InvalidCredentialsException("Invalid credentials");
         }
 
+        // Bring the stored hash up to the configured BCrypt cost
+        passwordVerificationService.rehashIfNeeded(user.getId(), loginRequest.getPassword(), user.getPasswordHash());
+
         // Generate token
         String token = jwtTokenProvider.generateToken(
                 user.getId(),
@@ -68,15 +96,8 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // the insert runs in its own transaction
     public RegisterResponse register(RegisterRequest registerRequest) {
-        if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            throw new BadRequestException("Email already exists: " + registerRequest.getEmail());
-        }
-
-        if (userRepository.existsByUsername(registerRequest.getUsername())) {
-            throw new BadRequestException("Username already exists: " + registerRequest.getUsername());
-        }
-
         UserRole role;
         try {
             role = UserRole.valueOf(registerRequest.getRole().toUpperCase());
@@ -106,7 +127,8 @@ public class AuthServiceImpl implements AuthService {
                 .profileCompleted(true) // default for dev
                 .build();
 
-        User savedUser = userRepository.save(user);
+        // Single insert; the unique constraints on email and username reject duplicates
+        User savedUser = saveNewUser(user);
 
         return RegisterResponse.builder()
                 .userId(savedUser.getId())
@@ -119,17 +141,8 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // the insert runs in its own transaction
     public RegisterResponse createAdmin(CreateAdminRequest createAdminRequest) {
-        // Check if email already exists
-        if (userRepository.existsByEmail(createAdminRequest.getEmail())) {
-            throw new BadRequestException("Email already exists: " + createAdminRequest.getEmail());
-        }
-
-        // Check if username already exists
-        if (userRepository.existsByUsername(createAdminRequest.getUsername())) {
-            throw new BadRequestException("Username already exists: " + createAdminRequest.getUsername());
-        }
-
         // Validate email format
         if (!createAdminRequest.getEmail().matches("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}(\\.[A-Za-z]{2,})?$")) {
             throw new BadRequestException("Invalid email format: " + createAdminRequest.getEmail());
@@ -150,7 +163,8 @@ public class AuthServiceImpl implements AuthService {
                 .profileCompleted(true)
                 .build();
 
-        User savedAdmin = userRepository.save(admin);
+        // Single insert; the unique constraints on email and username reject duplicates
+        User savedAdmin = saveNewUser(admin);
 
         return RegisterResponse.builder()
                 .userId(savedAdmin.getId())
@@ -161,4 +175,12 @@ public class AuthServiceImpl implements AuthService {
                 .message("Admin created successfully")
                 .build();
     }
+
+    private User saveNewUser(User user) {
+        try {
+            return userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw userAvailabilityService.toDuplicateException(user.getEmail(), user.getUsername(), e);
+        }
+    }
 }
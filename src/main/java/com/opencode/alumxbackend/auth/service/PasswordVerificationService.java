@@ -0,0 +1,169 @@
+package com.opencode.alumxbackend.auth.service;
+
+import com.opencode.alumxbackend.common.exception.Errors.TooManyRequestsException;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs BCrypt work on a small dedicated pool instead of the request thread.
+ *
+ * The pool has a bounded queue: once it is full, new logins are rejected
+ * with 429 right away, so a login burst cannot tie up every Tomcat thread.
+ * After a successful login the stored hash is re-encoded in the background
+ * when its cost differs from {@code auth.bcrypt.strength}. Rehashing has its
+ * own single-thread pool with a short queue, so a wave of upgrades after a
+ * cost change can never take verification threads away from logins.
+ */
+@Service
+@Slf4j
+public class PasswordVerificationService implements MeterBinder {
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final int targetStrength;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor rehashExecutor;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+
+    public PasswordVerificationService(
+            PasswordEncoder passwordEncoder,
+            UserRepository userRepository,
+            @Value("${auth.bcrypt.strength:10}") int targetStrength,
+            @Value("${auth.login.bulkhead.threads:0}") int threads,
+            @Value("${auth.login.bulkhead.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.login.bulkhead.timeout-ms:5000}") long timeoutMillis,
+            @Value("${auth.login.rehash.queue-capacity:16}") int rehashQueueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.targetStrength = targetStrength;
+        this.timeoutMillis = timeoutMillis;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = boundedPool("login-bcrypt-", poolSize, queueCapacity);
+        this.rehashExecutor = boundedPool("login-rehash-", 1, rehashQueueCapacity);
+    }
+
+    private static ThreadPoolExecutor boundedPool(String namePrefix, int threads, int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Checks a raw password against a stored hash on the login pool.
+     *
+     * @throws TooManyRequestsException if the pool is saturated or the check does not finish in time
+     */
+    public boolean matches(String rawPassword, String passwordHash) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> passwordEncoder.matches(rawPassword, passwordHash));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many login attempts in progress, please retry shortly");
+        }
+
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejected.increment();
+            throw new TooManyRequestsException("Login is taking too long, please retry shortly");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    /**
+     * Re-encodes the stored hash with the configured cost if it was created with a
+     * different one. Runs on the rehash pool and is skipped when that pool is busy;
+     * the next successful login will try again.
+     */
+    public void rehashIfNeeded(Long userId, String rawPassword, String passwordHash) {
+        if (strengthOf(passwordHash) == targetStrength) {
+            return;
+        }
+        try {
+            rehashExecutor.execute(() -> {
+                String upgraded = passwordEncoder.encode(rawPassword);
+                // compare-and-set so a password change made meanwhile is never overwritten
+                if (userRepository.updatePasswordHash(userId, passwordHash, upgraded) > 0) {
+                    rehashed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Skipping password rehash for user {}, rehash pool is saturated", userId);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.login.bulkhead.rejected", rejected, LongAdder::doubleValue)
+                .description("Logins rejected because the password verification pool was saturated")
+                .register(registry);
+        FunctionCounter.builder("auth.login.rehashed", rehashed, LongAdder::doubleValue)
+                .description("Stored password hashes upgraded to the configured BCrypt cost")
+                .register(registry);
+        Gauge.builder("auth.login.bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password verifications currently running")
+                .register(registry);
+        Gauge.builder("auth.login.bulkhead.queued", executor, e -> e.getQueue().size())
+                .description("Password verifications waiting for a thread")
+                .register(registry);
+        Gauge.builder("auth.login.rehash.queued", rehashExecutor, e -> e.getQueue().size())
+                .description("Password hash upgrades waiting for the rehash thread")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        rehashExecutor.shutdown();
+    }
+
+    // BCrypt hashes look like $2a$10$..., the two digits after the version are the cost
+    private static int strengthOf(String passwordHash) {
+        if (passwordHash == null || passwordHash.length() < 7 || passwordHash.charAt(0) != '$') {
+            return -1;
+        }
+        int costStart = passwordHash.indexOf('$', 1) + 1;
+        try {
+            return Integer.parseInt(passwordHash.substring(costStart, costStart + 2));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.opencode.alumxbackend.common;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} housekeeping tasks (cache and limiter eviction, periodic flushes).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
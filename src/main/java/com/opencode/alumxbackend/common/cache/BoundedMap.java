@@ -0,0 +1,77 @@
+package com.opencode.alumxbackend.common.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * A concurrent map holding at most about {@code maxEntries} entries, for
+ * in-process caches whose values are cheap to rebuild.
+ *
+ * A put that finds the map full first drops the entries the optional
+ * {@code stale} test rejects, then an arbitrary tenth of the rest, so eviction
+ * runs once per tenth of the capacity rather than on every put. With
+ * {@code maxEntries <= 0} nothing is kept.
+ */
+public class BoundedMap<K, V> {
+
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final Predicate<? super V> stale;
+
+    public BoundedMap(int maxEntries) {
+        this(maxEntries, null);
+    }
+
+    public BoundedMap(int maxEntries, Predicate<? super V> stale) {
+        this.maxEntries = maxEntries;
+        this.stale = stale;
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    public V get(K key) {
+        return entries.get(key);
+    }
+
+    public void put(K key, V value) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(key, value);
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public boolean remove(K key, V value) {
+        return entries.remove(key, value);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void evict() {
+        if (stale != null) {
+            entries.values().removeIf(stale);
+        }
+        int excess = entries.size() - (maxEntries - maxEntries / 10);
+        Iterator<K> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.opencode.alumxbackend.common.exception.Errors;
+
+/**
+ * Exception thrown when a feature cannot answer yet, for example while its index is still loading
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
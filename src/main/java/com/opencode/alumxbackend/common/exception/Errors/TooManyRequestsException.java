@@ -0,0 +1,10 @@
+package com.opencode.alumxbackend.common.exception.Errors;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the request is shed
+ */
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,26 @@
+package com.opencode.alumxbackend.common.migration;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Marks a one-off data migration as applied, see {@link DataMigrations}.
+ */
+@Entity
+@Table(name = "data_migrations")
+@Getter
+@NoArgsConstructor
+public class DataMigration {
+    @Id
+    @Column(length = 100)
+    private String id;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,54 @@
+package com.opencode.alumxbackend.common.migration;
+
+import java.time.LocalDateTime;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a data migration once per database. The migration and its
+ * {@code data_migrations} row commit together, so a failed one is retried on
+ * the next start, and an instance starting alongside one that is applying it
+ * waits on the row and then skips it.
+ */
+@Component
+@Slf4j
+public class DataMigrations {
+
+    private static final String APPLIED_SQL = "SELECT COUNT(*) FROM data_migrations WHERE id = ?";
+    private static final String MARK_SQL = "INSERT INTO data_migrations (id, applied_at) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public DataMigrations(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Runs {@code sql} unless the migration {@code id} has already been applied.
+     */
+    public void runOnce(String id, String sql) {
+        try {
+            Integer applied = jdbcTemplate.queryForObject(APPLIED_SQL, Integer.class, id);
+            if (applied != null && applied > 0) {
+                return;
+            }
+            Integer rows = transactionTemplate.execute(status -> {
+                jdbcTemplate.update(MARK_SQL, id, LocalDateTime.now());
+                return jdbcTemplate.update(sql);
+            });
+            log.info("Applied data migration {} to {} rows", id, rows);
+        } catch (DuplicateKeyException e) {
+            log.debug("Data migration {} was applied by another instance", id);
+        } catch (DataAccessException e) {
+            log.warn("Could not apply data migration {}, will retry on the next start", id, e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.opencode.alumxbackend.common.ratelimit;
+
+import com.opencode.alumxbackend.auth.security.UserPrincipal;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-caller rate limiting, installed right after {@code JwtAuthenticationFilter}.
+ *
+ * Authenticated requests are limited per user id and anonymous ones per client
+ * IP, with a separate bucket for each {@link RateLimitGroup}. Requests over the
+ * limit get 429 with a Retry-After header before they reach a controller, so
+ * they never take a database connection.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private final boolean enabled;
+    private final long idleNanos;
+    private final Map<RateLimitGroup, RateLimitRule> rules = new EnumMap<>(RateLimitGroup.class);
+    private final TokenBucketRateLimiter limiter;
+
+    private final Map<RateLimitGroup, LongAdder> rejected = new EnumMap<>(RateLimitGroup.class);
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder checkNanos = new LongAdder();
+
+    public RateLimitFilter(
+            Environment environment,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.stripes:16}") int stripes,
+            @Value("${rate-limit.idle-timeout-ms:300000}") long idleTimeoutMillis) {
+        this.enabled = enabled;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.limiter = new TokenBucketRateLimiter(stripes);
+
+        for (RateLimitGroup group : RateLimitGroup.values()) {
+            String prefix = "rate-limit." + group.key();
+            rules.put(group, new RateLimitRule(
+                    environment.getProperty(prefix + ".capacity", Integer.class, group.defaultCapacity()),
+                    environment.getProperty(prefix + ".refill-per-second", Double.class, group.defaultRefillPerSecond())
+            ));
+            rejected.put(group, new LongAdder());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimitGroup group = RateLimitGroup.match(path);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        long waitNanos = limiter.tryAcquire(group.key() + ':' + callerKey(request), rules.get(group), start);
+        checks.increment();
+        checkNanos.add(System.nanoTime() - start);
+
+        if (waitNanos > 0) {
+            rejected.get(group).increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            response.setStatus(429);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\": \"Too Many Requests\", \"message\": \"Rate limit exceeded, retry in "
+                    + retryAfterSeconds + "s\"}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        limiter.evictIdle(System.nanoTime(), idleNanos);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RateLimitGroup group : RateLimitGroup.values()) {
+            FunctionCounter.builder("rate.limit.rejected", rejected.get(group), LongAdder::doubleValue)
+                    .description("Requests rejected with 429 by the rate limiter")
+                    .tag("group", group.key())
+                    .register(registry);
+        }
+        Gauge.builder("rate.limit.buckets", limiter, TokenBucketRateLimiter::size)
+                .description("Caller buckets held in memory, including full ones not yet evicted")
+                .register(registry);
+        Gauge.builder("rate.limit.buckets.active", limiter, l -> l.activeCount(System.nanoTime()))
+                .description("Caller buckets with tokens in use, i.e. callers still being refilled")
+                .register(registry);
+        FunctionTimer.builder("rate.limit.check", this,
+                        filter -> filter.checks.longValue(),
+                        filter -> filter.checkNanos.doubleValue(),
+                        TimeUnit.NANOSECONDS)
+                .description("Time spent deciding whether to admit a request")
+                .register(registry);
+    }
+
+    private String callerKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getId() != null) {
+            return "user:" + principal.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,58 @@
+package com.opencode.alumxbackend.common.ratelimit;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+/**
+ * Route groups that get their own bucket per caller. The first group whose
+ * pattern matches wins, so the catch-all {@link #DEFAULT} comes last.
+ * Limits are read from {@code rate-limit.<key>.capacity} and
+ * {@code rate-limit.<key>.refill-per-second}.
+ */
+public enum RateLimitGroup {
+    AUTH("auth", 10, 1.0, "/api/auth/**"),
+    GROUP_MESSAGES("group-messages", 30, 5.0, "/api/groups/*/messages/**", "/api/group-chats/*/messages/**"),
+    SEARCH("search", 20, 5.0, "/api/users/search/**", "/api/posts/search/**"),
+    DEFAULT("default", 100, 20.0, "/api/**");
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final String key;
+    private final int defaultCapacity;
+    private final double defaultRefillPerSecond;
+    private final List<String> patterns;
+
+    RateLimitGroup(String key, int defaultCapacity, double defaultRefillPerSecond, String... patterns) {
+        this.key = key;
+        this.defaultCapacity = defaultCapacity;
+        this.defaultRefillPerSecond = defaultRefillPerSecond;
+        this.patterns = List.of(patterns);
+    }
+
+    public String key() {
+        return key;
+    }
+
+    int defaultCapacity() {
+        return defaultCapacity;
+    }
+
+    double defaultRefillPerSecond() {
+        return defaultRefillPerSecond;
+    }
+
+    /**
+     * @return the group for this path, or null if the path is not rate limited
+     */
+    public static RateLimitGroup match(String path) {
+        for (RateLimitGroup group : values()) {
+            for (String pattern : group.patterns) {
+                if (PATH_MATCHER.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.opencode.alumxbackend.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket parameters: up to {@code capacity} requests in a burst,
+ * refilled at {@code refillPerSecond} tokens per second.
+ */
+public record RateLimitRule(int capacity, double refillPerSecond) {
+
+    public RateLimitRule {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit needs a capacity >= 1 and a positive refill rate");
+        }
+    }
+
+    /** Time it takes to refill a single token. */
+    long emissionIntervalNanos() {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+    }
+
+    /** Time it takes to refill an empty bucket completely. */
+    long burstNanos() {
+        return emissionIntervalNanos() * capacity;
+    }
+}
@@ -0,0 +1,114 @@
+package com.opencode.alumxbackend.common.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token buckets keyed by caller.
+ *
+ * Each bucket is a single {@link AtomicLong} holding the bucket's "theoretical
+ * arrival time" (the generic cell rate algorithm). This behaves exactly like a
+ * token bucket, but taking a token is one CAS with no refill bookkeeping.
+ * Buckets are spread over independent stripes so eviction can sweep one
+ * stripe at a time, and a bucket that has been full for longer than the idle
+ * timeout is dropped. A full bucket and a missing bucket behave the same, so
+ * eviction never changes a caller's allowance.
+ */
+public final class TokenBucketRateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    private final int stripeMask;
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketRateLimiter(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ConcurrentHashMap[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    /**
+     * Takes one token from the caller's bucket.
+     *
+     * @return 0 if the request is allowed, otherwise how many nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, RateLimitRule rule, long nowNanos) {
+        ConcurrentHashMap<String, AtomicLong> stripe = stripeFor(key);
+        AtomicLong bucket = stripe.get(key);
+        if (bucket == null) {
+            bucket = stripe.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        }
+
+        long interval = rule.emissionIntervalNanos();
+        long burst = rule.burstNanos();
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, nowNanos) + interval;
+            long backlog = next - nowNanos;
+            if (backlog > burst) {
+                return backlog - burst;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Tokens currently left in the caller's bucket (capacity if it has no bucket).
+     */
+    public long availableTokens(String key, RateLimitRule rule, long nowNanos) {
+        AtomicLong bucket = stripeFor(key).get(key);
+        if (bucket == null) {
+            return rule.capacity();
+        }
+        long backlog = Math.max(bucket.get(), nowNanos) - nowNanos;
+        return (rule.burstNanos() - backlog) / rule.emissionIntervalNanos();
+    }
+
+    /**
+     * Drops buckets that have been full for at least {@code idleNanos}.
+     *
+     * @return number of buckets removed
+     */
+    public int evictIdle(long nowNanos, long idleNanos) {
+        int removed = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            int before = stripe.size();
+            stripe.values().removeIf(bucket -> nowNanos - bucket.get() >= idleNanos);
+            removed += before - stripe.size();
+        }
+        return Math.max(0, removed);
+    }
+
+    /**
+     * Buckets that are not full, i.e. callers who have used part of their allowance
+     * and are still being refilled. Full buckets count towards {@link #size()} only.
+     */
+    public int activeCount(long nowNanos) {
+        int active = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            for (AtomicLong bucket : stripe.values()) {
+                if (bucket.get() > nowNanos) {
+                    active++;
+                }
+            }
+        }
+        return active;
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripeFor(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & stripeMask];
+    }
+}
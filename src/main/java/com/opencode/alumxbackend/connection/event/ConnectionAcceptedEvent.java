@@ -0,0 +1,10 @@
+package com.opencode.alumxbackend.connection.event;
+
+/**
+ * Published once two users are connected.
+ */
+public record ConnectionAcceptedEvent(
+        Long senderId,
+        Long receiverId
+) {
+}
@@ -10,6 +10,10 @@ import lombok.*;
     name = "connections",
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"sender_id", "receiver_id"})
+    },
+    indexes = {
+        @Index(name = "idx_connections_sender_status", columnList = "sender_id, status"),
+        @Index(name = "idx_connections_receiver_status", columnList = "receiver_id, status")
     }
 )
 @Getter
@@ -18,6 +18,9 @@ public interface ConnectionRepository extends JpaRepository<Connection, Long> {
     @Query("SELECT c FROM Connection c WHERE (c.senderId = :userId OR c.receiverId = :userId) AND c.status = :status")
     List<Connection> findByUserIdAndStatus(@Param("userId") Long userId, @Param("status") ConnectionStatus status);
 
+    @Query("SELECT COUNT(c) FROM Connection c WHERE (c.senderId = :userId OR c.receiverId = :userId) AND c.status = :status")
+    long countByUserIdAndStatus(@Param("userId") Long userId, @Param("status") ConnectionStatus status);
+
     @Query("SELECT c FROM Connection c WHERE c.receiverId = :userId AND c.status = :status")
     List<Connection> findPendingRequestsForUser(@Param("userId") Long userId, @Param("status") ConnectionStatus status);
 
@@ -2,9 +2,11 @@ package com.opencode.alumxbackend.connection.service;
 
 import java.util.List;
 import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.opencode.alumxbackend.connection.event.ConnectionAcceptedEvent;
 import com.opencode.alumxbackend.connection.model.Connection;
 import com.opencode.alumxbackend.connection.model.ConnectionStatus;
 import com.opencode.alumxbackend.connection.repository.ConnectionRepository;
@@ -20,6 +22,7 @@ public class ConnectionServiceImpl implements ConnectionService {
     
     private final ConnectionRepository connectionRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void sendConnectionRequest(Long senderId, Long receiverId) {
@@ -70,6 +73,7 @@ public class ConnectionServiceImpl implements ConnectionService {
 
         connection.setStatus(ConnectionStatus.ACCEPTED);
         connectionRepository.save(connection);
+        eventPublisher.publishEvent(new ConnectionAcceptedEvent(connection.getSenderId(), connection.getReceiverId()));
     }
 
     @Override
@@ -0,0 +1,70 @@
+package com.opencode.alumxbackend.feed.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.opencode.alumxbackend.auth.security.UserPrincipal;
+import com.opencode.alumxbackend.common.exception.Errors.ForbiddenException;
+import com.opencode.alumxbackend.feed.service.FeedService;
+import com.opencode.alumxbackend.jobposts.dto.JobPostResponse;
+import com.opencode.alumxbackend.jobposts.dto.PostTimelineCursor;
+import com.opencode.alumxbackend.jobposts.dto.PostTimelinePage;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class FeedController {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final FeedService feedService;
+
+    /**
+     * Posts from the caller's accepted connections, newest first. While there are
+     * more, the response carries an {@code X-Next-Cursor} header to pass back as
+     * {@code cursor}.
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<List<JobPostResponse>> getFeed(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return feedPage(userPrincipal.getId(), cursor, size);
+    }
+
+    /**
+     * Same as {@code GET /api/feed}; a user may only read their own feed.
+     */
+    @GetMapping("/users/{userId}/feed")
+    public ResponseEntity<List<JobPostResponse>> getFeed(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (!userId.equals(userPrincipal.getId())) {
+            throw new ForbiddenException("Users can only read their own feed");
+        }
+        return feedPage(userId, cursor, size);
+    }
+
+    private ResponseEntity<List<JobPostResponse>> feedPage(Long userId, String cursor, int size) {
+        PostTimelineCursor after = cursor == null || cursor.isBlank() ? null : PostTimelineCursor.decode(cursor);
+        PostTimelinePage page = feedService.getFeed(userId, after, size);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            ok.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return ok.body(page.posts());
+    }
+}
@@ -0,0 +1,12 @@
+package com.opencode.alumxbackend.feed.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A post's place in a feed: newest first, ties broken by the higher post id.
+ */
+public record FeedItem(
+        Long postId,
+        LocalDateTime createdAt
+) {
+}
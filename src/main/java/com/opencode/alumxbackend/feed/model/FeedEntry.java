@@ -0,0 +1,55 @@
+package com.opencode.alumxbackend.feed.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A post copied into one user's home feed when its author wrote it.
+ * {@code createdAt} is the post's, so a feed reads newest first straight off
+ * {@code idx_feed_user_created}.
+ */
+@Entity
+@Table(name = "feed_entries",
+        indexes = {
+            @Index(name = "idx_feed_user_created", columnList = "user_id, created_at DESC, post_id DESC"),
+            @Index(name = "idx_feed_post_id", columnList = "post_id")
+        },
+        uniqueConstraints = {
+            @UniqueConstraint(name = "uk_feed_user_post", columnNames = {"user_id", "post_id"})
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package com.opencode.alumxbackend.feed.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * An author with too many connections to copy each post into every feed.
+ * Their posts are read from their own timeline when a connection's feed is
+ * built instead.
+ */
+@Entity
+@Table(name = "feed_pull_authors")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedPullAuthor {
+    @Id
+    @Column(name = "author_id")
+    private Long authorId;
+
+    @Column(nullable = false)
+    private long connectionCount;
+
+    @Column(nullable = false)
+    private LocalDateTime since;
+}
@@ -0,0 +1,121 @@
+package com.opencode.alumxbackend.feed.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.opencode.alumxbackend.feed.dto.FeedItem;
+import com.opencode.alumxbackend.feed.model.FeedEntry;
+
+/**
+ * Stored home feeds. Copies are written set-based by id, so fanning a post out
+ * to thousands of connections is one statement and no entity is loaded.
+ */
+@Repository
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, Long> {
+
+    /**
+     * Copies the posts into the feed of each accepted connection of their
+     * authors.
+     *
+     * @return the number of feed entries added
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO feed_entries (user_id, post_id, author_id, created_at)
+        SELECT CASE WHEN c.sender_id = p.author_id THEN c.receiver_id ELSE c.sender_id END,
+               p.post_id, p.author_id, p.created_at
+        FROM job_posts p
+        JOIN connections c ON (c.sender_id = p.author_id OR c.receiver_id = p.author_id)
+        WHERE p.post_id IN (:postIds)
+          AND c.status = 'ACCEPTED'
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int fanOut(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Copies the author's latest {@code limit} posts into the user's feed, for
+     * a connection just made.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO feed_entries (user_id, post_id, author_id, created_at)
+        SELECT :userId, p.post_id, p.author_id, p.created_at
+        FROM job_posts p
+        WHERE p.author_id = :authorId
+        ORDER BY p.created_at DESC, p.post_id DESC
+        LIMIT :limit
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int copyRecentPosts(@Param("userId") Long userId, @Param("authorId") Long authorId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM feed_entries WHERE post_id = :postId", nativeQuery = true)
+    int deleteByPostId(@Param("postId") Long postId);
+
+    /**
+     * Drops every entry past the newest {@code maxLength} of these users' feeds.
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM feed_entries
+        WHERE id IN (
+            SELECT id FROM (
+                SELECT id, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY created_at DESC, post_id DESC) AS n
+                FROM feed_entries
+                WHERE user_id IN (:userIds)
+            ) ranked
+            WHERE n > :maxLength
+        )
+        """, nativeQuery = true)
+    int trimFeeds(@Param("userIds") Collection<Long> userIds, @Param("maxLength") int maxLength);
+
+    /**
+     * Drops every entry past the newest {@code maxLength} of the feeds of
+     * these authors' accepted connections, the feeds their posts are copied to.
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM feed_entries
+        WHERE id IN (
+            SELECT id FROM (
+                SELECT id, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY created_at DESC, post_id DESC) AS n
+                FROM feed_entries
+                WHERE user_id IN (
+                    SELECT receiver_id FROM connections WHERE sender_id IN (:authorIds) AND status = 'ACCEPTED'
+                    UNION
+                    SELECT sender_id FROM connections WHERE receiver_id IN (:authorIds) AND status = 'ACCEPTED'
+                )
+            ) ranked
+            WHERE n > :maxLength
+        )
+        """, nativeQuery = true)
+    int trimConnectionFeeds(@Param("authorIds") Collection<Long> authorIds, @Param("maxLength") int maxLength);
+
+    @Query("""
+        SELECT new com.opencode.alumxbackend.feed.dto.FeedItem(f.postId, f.createdAt)
+        FROM FeedEntry f
+        WHERE f.userId = :userId
+        ORDER BY f.createdAt DESC, f.postId DESC
+        """)
+    List<FeedItem> findFeed(@Param("userId") Long userId, Limit limit);
+
+    @Query("""
+        SELECT new com.opencode.alumxbackend.feed.dto.FeedItem(f.postId, f.createdAt)
+        FROM FeedEntry f
+        WHERE f.userId = :userId
+          AND (f.createdAt < :afterCreatedAt OR (f.createdAt = :afterCreatedAt AND f.postId < :afterId))
+        ORDER BY f.createdAt DESC, f.postId DESC
+        """)
+    List<FeedItem> findFeedAfter(@Param("userId") Long userId,
+                                 @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                 @Param("afterId") Long afterId,
+                                 Limit limit);
+}
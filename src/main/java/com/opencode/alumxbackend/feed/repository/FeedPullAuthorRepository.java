@@ -0,0 +1,26 @@
+package com.opencode.alumxbackend.feed.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.opencode.alumxbackend.feed.model.FeedPullAuthor;
+
+@Repository
+public interface FeedPullAuthorRepository extends JpaRepository<FeedPullAuthor, Long> {
+
+    // Walks the few pull authors rather than the user's connections, however many those are
+    @Query("""
+        SELECT a.authorId FROM FeedPullAuthor a
+        WHERE EXISTS (
+            SELECT 1 FROM Connection c
+            WHERE c.status = com.opencode.alumxbackend.connection.model.ConnectionStatus.ACCEPTED
+              AND ((c.senderId = :userId AND c.receiverId = a.authorId)
+                OR (c.receiverId = :userId AND c.senderId = a.authorId))
+        )
+        """)
+    List<Long> findConnectedPullAuthorIds(@Param("userId") Long userId);
+}
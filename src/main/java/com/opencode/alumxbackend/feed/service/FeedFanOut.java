@@ -0,0 +1,187 @@
+package com.opencode.alumxbackend.feed.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntBiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.opencode.alumxbackend.connection.event.ConnectionAcceptedEvent;
+import com.opencode.alumxbackend.connection.model.ConnectionStatus;
+import com.opencode.alumxbackend.connection.repository.ConnectionRepository;
+import com.opencode.alumxbackend.feed.model.FeedPullAuthor;
+import com.opencode.alumxbackend.feed.repository.FeedEntryRepository;
+import com.opencode.alumxbackend.feed.repository.FeedPullAuthorRepository;
+import com.opencode.alumxbackend.jobposts.event.JobPostCreatedEvent;
+import com.opencode.alumxbackend.jobposts.event.JobPostDeletedEvent;
+import com.opencode.alumxbackend.jobposts.event.JobPostsImportedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the stored home feeds up to date.
+ *
+ * A new post is copied into the feed of each of its author's connections once
+ * it commits, and a bulk-imported chunk of posts likewise in one statement.
+ * An author with more than {@code feed.fan-out.max-connections} connections
+ * becomes a pull author instead: their posts are never copied, and
+ * {@link FeedServiceImpl} merges them in from the author's own timeline when a
+ * feed is read. Pull authors stay pull authors; a post they wrote before
+ * switching may be both stored and pulled, which the merge drops as a
+ * duplicate.
+ *
+ * Feeds are trimmed to their newest {@code feed.timeline.max-length} entries
+ * every {@code feed.timeline.trim-interval-ms}, so a feed that grows between
+ * trims is briefly a little longer. Only feeds that may have grown since the
+ * last trim are ranked: those filled for a new connection, and those of the
+ * connections of authors whose posts were copied.
+ */
+@Component
+@Slf4j
+public class FeedFanOut {
+
+    private static final int TRIM_BATCH_SIZE = 500;
+
+    private final FeedEntryRepository feedEntryRepository;
+    private final FeedPullAuthorRepository pullAuthorRepository;
+    private final ConnectionRepository connectionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxConnections;
+    private final int maxLength;
+    private final Set<Long> grownFeeds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pushedAuthors = ConcurrentHashMap.newKeySet();
+
+    public FeedFanOut(
+            FeedEntryRepository feedEntryRepository,
+            FeedPullAuthorRepository pullAuthorRepository,
+            ConnectionRepository connectionRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${feed.fan-out.max-connections:1000}") long maxConnections,
+            @Value("${feed.timeline.max-length:500}") int maxLength) {
+        this.feedEntryRepository = feedEntryRepository;
+        this.pullAuthorRepository = pullAuthorRepository;
+        this.connectionRepository = connectionRepository;
+        // listeners run after the publisher's transaction committed, so they need one of their own
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxConnections = maxConnections;
+        this.maxLength = maxLength;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(JobPostCreatedEvent event) {
+        if (event.authorId() == null) {
+            return;
+        }
+        run("fan out post " + event.postId(), () -> {
+            if (pushes(event.authorId())) {
+                feedEntryRepository.fanOut(List.of(event.postId()));
+                pushedAuthors.add(event.authorId());
+            }
+        });
+    }
+
+    // A whole imported chunk in one statement, leaving out pull authors' posts
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsImported(JobPostsImportedEvent event) {
+        run("fan out " + event.postIdsByAuthor().size() + " authors' imported posts", () -> {
+            List<Long> postIds = new ArrayList<>();
+            event.postIdsByAuthor().forEach((authorId, authorPostIds) -> {
+                if (pushes(authorId)) {
+                    postIds.addAll(authorPostIds);
+                    pushedAuthors.add(authorId);
+                }
+            });
+            if (!postIds.isEmpty()) {
+                feedEntryRepository.fanOut(postIds);
+            }
+        });
+    }
+
+    // Each side's feed starts out with the other's recent posts
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConnectionAccepted(ConnectionAcceptedEvent event) {
+        run("fill feeds of connection " + event.senderId() + "-" + event.receiverId(), () -> {
+            copyRecentPosts(event.senderId(), event.receiverId());
+            copyRecentPosts(event.receiverId(), event.senderId());
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(JobPostDeletedEvent event) {
+        run("remove post " + event.postId() + " from feeds", () -> feedEntryRepository.deleteByPostId(event.postId()));
+    }
+
+    @Scheduled(fixedDelayString = "${feed.timeline.trim-interval-ms:600000}")
+    public void trim() {
+        trim("feeds", grownFeeds, feedEntryRepository::trimFeeds);
+        trim("authors' connection feeds", pushedAuthors, feedEntryRepository::trimConnectionFeeds);
+    }
+
+    // Takes ids out of the set in batches; a batch that fails to trim goes back for the next run
+    private void trim(String what, Set<Long> ids, ToIntBiFunction<Collection<Long>, Integer> trim) {
+        while (!ids.isEmpty()) {
+            List<Long> batch = new ArrayList<>(Math.min(ids.size(), TRIM_BATCH_SIZE));
+            Iterator<Long> pending = ids.iterator();
+            while (pending.hasNext() && batch.size() < TRIM_BATCH_SIZE) {
+                batch.add(pending.next());
+                pending.remove();
+            }
+            boolean trimmed = run("trim " + batch.size() + " " + what, () -> {
+                int removed = trim.applyAsInt(batch, maxLength);
+                if (removed > 0) {
+                    log.debug("Trimmed {} entries from {} {}", removed, batch.size(), what);
+                }
+            });
+            if (!trimmed) {
+                ids.addAll(batch);
+                return;
+            }
+        }
+    }
+
+    // Whether the author's posts are copied into feeds; marks them a pull author once they have too many connections
+    private boolean pushes(Long authorId) {
+        if (pullAuthorRepository.existsById(authorId)) {
+            return false;
+        }
+        long connections = connectionRepository.countByUserIdAndStatus(authorId, ConnectionStatus.ACCEPTED);
+        if (connections > maxConnections) {
+            pullAuthorRepository.save(new FeedPullAuthor(authorId, connections, LocalDateTime.now()));
+            log.info("Author {} has {} connections, their posts are now merged into feeds on read", authorId, connections);
+            return false;
+        }
+        return true;
+    }
+
+    private void copyRecentPosts(Long userId, Long authorId) {
+        if (!pullAuthorRepository.existsById(authorId)) {
+            feedEntryRepository.copyRecentPosts(userId, authorId, maxLength);
+            grownFeeds.add(userId);
+        }
+    }
+
+    // A failed copy only leaves a feed short; it must not fail the request that published the event
+    private boolean run(String what, Runnable work) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> work.run());
+            return true;
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Could not {}", what, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.opencode.alumxbackend.feed.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.opencode.alumxbackend.feed.dto.FeedItem;
+
+/**
+ * k-way merge of feed sources that are each already newest first.
+ */
+final class FeedMerge {
+
+    static final Comparator<FeedItem> NEWEST_FIRST = Comparator
+            .comparing(FeedItem::createdAt)
+            .thenComparing(FeedItem::postId)
+            .reversed();
+
+    private record Head(FeedItem item, Iterator<FeedItem> rest) {
+    }
+
+    private FeedMerge() {
+    }
+
+    /**
+     * The first {@code limit} items across all sources, newest first, each post
+     * once even if several sources hold it.
+     */
+    static List<FeedItem> merge(List<List<FeedItem>> sources, int limit) {
+        PriorityQueue<Head> heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                Comparator.comparing(Head::item, NEWEST_FIRST));
+        for (List<FeedItem> source : sources) {
+            Iterator<FeedItem> items = source.iterator();
+            if (items.hasNext()) {
+                heads.add(new Head(items.next(), items));
+            }
+        }
+
+        List<FeedItem> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head head = heads.poll();
+            // copies of one post share its createdAt and id, so they come off the queue together
+            if (merged.isEmpty() || !merged.get(merged.size() - 1).postId().equals(head.item().postId())) {
+                merged.add(head.item());
+            }
+            if (head.rest().hasNext()) {
+                heads.add(new Head(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,9 @@
+package com.opencode.alumxbackend.feed.service;
+
+import com.opencode.alumxbackend.jobposts.dto.PostTimelineCursor;
+import com.opencode.alumxbackend.jobposts.dto.PostTimelinePage;
+
+public interface FeedService {
+
+    PostTimelinePage getFeed(Long userId, PostTimelineCursor after, int size);
+}
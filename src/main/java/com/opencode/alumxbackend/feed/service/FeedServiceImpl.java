@@ -0,0 +1,93 @@
+package com.opencode.alumxbackend.feed.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.common.exception.Errors.ResourceNotFoundException;
+import com.opencode.alumxbackend.feed.dto.FeedItem;
+import com.opencode.alumxbackend.feed.repository.FeedEntryRepository;
+import com.opencode.alumxbackend.feed.repository.FeedPullAuthorRepository;
+import com.opencode.alumxbackend.jobposts.dto.JobPostResponse;
+import com.opencode.alumxbackend.jobposts.dto.PostTimelineCursor;
+import com.opencode.alumxbackend.jobposts.dto.PostTimelinePage;
+import com.opencode.alumxbackend.jobposts.model.JobPost;
+import com.opencode.alumxbackend.jobposts.repository.JobPostRepository;
+import com.opencode.alumxbackend.jobposts.service.JobPostLikeCounter;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Home feed: the user's stored feed merged with the timelines of the pull
+ * authors they are connected to (see {@link FeedFanOut}). Every source is read
+ * by keyset from its own index, one page deep, so a page costs the same
+ * however many connections the user has.
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedServiceImpl implements FeedService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final FeedEntryRepository feedEntryRepository;
+    private final FeedPullAuthorRepository pullAuthorRepository;
+    private final JobPostRepository jobPostRepository;
+    private final UserRepository userRepository;
+    private final JobPostLikeCounter likeCounter;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostTimelinePage getFeed(Long userId, PostTimelineCursor after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+
+        // one extra item tells us whether there is a next page
+        Limit limit = Limit.of(size + 1);
+        List<List<FeedItem>> sources = new ArrayList<>();
+        sources.add(after == null
+                ? feedEntryRepository.findFeed(userId, limit)
+                : feedEntryRepository.findFeedAfter(userId, after.createdAt(), after.postId(), limit));
+
+        Map<Long, JobPost> posts = new HashMap<>();
+        for (Long authorId : pullAuthorRepository.findConnectedPullAuthorIds(userId)) {
+            List<JobPost> timeline = after == null
+                    ? jobPostRepository.findTimeline(authorId, limit)
+                    : jobPostRepository.findTimelineAfter(authorId, after.createdAt(), after.postId(), limit);
+            timeline.forEach(post -> posts.put(post.getPostId(), post));
+            sources.add(timeline.stream().map(post -> new FeedItem(post.getPostId(), post.getCreatedAt())).toList());
+        }
+
+        List<FeedItem> items = sources.size() == 1 ? sources.get(0) : FeedMerge.merge(sources, size + 1);
+        boolean hasMore = items.size() > size;
+        List<FeedItem> page = hasMore ? items.subList(0, size) : items;
+
+        List<Long> stored = page.stream().map(FeedItem::postId).filter(id -> !posts.containsKey(id)).toList();
+        if (!stored.isEmpty()) {
+            jobPostRepository.findAllById(stored).forEach(post -> posts.put(post.getPostId(), post));
+        }
+
+        // a post deleted since it was copied is skipped; the cursor still moves past it
+        List<JobPostResponse> responses = page.stream()
+                .map(item -> posts.get(item.postId()))
+                .filter(Objects::nonNull)
+                .map(JobPostResponse::fromEntity)
+                .toList();
+        Map<Long, Long> likeCounts = likeCounter.likeCounts(responses.stream().map(JobPostResponse::getId).toList());
+        responses.forEach(post -> post.setLikeCount(likeCounts.getOrDefault(post.getId(), post.getLikeCount())));
+
+        FeedItem last = hasMore ? page.get(size - 1) : null;
+        return new PostTimelinePage(responses, last == null ? null : new PostTimelineCursor(last.createdAt(), last.postId()).encode());
+    }
+}
@@ -1,5 +1,6 @@
 package com.opencode.alumxbackend.jobposts.controller;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -8,13 +9,18 @@ import com.opencode.alumxbackend.auth.security.UserPrincipal;
 import com.opencode.alumxbackend.jobposts.dto.*;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import com.opencode.alumxbackend.jobposts.model.JobPost;
+import com.opencode.alumxbackend.jobposts.service.JobPostImportService;
 import com.opencode.alumxbackend.jobposts.service.JobPostService;
+import com.opencode.alumxbackend.jobposts.service.PostSearchService;
+import com.opencode.alumxbackend.jobposts.service.TrendingPostService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -23,12 +29,30 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class JobPostController {
-    private final JobPostService jobPostService;
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
+    private final JobPostService jobPostService;
+    private final PostSearchService postSearchService;
+    private final TrendingPostService trendingPostService;
+    private final JobPostImportService jobPostImportService;
+
+    /**
+     * An author's posts newest first. While there are more, the response carries
+     * an {@code X-Next-Cursor} header to pass back as {@code cursor}.
+     */
     @GetMapping("/users/{userId}/posts")
-    public ResponseEntity<List<JobPostResponse>> getPostsByUser(@PathVariable Long userId) {
-        List<JobPostResponse> posts = jobPostService.getPostsByUser(userId);
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<List<JobPostResponse>> getPostsByUser(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PostTimelineCursor after = cursor == null || cursor.isBlank() ? null : PostTimelineCursor.decode(cursor);
+        PostTimelinePage page = jobPostService.getPostsByUser(userId, after, size);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            ok.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return ok.body(page.posts());
     }
 
     @PostMapping("/job-posts")
@@ -52,8 +76,8 @@ public class JobPostController {
             @PathVariable Long postId,
             @RequestParam Long userId
     ) {
-        jobPostService.likePost(postId, userId);
-        return ResponseEntity.ok(Map.of("message", "Post liked successfully"));
+        boolean changed = jobPostService.likePost(postId, userId);
+        return ResponseEntity.ok(Map.of("message", "Post liked successfully", "liked", true, "changed", changed));
     }
 
     @DeleteMapping("/jobs/{jobId}")
@@ -86,6 +110,45 @@ public class JobPostController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Post search paged by cursor: pass {@code nextCursor} back as {@code cursor}
+     * while {@code hasMore} is true. Sorted by relevance when there is a keyword,
+     * newest first otherwise, unless {@code sort} says which.
+     */
+    @GetMapping("/posts/search/cursor")
+    public ResponseEntity<CursorPostResponse> searchPostsByCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTo,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        String query = keyword == null || keyword.isBlank() ? null : keyword.strip();
+        PostSearchSort order = sort == null || sort.isBlank()
+                ? (query == null ? PostSearchSort.RECENT : PostSearchSort.RELEVANCE)
+                : PostSearchSort.fromParam(sort);
+        PostSearchCursor after = cursor == null || cursor.isBlank() ? null : PostSearchCursor.decode(cursor, order);
+
+        return ResponseEntity.ok(postSearchService.search(query, dateFrom, dateTo, order, after, size));
+    }
+
+    // Most engaged-with posts of the week, recent likes and comments counting most
+    @GetMapping("/posts/trending")
+    public ResponseEntity<List<TrendingPostResponse>> getTrendingPosts(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trendingPostService.getTrending(limit));
+    }
+
+    /**
+     * Admin bulk import from an NDJSON or CSV body, read as it arrives rather
+     * than bound up front. Lines that fail are reported; the rest are imported.
+     */
+    @PostMapping(value = "/admin/job-posts/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<JobPostImportResult> importJobPosts(HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        return ResponseEntity.ok(jobPostImportService.importPosts(request.getInputStream(), contentType));
+    }
+
     @PostMapping("/posts")
     public ResponseEntity<?> createPost(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
@@ -107,8 +170,30 @@ public class JobPostController {
             @PathVariable Long postId,
             @RequestParam Long userId
     ) {
-        jobPostService.likePost(postId, userId);
-        return ResponseEntity.ok(Map.of("message", "Post liked successfully"));
+        boolean changed = jobPostService.likePost(postId, userId);
+        return ResponseEntity.ok(Map.of("message", "Post liked successfully", "liked", true, "changed", changed));
+    }
+
+    @DeleteMapping("/posts/{postId}/like")
+    public ResponseEntity<?> unlikePost(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long postId,
+            @RequestParam Long userId
+    ) {
+        boolean changed = jobPostService.unlikePost(postId, userId);
+        return ResponseEntity.ok(Map.of("message", "Post unliked successfully", "liked", false, "changed", changed));
+    }
+
+    /**
+     * Whether the user likes each of the given posts, so a feed page can draw all
+     * its like buttons from one query.
+     */
+    @GetMapping("/posts/likes")
+    public ResponseEntity<Map<Long, Boolean>> getLikeStates(
+            @RequestParam Long userId,
+            @RequestParam List<Long> postIds
+    ) {
+        return ResponseEntity.ok(jobPostService.getLikeStates(userId, postIds));
     }
 
     @DeleteMapping("/posts/{postId}")
@@ -135,4 +220,18 @@ public class JobPostController {
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable Long jobPostId) {
         return ResponseEntity.ok(jobPostService.getCommentsByJobPostId(jobPostId));
     }
+
+    /**
+     * A post's comments oldest first, one page at a time: pass {@code nextCursor}
+     * back as {@code cursor} while {@code hasMore} is true.
+     */
+    @GetMapping("/posts/{postId}/comments")
+    public ResponseEntity<CommentPageResponse> getCommentPage(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CommentCursor after = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor);
+        return ResponseEntity.ok(jobPostService.getComments(postId, after, size));
+    }
 }
@@ -0,0 +1,49 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Position of the last comment a client has seen in a thread. Clients treat
+ * the encoded form as opaque; it holds {@code createdAt} (in epoch
+ * microseconds) and the comment id.
+ */
+public record CommentCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    public static CommentCursor after(CommentResponse comment) {
+        return new CommentCursor(comment.createdAt(), comment.id());
+    }
+
+    public String encode() {
+        String payload = "c:" + toEpochMicros(createdAt) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length == 3 && parts[0].equals("c")) {
+                return new CommentCursor(fromEpochMicros(Long.parseLong(parts[1])), Long.parseLong(parts[2]));
+            }
+        } catch (IllegalArgumentException e) {
+            // falls through to the error below
+        }
+        throw new BadRequestException("Invalid cursor");
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
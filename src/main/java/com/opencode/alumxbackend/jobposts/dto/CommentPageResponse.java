@@ -0,0 +1,22 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a comment thread, oldest first; {@code nextCursor} is null on the last page.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CommentPageResponse {
+
+    private List<CommentResponse> comments;
+    private String nextCursor;
+    private boolean hasMore;
+}
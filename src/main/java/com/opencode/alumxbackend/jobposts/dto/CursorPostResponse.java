@@ -0,0 +1,23 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of cursor-paged post search. There is no total: {@code hasMore}
+ * says whether passing {@code nextCursor} back will return anything.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CursorPostResponse {
+
+    private List<JobPostResponse> posts;
+    private String nextCursor;
+    private boolean hasMore;
+}
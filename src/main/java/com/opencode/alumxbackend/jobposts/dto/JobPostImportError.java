@@ -0,0 +1,11 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+/**
+ * Why the post on a line of a bulk import was not imported. For CSV the line
+ * is the one the record starts on.
+ */
+public record JobPostImportError(
+        long line,
+        String message
+) {
+}
@@ -0,0 +1,24 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} lists the first failed lines in
+ * order; {@code failed} counts all of them.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class JobPostImportResult {
+    private int imported;
+    private int failed;
+    private List<JobPostImportError> errors;
+}
@@ -0,0 +1,13 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+import java.util.List;
+
+/**
+ * One job post of a bulk import, as read from an NDJSON line or CSV record.
+ */
+public record JobPostImportRow(
+        String username,
+        String description,
+        List<String> imageUrls
+) {
+}
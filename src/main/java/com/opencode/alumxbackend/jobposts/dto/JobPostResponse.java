@@ -19,6 +19,8 @@ public class JobPostResponse {
     private String content;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long likeCount;
+    private long commentCount;
 
     public static JobPostResponse fromEntity(JobPost jobPost) {
         return JobPostResponse.builder()
@@ -27,6 +29,8 @@ public class JobPostResponse {
                 .content(jobPost.getDescription())
                 .createdAt(jobPost.getCreatedAt())
                 .updatedAt(jobPost.getCreatedAt())
+                .likeCount(jobPost.getLikeCount())
+                .commentCount(jobPost.getCommentCount())
                 .build();
     }
 
@@ -0,0 +1,10 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+/**
+ * The like count stored on a post row, not counting pending likes.
+ */
+public record PostLikeCount(
+        Long postId,
+        long likeCount
+) {
+}
@@ -0,0 +1,60 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Position of the last post a client has seen in a search.
+ *
+ * Clients treat the encoded form as opaque; it holds {@code createdAt} (in
+ * epoch microseconds) and the post id, plus the score when results are
+ * ordered by relevance.
+ */
+public record PostSearchCursor(
+        Double score,
+        LocalDateTime createdAt,
+        Long postId
+) {
+
+    public static PostSearchCursor after(PostSearchHit hit, PostSearchSort sort) {
+        return new PostSearchCursor(sort == PostSearchSort.RELEVANCE ? hit.score() : null, hit.createdAt(), hit.postId());
+    }
+
+    public String encode() {
+        String payload = score == null
+                ? "t:" + toEpochMicros(createdAt) + ":" + postId
+                : "r:" + score + ":" + toEpochMicros(createdAt) + ":" + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostSearchCursor decode(String cursor, PostSearchSort sort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (sort == PostSearchSort.RECENT && parts.length == 3 && parts[0].equals("t")) {
+                return new PostSearchCursor(null, fromEpochMicros(Long.parseLong(parts[1])), Long.parseLong(parts[2]));
+            }
+            if (sort == PostSearchSort.RELEVANCE && parts.length == 4 && parts[0].equals("r")) {
+                double score = Double.parseDouble(parts[1]);
+                if (Double.isFinite(score)) {
+                    return new PostSearchCursor(score, fromEpochMicros(Long.parseLong(parts[2])), Long.parseLong(parts[3]));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // falls through to the error below
+        }
+        throw new BadRequestException("Invalid cursor for sort " + sort.param());
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,29 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A post matched by cursor-paged search, with the score it was ordered by
+ * when sorted by relevance.
+ */
+public record PostSearchHit(
+        Long postId,
+        String username,
+        String description,
+        LocalDateTime createdAt,
+        long commentCount,
+        double score
+) {
+
+    public JobPostResponse toResponse(long likeCount) {
+        return JobPostResponse.builder()
+                .id(postId)
+                .title(username + "'s Job Post")
+                .content(description)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .likeCount(likeCount)
+                .commentCount(commentCount)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+
+/**
+ * Orderings of cursor-paged post search, newest first on ties. Both are total
+ * orders (ties are broken by {@code createdAt}, then post id), which keyset
+ * pagination requires.
+ */
+public enum PostSearchSort {
+    RECENT("recent"),
+    RELEVANCE("relevance");
+
+    private final String param;
+
+    PostSearchSort(String param) {
+        this.param = param;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public static PostSearchSort fromParam(String param) {
+        for (PostSearchSort sort : values()) {
+            if (sort.param.equalsIgnoreCase(param)) {
+                return sort;
+            }
+        }
+        throw new BadRequestException("Invalid sort. Must be recent or relevance.");
+    }
+}
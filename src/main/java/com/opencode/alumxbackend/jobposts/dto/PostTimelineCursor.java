@@ -0,0 +1,49 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Position of the last post a client has seen on an author's timeline or a
+ * home feed. Clients treat the encoded form as opaque; it holds
+ * {@code createdAt} (in epoch microseconds) and the post id.
+ */
+public record PostTimelineCursor(
+        LocalDateTime createdAt,
+        Long postId
+) {
+
+    public static PostTimelineCursor after(JobPostResponse post) {
+        return new PostTimelineCursor(post.getCreatedAt(), post.getId());
+    }
+
+    public String encode() {
+        String payload = "a:" + toEpochMicros(createdAt) + ":" + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostTimelineCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length == 3 && parts[0].equals("a")) {
+                return new PostTimelineCursor(fromEpochMicros(Long.parseLong(parts[1])), Long.parseLong(parts[2]));
+            }
+        } catch (IllegalArgumentException e) {
+            // falls through to the error below
+        }
+        throw new BadRequestException("Invalid cursor");
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,13 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+import java.util.List;
+
+/**
+ * One page of an author's posts or a home feed, newest first;
+ * {@code nextCursor} is null on the last page.
+ */
+public record PostTimelinePage(
+        List<JobPostResponse> posts,
+        String nextCursor
+) {
+}
@@ -0,0 +1,20 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A trending post with its time-decayed engagement score.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TrendingPostResponse {
+    private JobPostResponse post;
+    private double score;
+}
@@ -0,0 +1,11 @@
+package com.opencode.alumxbackend.jobposts.dto;
+
+/**
+ * A post's engagement score in the trending window, decayed to when the
+ * ranking was taken.
+ */
+public record TrendingScore(
+        Long postId,
+        double score
+) {
+}
@@ -0,0 +1,9 @@
+package com.opencode.alumxbackend.jobposts.event;
+
+/**
+ * Published when a comment is added to a job post.
+ */
+public record JobPostCommentAddedEvent(
+        Long postId
+) {
+}
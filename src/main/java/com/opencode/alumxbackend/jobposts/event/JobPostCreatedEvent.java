@@ -0,0 +1,11 @@
+package com.opencode.alumxbackend.jobposts.event;
+
+/**
+ * Published when a post is written, so its author's connections' feeds can
+ * pick it up.
+ */
+public record JobPostCreatedEvent(
+        Long postId,
+        Long authorId
+) {
+}
@@ -0,0 +1,9 @@
+package com.opencode.alumxbackend.jobposts.event;
+
+/**
+ * Published when a post is deleted, so copies of it elsewhere can go too.
+ */
+public record JobPostDeletedEvent(
+        Long postId
+) {
+}
@@ -0,0 +1,11 @@
+package com.opencode.alumxbackend.jobposts.event;
+
+/**
+ * Published when a like on a job post is added ({@code delta} 1) or taken
+ * back ({@code delta} -1).
+ */
+public record JobPostLikeChangedEvent(
+        Long postId,
+        int delta
+) {
+}
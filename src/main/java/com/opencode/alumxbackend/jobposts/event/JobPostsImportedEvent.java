@@ -0,0 +1,13 @@
+package com.opencode.alumxbackend.jobposts.event;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Published for each chunk of a bulk import once it is saved, in place of a
+ * {@link JobPostCreatedEvent} per post.
+ */
+public record JobPostsImportedEvent(
+        Map<Long, List<Long>> postIdsByAuthor
+) {
+}
@@ -0,0 +1,135 @@
+package com.opencode.alumxbackend.jobposts.index;
+
+import com.opencode.alumxbackend.jobposts.dto.TrendingScore;
+import com.opencode.alumxbackend.jobposts.event.JobPostCommentAddedEvent;
+import com.opencode.alumxbackend.jobposts.event.JobPostDeletedEvent;
+import com.opencode.alumxbackend.jobposts.event.JobPostLikeChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Trending job posts: likes and comments of the last
+ * {@code posts.trending.window-days} fed into a {@link TrendingWindow}, and
+ * the top posts re-ranked every {@code posts.trending.refresh-interval-ms}.
+ * Requests only read the last ranking.
+ *
+ * Each committed like, unlike and comment is recorded as it happens. Once the
+ * application is ready the window is filled from the likes and comments
+ * written before this instance started, so the two never count the same row.
+ * An unlike of a like from before the window takes back a like that was
+ * never counted; the post just ranks a little lower until it expires.
+ */
+@Component
+@Slf4j
+public class TrendingPosts implements MeterBinder {
+
+    static final int RANKED_POSTS = 100;
+    static final double LIKE_POINTS = 1;
+    static final double COMMENT_POINTS = 2;
+
+    private static final String LIKES_SQL =
+            "SELECT post_id, created_at FROM job_post_likes WHERE created_at >= ? AND created_at < ?";
+    private static final String COMMENTS_SQL =
+            "SELECT post_id, created_at FROM job_post_comments WHERE created_at >= ? AND created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendingWindow window;
+    private final long windowMillis;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private volatile List<TrendingScore> ranking = List.of();
+    private volatile boolean ready;
+
+    private final LongAdder refreshes = new LongAdder();
+
+    public TrendingPosts(
+            JdbcTemplate jdbcTemplate,
+            @Value("${posts.trending.window-days:7}") int windowDays,
+            @Value("${posts.trending.bucket-minutes:60}") int bucketMinutes,
+            @Value("${posts.trending.half-life-hours:24}") int halfLifeHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.windowMillis = TimeUnit.DAYS.toMillis(windowDays);
+        this.window = new TrendingWindow(windowMillis, TimeUnit.MINUTES.toMillis(bucketMinutes),
+                TimeUnit.HOURS.toMillis(halfLifeHours), System.currentTimeMillis());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * The {@code limit} top posts of the last ranking, at most {@value #RANKED_POSTS}.
+     */
+    public List<TrendingScore> top(int limit) {
+        List<TrendingScore> current = ranking;
+        return current.size() > limit ? current.subList(0, limit) : current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            Timestamp from = Timestamp.valueOf(startedAt.minus(Duration.ofMillis(windowMillis)));
+            Timestamp to = Timestamp.valueOf(startedAt);
+            // rows are handed over one at a time rather than collected into a list
+            jdbcTemplate.query(LIKES_SQL, recordAs(LIKE_POINTS), from, to);
+            jdbcTemplate.query(COMMENTS_SQL, recordAs(COMMENT_POINTS), from, to);
+            refresh();
+            ready = true;
+            log.info("Trending window loaded {} posts", window.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to load the trending window, trending posts are unavailable", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(JobPostLikeChangedEvent event) {
+        window.record(event.postId(), event.delta() * LIKE_POINTS, System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentAdded(JobPostCommentAddedEvent event) {
+        window.record(event.postId(), COMMENT_POINTS, System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(JobPostDeletedEvent event) {
+        window.remove(event.postId());
+    }
+
+    @Scheduled(fixedDelayString = "${posts.trending.refresh-interval-ms:5000}")
+    public void refresh() {
+        ranking = List.copyOf(window.top(RANKED_POSTS, System.currentTimeMillis()));
+        refreshes.increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("posts.trending.window.posts", window, TrendingWindow::size)
+                .description("Posts with engagement in the trending window")
+                .register(registry);
+        FunctionCounter.builder("posts.trending.refreshes", refreshes, LongAdder::doubleValue)
+                .description("Trending rankings computed")
+                .register(registry);
+    }
+
+    private RowCallbackHandler recordAs(double points) {
+        return row -> window.record(row.getLong(1), points, row.getTimestamp(2).getTime());
+    }
+}
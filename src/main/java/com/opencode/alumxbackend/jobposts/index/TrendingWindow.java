@@ -0,0 +1,177 @@
+package com.opencode.alumxbackend.jobposts.index;
+
+import com.opencode.alumxbackend.jobposts.dto.TrendingScore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Engagement points per post over a sliding window of fixed-size time
+ * buckets, each bucket's points halving in weight every half-life.
+ *
+ * Every post keeps a running total in which a bucket's points are scaled
+ * up by how much newer the bucket is than the oldest one in the window.
+ * Scaling every total by the same amount leaves the order alone, so recording
+ * a point touches one total, and ranking never re-reads the buckets. When
+ * the window slides, the buckets that drop out are subtracted and the
+ * totals are scaled back down to the new oldest bucket. A point counts as
+ * if it happened at the start of its bucket.
+ *
+ * Times are epoch milliseconds. All access goes through one lock.
+ */
+final class TrendingWindow {
+
+    // What is left of a total once every bucket it came from has expired
+    private static final double RESIDUE = 1e-9;
+
+    private static final Comparator<TrendingScore> HIGHEST_FIRST = Comparator
+            .comparingDouble(TrendingScore::score)
+            .thenComparing(TrendingScore::postId)
+            .reversed();
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final double halfLifeMillis;
+    private final double[] weights;
+
+    private final List<Map<Long, Double>> buckets;
+    private final Map<Long, Double> totals = new HashMap<>();
+    private long newest;
+
+    private final Lock lock = new ReentrantLock();
+
+    TrendingWindow(long windowMillis, long bucketMillis, long halfLifeMillis, long now) {
+        if (bucketMillis <= 0 || windowMillis < bucketMillis || halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("Need 0 < bucket <= window and a positive half-life");
+        }
+        this.bucketMillis = bucketMillis;
+        this.bucketCount = (int) (windowMillis / bucketMillis);
+        this.halfLifeMillis = halfLifeMillis;
+        this.weights = new double[bucketCount];
+        for (int age = 0; age < bucketCount; age++) {
+            weights[age] = Math.pow(2, (double) age * bucketMillis / halfLifeMillis);
+        }
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new HashMap<>());
+        }
+        this.newest = Math.floorDiv(now, bucketMillis);
+    }
+
+    /**
+     * Adds points (negative to take some back) to the post at the given time.
+     * Times before the window are ignored; a time past the newest bucket
+     * slides the window forward first.
+     */
+    void record(Long postId, double points, long at) {
+        long bucket = Math.floorDiv(at, bucketMillis);
+        lock.lock();
+        try {
+            slideTo(bucket);
+            long oldest = newest - bucketCount + 1;
+            if (bucket < oldest) {
+                return;
+            }
+            buckets.get(slot(bucket)).merge(postId, points, Double::sum);
+            addToTotal(postId, points * weights[(int) (bucket - oldest)]);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(Long postId) {
+        lock.lock();
+        try {
+            for (Map<Long, Double> bucket : buckets) {
+                bucket.remove(postId);
+            }
+            totals.remove(postId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The {@code limit} posts with the highest positive scores at {@code now},
+     * highest first and the newer post first on equal scores.
+     */
+    List<TrendingScore> top(int limit, long now) {
+        lock.lock();
+        try {
+            slideTo(Math.floorDiv(now, bucketMillis));
+            PriorityQueue<TrendingScore> best = new PriorityQueue<>(limit + 1, HIGHEST_FIRST.reversed());
+            for (Map.Entry<Long, Double> total : totals.entrySet()) {
+                if (total.getValue() > RESIDUE) {
+                    best.add(new TrendingScore(total.getKey(), total.getValue()));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+
+            // totals are relative to the start of the oldest bucket; report them as of now
+            long oldestStart = (newest - bucketCount + 1) * bucketMillis;
+            double scale = Math.pow(2, -(now - oldestStart) / halfLifeMillis);
+            List<TrendingScore> ranked = new ArrayList<>(best.size());
+            for (TrendingScore score : best) {
+                ranked.add(new TrendingScore(score.postId(), score.score() * scale));
+            }
+            ranked.sort(HIGHEST_FIRST);
+            return ranked;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return totals.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void slideTo(long bucket) {
+        if (bucket <= newest) {
+            return;
+        }
+        long steps = bucket - newest;
+        if (steps >= bucketCount) {
+            buckets.forEach(Map::clear);
+            totals.clear();
+            newest = bucket;
+            return;
+        }
+
+        long oldest = newest - bucketCount + 1;
+        for (long expired = oldest; expired < oldest + steps; expired++) {
+            Map<Long, Double> points = buckets.get(slot(expired));
+            double weight = weights[(int) (expired - oldest)];
+            points.forEach((postId, value) -> addToTotal(postId, -value * weight));
+            points.clear();
+        }
+        double rescale = 1 / weights[(int) steps];
+        totals.replaceAll((postId, total) -> total * rescale);
+        newest = bucket;
+    }
+
+    private void addToTotal(Long postId, double value) {
+        double total = totals.getOrDefault(postId, 0.0) + value;
+        if (Math.abs(total) < RESIDUE) {
+            totals.remove(postId);
+        } else {
+            totals.put(postId, total);
+        }
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) bucketCount);
+    }
+}
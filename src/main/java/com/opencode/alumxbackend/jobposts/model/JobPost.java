@@ -2,6 +2,7 @@ package com.opencode.alumxbackend.jobposts.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -11,7 +12,8 @@ import java.util.List;
 @NoArgsConstructor
 @Entity
 @Builder
-@Table(name = "job_posts")
+@Table(name = "job_posts",
+        indexes = @Index(name = "idx_job_posts_author_created", columnList = "author_id, created_at DESC, post_id DESC"))
 public class JobPost {
     @Id
     @Column(name = "post_id")
@@ -20,6 +22,12 @@ public class JobPost {
 
     @Column(nullable = false)
     private String username;
+
+    /**
+     * Id of the user who wrote the post; the author timeline is keyed on it.
+     */
+    @Column(name = "author_id")
+    private Long authorId;
     
     @Column(length = 5000)
     private String description;
@@ -35,4 +43,19 @@ public class JobPost {
     
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    /**
+     * Likes flushed so far; recent likes are still pending in
+     * {@link com.opencode.alumxbackend.jobposts.service.JobPostLikeCounter}.
+     */
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long likeCount;
+
+    /**
+     * Kept in step by the statement that adds a comment, so post cards never read the comments table.
+     */
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long commentCount;
 }
@@ -1,9 +1,40 @@
 package com.opencode.alumxbackend.jobposts.repository;
 
+import com.opencode.alumxbackend.jobposts.dto.CommentResponse;
 import com.opencode.alumxbackend.jobposts.model.JobPostComment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Comment threads are read as {@link CommentResponse} rows with the author's
+ * username joined in, oldest first, walking the (post, createdAt, id) index.
+ */
 @Repository
 public interface CommentRepository extends JpaRepository<JobPostComment,Long> {
+
+    @Query("""
+        SELECT new com.opencode.alumxbackend.jobposts.dto.CommentResponse(c.id, c.content, u.username, c.createdAt)
+        FROM JobPostComment c JOIN c.user u
+        WHERE c.jobPost.postId = :postId
+        ORDER BY c.createdAt, c.id
+        """)
+    List<CommentResponse> findThread(@Param("postId") Long postId, Limit limit);
+
+    @Query("""
+        SELECT new com.opencode.alumxbackend.jobposts.dto.CommentResponse(c.id, c.content, u.username, c.createdAt)
+        FROM JobPostComment c JOIN c.user u
+        WHERE c.jobPost.postId = :postId
+          AND (c.createdAt > :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id > :afterId))
+        ORDER BY c.createdAt, c.id
+        """)
+    List<CommentResponse> findThreadAfter(@Param("postId") Long postId,
+                                          @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                          @Param("afterId") Long afterId,
+                                          Limit limit);
 }
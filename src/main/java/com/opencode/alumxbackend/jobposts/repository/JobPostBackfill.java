@@ -0,0 +1,39 @@
+package com.opencode.alumxbackend.jobposts.repository;
+
+import com.opencode.alumxbackend.common.migration.DataMigrations;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills in job post columns added after posts were already written: the
+ * {@code comment_count} of commented posts and the {@code author_id} of posts
+ * that only named their author. Each is filled in once, as a data migration.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobPostBackfill {
+
+    private static final String COMMENT_COUNT_SQL = """
+        UPDATE job_posts
+        SET comment_count = (SELECT COUNT(*) FROM job_post_comments c WHERE c.post_id = job_posts.post_id)
+        WHERE comment_count = 0
+          AND EXISTS (SELECT 1 FROM job_post_comments c WHERE c.post_id = job_posts.post_id)
+        """;
+
+    private static final String AUTHOR_ID_SQL = """
+        UPDATE job_posts
+        SET author_id = (SELECT u.id FROM users u WHERE u.username = job_posts.username)
+        WHERE author_id IS NULL
+          AND EXISTS (SELECT 1 FROM users u WHERE u.username = job_posts.username)
+        """;
+
+    private final DataMigrations dataMigrations;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        dataMigrations.runOnce("job_posts.comment_count", COMMENT_COUNT_SQL);
+        dataMigrations.runOnce("job_posts.author_id", AUTHOR_ID_SQL);
+    }
+}
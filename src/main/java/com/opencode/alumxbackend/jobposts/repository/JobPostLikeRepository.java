@@ -1,13 +1,44 @@
 package com.opencode.alumxbackend.jobposts.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.opencode.alumxbackend.jobposts.model.JobPost;
 import com.opencode.alumxbackend.jobposts.model.JobPostLike;
-import com.opencode.alumxbackend.users.model.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Likes are written and read by id only: no post or user entity is loaded, and
+ * a repeated like or unlike changes nothing instead of failing.
+ */
 @Repository
 public interface JobPostLikeRepository extends JpaRepository<JobPostLike,Long> {
-    boolean existsByJobPostAndUser(JobPost jobPost, User user);
+
+    /**
+     * @return 1 if the like was added, 0 if the user already liked the post
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO job_post_likes (post_id, user_id, created_at)
+        VALUES (:postId, :userId, :createdAt)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId,
+                       @Param("userId") Long userId,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * @return 1 if the like was removed, 0 if there was none
+     */
+    @Modifying
+    @Query(value = "DELETE FROM job_post_likes WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    @Query(value = "SELECT post_id FROM job_post_likes WHERE user_id = :userId AND post_id IN (:postIds)", nativeQuery = true)
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
@@ -1,20 +1,36 @@
 package com.opencode.alumxbackend.jobposts.repository;
 
+import com.opencode.alumxbackend.jobposts.dto.PostLikeCount;
 import com.opencode.alumxbackend.jobposts.model.JobPost;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface JobPostRepository extends JpaRepository<JobPost, Long> {
-    List<JobPost> findByUsernameOrderByCreatedAtDesc(String username);
-    
+    @Query("SELECT p FROM JobPost p WHERE p.authorId = :authorId ORDER BY p.createdAt DESC, p.postId DESC")
+    List<JobPost> findTimeline(@Param("authorId") Long authorId, Limit limit);
+
+    @Query("""
+        SELECT p FROM JobPost p
+        WHERE p.authorId = :authorId
+          AND (p.createdAt < :afterCreatedAt OR (p.createdAt = :afterCreatedAt AND p.postId < :afterId))
+        ORDER BY p.createdAt DESC, p.postId DESC
+        """)
+    List<JobPost> findTimelineAfter(@Param("authorId") Long authorId,
+                                    @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                    @Param("afterId") Long afterId,
+                                    Limit limit);
+
     @Query("SELECT p FROM JobPost p WHERE " +
            "(:keyword IS NULL OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
            "(:dateFrom IS NULL OR p.createdAt >= :dateFrom) AND " +
@@ -26,4 +42,16 @@ public interface JobPostRepository extends JpaRepository<JobPost, Long> {
             @Param("dateTo") LocalDateTime dateTo,
             Pageable pageable
     );
+
+    @Query("""
+        SELECT new com.opencode.alumxbackend.jobposts.dto.PostLikeCount(p.postId, p.likeCount)
+        FROM JobPost p
+        WHERE p.postId IN :ids
+        """)
+    List<PostLikeCount> findLikeCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Native: the mapping leaves comment_count to the database, and the row lock serializes concurrent comments
+    @Modifying
+    @Query(value = "UPDATE job_posts SET comment_count = comment_count + 1 WHERE post_id = :postId", nativeQuery = true)
+    int incrementCommentCount(@Param("postId") Long postId);
 }
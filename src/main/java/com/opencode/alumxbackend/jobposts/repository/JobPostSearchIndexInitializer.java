@@ -0,0 +1,56 @@
+package com.opencode.alumxbackend.jobposts.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the Postgres indexes behind cursor-paged post search: a GIN index on
+ * the {@code tsvector} of the description, so word matches never read the
+ * 5000-character column of non-matching posts, and a {@code (created_at,
+ * post_id)} index that the newest-first keyset walks. Every statement is
+ * idempotent, and a failure only costs speed.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class JobPostSearchIndexInitializer {
+
+    // Must stay identical to the expression in JobPostSearchRepositoryImpl for the index to be used
+    static final String DOCUMENT = "to_tsvector('english', coalesce(description, ''))";
+
+    private static final List<String> STATEMENTS = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_job_posts_search_document ON job_posts USING gin (" + DOCUMENT + ")",
+            "CREATE INDEX IF NOT EXISTS idx_job_posts_created_at_post_id ON job_posts (created_at, post_id)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        if (!isPostgres(jdbcTemplate)) {
+            return;
+        }
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException e) {
+                log.warn("Could not create job post search index, search will scan instead: {}", statement, e);
+            }
+        }
+        log.info("Job post search indexes are in place");
+    }
+
+    static boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equals(product);
+    }
+}
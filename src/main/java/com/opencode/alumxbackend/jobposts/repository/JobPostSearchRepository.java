@@ -0,0 +1,18 @@
+package com.opencode.alumxbackend.jobposts.repository;
+
+import com.opencode.alumxbackend.jobposts.dto.PostSearchCursor;
+import com.opencode.alumxbackend.jobposts.dto.PostSearchHit;
+import com.opencode.alumxbackend.jobposts.dto.PostSearchSort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobPostSearchRepository {
+
+    /**
+     * Up to {@code limit} posts after {@code after} (null for the first page) in
+     * the given order. A null keyword matches every post.
+     */
+    List<PostSearchHit> search(String keyword, LocalDateTime dateFrom, LocalDateTime dateTo,
+                               PostSearchSort sort, PostSearchCursor after, int limit);
+}
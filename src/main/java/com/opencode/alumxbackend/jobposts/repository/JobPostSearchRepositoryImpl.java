@@ -0,0 +1,204 @@
+package com.opencode.alumxbackend.jobposts.repository;
+
+import com.opencode.alumxbackend.jobposts.dto.PostSearchCursor;
+import com.opencode.alumxbackend.jobposts.dto.PostSearchHit;
+import com.opencode.alumxbackend.jobposts.dto.PostSearchSort;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Keyset-paged post search. Each page is a range scan from the cursor, so a
+ * deep page costs the same as the first and no {@code COUNT} is issued.
+ *
+ * On Postgres keywords are matched as words (stemmed, any order) through the
+ * GIN index from {@link JobPostSearchIndexInitializer}. Newest-first order
+ * walks the {@code (created_at, post_id)} index. Relevance order scores each
+ * match by its normalized {@code ts_rank} plus a recency term linear in
+ * {@code created_at}: {@code posts.search.recency-days} days newer is worth
+ * as much as a perfect text match. The score depends only on the post and the
+ * query, not on the current time, so it is stable across pages and can be
+ * part of the cursor.
+ *
+ * Relevance order cannot walk an index, since the score is only known once a
+ * post is ranked. So each page ranks just the newest
+ * {@code posts.search.relevance-candidates} matches that can still follow the
+ * cursor, and costs O(candidates) rather than O(matches). The text rank is
+ * below 1, so a post more than {@code recency-days} older than the newest
+ * candidates can never outrank them; an older post with a better text match
+ * is left out only when more than that many posts match within that window.
+ *
+ * Other databases (H2 in tests) match every keyword word as a case-insensitive
+ * substring and do not rank, so relevance order is newest first with a zero
+ * score.
+ */
+@Repository
+public class JobPostSearchRepositoryImpl implements JobPostSearchRepository {
+
+    private static final String DOCUMENT = JobPostSearchIndexInitializer.DOCUMENT;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double recencySeconds;
+    private final int relevanceCandidates;
+
+    private boolean postgres;
+
+    public JobPostSearchRepositoryImpl(
+            JdbcTemplate jdbcTemplate,
+            @Value("${posts.search.recency-days:180}") double recencyDays,
+            @Value("${posts.search.relevance-candidates:1000}") int relevanceCandidates
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recencySeconds = recencyDays * 86_400;
+        this.relevanceCandidates = relevanceCandidates;
+    }
+
+    @PostConstruct
+    void detectDatabase() {
+        postgres = JobPostSearchIndexInitializer.isPostgres(jdbcTemplate);
+    }
+
+    @Override
+    public List<PostSearchHit> search(String keyword, LocalDateTime dateFrom, LocalDateTime dateTo,
+                                      PostSearchSort sort, PostSearchCursor after, int limit) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String statement = postgres
+                ? postgresSql(keyword, dateFrom, dateTo, sort, after, parameters)
+                : portableJpql(keyword, dateFrom, dateTo, after, parameters);
+
+        Query query = postgres
+                ? entityManager.createNativeQuery(statement)
+                : entityManager.createQuery(statement, Object[].class);
+        parameters.forEach(query::setParameter);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.setMaxResults(limit).getResultList();
+
+        List<PostSearchHit> hits = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            hits.add(new PostSearchHit(
+                    ((Number) row[0]).longValue(),
+                    (String) row[1],
+                    (String) row[2],
+                    toLocalDateTime(row[3]),
+                    ((Number) row[4]).longValue(),
+                    row.length > 5 ? ((Number) row[5]).doubleValue() : 0));
+        }
+        return hits;
+    }
+
+    private String postgresSql(String keyword, LocalDateTime dateFrom, LocalDateTime dateTo,
+                               PostSearchSort sort, PostSearchCursor after, Map<String, Object> parameters) {
+        StringBuilder filters = new StringBuilder();
+        if (dateFrom != null) {
+            filters.append(" AND p.created_at >= :dateFrom");
+            parameters.put("dateFrom", dateFrom);
+        }
+        if (dateTo != null) {
+            filters.append(" AND p.created_at <= :dateTo");
+            parameters.put("dateTo", dateTo);
+        }
+        if (after != null) {
+            parameters.put("afterCreatedAt", after.createdAt());
+            parameters.put("afterId", after.postId());
+        }
+
+        if (sort == PostSearchSort.RELEVANCE) {
+            parameters.put("q", keyword);
+            parameters.put("recencySeconds", recencySeconds);
+            parameters.put("candidates", relevanceCandidates);
+            if (after != null) {
+                // a score is at least the recency term, so nothing after the cursor is newer than this
+                long beforeEpoch = (long) Math.ceil(after.score() * recencySeconds) + 1;
+                filters.append(" AND p.created_at <= :scoredBefore");
+                parameters.put("scoredBefore", LocalDateTime.ofEpochSecond(beforeEpoch, 0, ZoneOffset.UTC));
+            }
+            String sql = """
+    SELECT hits.post_id, hits.username, hits.description, hits.created_at, hits.comment_count, hits.score
+    FROM (
+        SELECT c.post_id, c.username, c.description, c.created_at, c.comment_count,
+               ts_rank(c.document, c.query, 32) + extract(epoch FROM c.created_at) / :recencySeconds AS score
+        FROM (
+            SELECT p.post_id, p.username, p.description, p.created_at, p.comment_count, %1$s AS document, query
+            FROM job_posts p, plainto_tsquery('english', :q) query
+            WHERE %1$s @@ query%2$s
+            ORDER BY p.created_at DESC, p.post_id DESC
+            LIMIT :candidates
+        ) c
+    ) hits
+""".formatted(DOCUMENT, filters);
+            if (after != null) {
+                sql += "WHERE (hits.score, hits.created_at, hits.post_id) < (:afterScore, :afterCreatedAt, :afterId)\n";
+                parameters.put("afterScore", after.score());
+            }
+            return sql + "ORDER BY hits.score DESC, hits.created_at DESC, hits.post_id DESC";
+        }
+
+        StringBuilder sql = new StringBuilder("""
+    SELECT p.post_id, p.username, p.description, p.created_at, p.comment_count
+    FROM job_posts p
+    WHERE TRUE""");
+        if (keyword != null) {
+            sql.append(" AND ").append(DOCUMENT).append(" @@ plainto_tsquery('english', :q)");
+            parameters.put("q", keyword);
+        }
+        sql.append(filters);
+        if (after != null) {
+            sql.append(" AND (p.created_at, p.post_id) < (:afterCreatedAt, :afterId)");
+        }
+        return sql.append("\nORDER BY p.created_at DESC, p.post_id DESC").toString();
+    }
+
+    private static String portableJpql(String keyword, LocalDateTime dateFrom, LocalDateTime dateTo,
+                                       PostSearchCursor after, Map<String, Object> parameters) {
+        StringBuilder jpql = new StringBuilder("""
+    SELECT p.postId, p.username, p.description, p.createdAt, p.commentCount
+    FROM JobPost p
+    WHERE 1 = 1""");
+        if (keyword != null) {
+            String[] words = keyword.toLowerCase(Locale.ROOT).split("\\s+");
+            for (int i = 0; i < words.length; i++) {
+                jpql.append(" AND LOWER(p.description) LIKE :word").append(i).append(" ESCAPE '!'");
+                parameters.put("word" + i, "%" + escapeLike(words[i]) + "%");
+            }
+        }
+        if (dateFrom != null) {
+            jpql.append(" AND p.createdAt >= :dateFrom");
+            parameters.put("dateFrom", dateFrom);
+        }
+        if (dateTo != null) {
+            jpql.append(" AND p.createdAt <= :dateTo");
+            parameters.put("dateTo", dateTo);
+        }
+        if (after != null) {
+            jpql.append(" AND (p.createdAt < :afterCreatedAt OR (p.createdAt = :afterCreatedAt AND p.postId < :afterId))");
+            parameters.put("afterCreatedAt", after.createdAt());
+            parameters.put("afterId", after.postId());
+        }
+        return jpql.append("\nORDER BY p.createdAt DESC, p.postId DESC").toString();
+    }
+
+    // The keyword is a literal substring, so LIKE wildcards in it must not act as wildcards
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,246 @@
+package com.opencode.alumxbackend.jobposts.service;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.jobposts.dto.JobPostImportRow;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the rows of a bulk import body one at a time, so only the row being
+ * read is held in memory. A row that cannot be read comes back as an error
+ * for its line rather than ending the import. So does a row longer than
+ * {@link #MAX_ROW_CHARS}: it is read to its end but not kept.
+ */
+abstract class JobPostImportReader {
+
+    /**
+     * Room for a full-length description, image URLs and JSON or CSV quoting.
+     */
+    static final int MAX_ROW_CHARS = 64 * 1024;
+
+    private static final String TOO_LONG = "Row is longer than " + MAX_ROW_CHARS + " characters";
+
+    /**
+     * A row, or why the line it is on could not be read.
+     */
+    record Line(long number, JobPostImportRow row, String error) {
+    }
+
+    /**
+     * The next row, or null at the end of the body.
+     */
+    abstract Line next() throws IOException;
+
+    /**
+     * One JSON object per line; blank lines are skipped.
+     */
+    static JobPostImportReader ndjson(BufferedReader in, JsonMapper mapper) {
+        return new Ndjson(in, mapper);
+    }
+
+    /**
+     * RFC 4180 CSV whose header names a {@code username} and a
+     * {@code description} column, and optionally {@code imageUrls} holding
+     * URLs separated by spaces. Other columns are ignored.
+     */
+    static JobPostImportReader csv(BufferedReader in) throws IOException {
+        return new Csv(in);
+    }
+
+    private static final class Ndjson extends JobPostImportReader {
+
+        private final BufferedReader in;
+        private final JsonMapper mapper;
+        private final StringBuilder line = new StringBuilder();
+        private boolean tooLong;
+        private long number;
+
+        private Ndjson(BufferedReader in, JsonMapper mapper) {
+            this.in = in;
+            this.mapper = mapper;
+        }
+
+        @Override
+        Line next() throws IOException {
+            String text;
+            do {
+                text = readLine();
+                number++;
+            } while (text != null && !tooLong && text.isBlank());
+            if (text == null) {
+                return null;
+            }
+            if (tooLong) {
+                return new Line(number, null, TOO_LONG);
+            }
+            try {
+                JobPostImportRow row = mapper.readValue(text, JobPostImportRow.class);
+                return row == null
+                        ? new Line(number, null, "Expected a JSON object")
+                        : new Line(number, row, null);
+            } catch (JacksonException e) {
+                return new Line(number, null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        // Like BufferedReader.readLine, but keeps at most MAX_ROW_CHARS of the line
+        private String readLine() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            int c = in.read();
+            if (c == -1) {
+                return null;
+            }
+            while (c != -1 && c != '\n') {
+                if (c != '\r') {
+                    if (line.length() < MAX_ROW_CHARS) {
+                        line.append((char) c);
+                    } else {
+                        tooLong = true;
+                    }
+                }
+                c = in.read();
+            }
+            return line.toString();
+        }
+    }
+
+    private static final class Csv extends JobPostImportReader {
+
+        private static final Pattern SPACES = Pattern.compile("\\s+");
+
+        private final BufferedReader in;
+        private final int username;
+        private final int description;
+        private final int imageUrls;
+        private long number = 1;
+        private long recordStart;
+        private int recordChars;
+        private boolean done;
+
+        private Csv(BufferedReader in) throws IOException {
+            this.in = in;
+            List<String> header = record();
+            Map<String, Integer> columns = new HashMap<>();
+            if (header != null) {
+                for (int i = 0; i < header.size(); i++) {
+                    columns.putIfAbsent(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+                }
+            }
+            if (!columns.containsKey("username") || !columns.containsKey("description")) {
+                throw new BadRequestException("CSV header must name username and description columns");
+            }
+            this.username = columns.get("username");
+            this.description = columns.get("description");
+            this.imageUrls = columns.getOrDefault("imageurls", -1);
+        }
+
+        @Override
+        Line next() throws IOException {
+            if (done) {
+                return null;
+            }
+            List<String> fields;
+            try {
+                fields = record();
+            } catch (IllegalArgumentException e) {
+                // everything after an unclosed quote is inside it, so there is nothing more to read
+                done = true;
+                return new Line(recordStart, null, e.getMessage());
+            }
+            if (fields == null) {
+                done = true;
+                return null;
+            }
+            if (recordChars > MAX_ROW_CHARS) {
+                return new Line(recordStart, null, TOO_LONG);
+            }
+            String urls = field(fields, imageUrls);
+            List<String> images = urls == null || urls.isBlank()
+                    ? List.of()
+                    : Arrays.asList(SPACES.split(urls.strip()));
+            return new Line(recordStart, new JobPostImportRow(field(fields, username), field(fields, description), images), null);
+        }
+
+        private static String field(List<String> fields, int column) {
+            return column >= 0 && column < fields.size() ? fields.get(column) : null;
+        }
+
+        // Past the row limit the rest of the record is only scanned for its end
+        private void keep(StringBuilder field, int c) {
+            if (++recordChars <= MAX_ROW_CHARS) {
+                field.append((char) c);
+            }
+        }
+
+        // One record, whose quoted fields may span lines; null at the end of the body
+        private List<String> record() throws IOException {
+            int c = in.read();
+            while (c == '\r' || c == '\n') {
+                if (c == '\n') {
+                    number++;
+                }
+                c = in.read();
+            }
+            if (c == -1) {
+                return null;
+            }
+            recordStart = number;
+            recordChars = 0;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            int fieldStart = 0;
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("Quoted field is never closed");
+                    }
+                    if (c == '"') {
+                        c = in.read();
+                        if (c == '"') {
+                            keep(field, '"');
+                            c = in.read();
+                        } else {
+                            quoted = false;
+                        }
+                        continue;
+                    }
+                    if (c == '\n') {
+                        number++;
+                    }
+                    keep(field, c);
+                } else if (c == '"' && recordChars == fieldStart) {
+                    quoted = true;
+                } else if (c == ',') {
+                    // separators count too, so a row of nothing but commas cannot grow the list without bound
+                    if (++recordChars <= MAX_ROW_CHARS) {
+                        fields.add(field.toString());
+                    }
+                    field.setLength(0);
+                    fieldStart = recordChars;
+                } else if (c == '\n' || c == -1) {
+                    if (c == '\n') {
+                        number++;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    keep(field, c);
+                }
+                c = in.read();
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.opencode.alumxbackend.jobposts.service;
+
+import com.opencode.alumxbackend.jobposts.dto.JobPostImportResult;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface JobPostImportService {
+
+    JobPostImportResult importPosts(InputStream body, MediaType contentType) throws IOException;
+}
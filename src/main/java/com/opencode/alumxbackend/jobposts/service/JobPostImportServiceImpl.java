@@ -0,0 +1,258 @@
+package com.opencode.alumxbackend.jobposts.service;
+
+import com.opencode.alumxbackend.jobposts.dto.JobPostImportError;
+import com.opencode.alumxbackend.jobposts.dto.JobPostImportResult;
+import com.opencode.alumxbackend.jobposts.dto.JobPostImportRow;
+import com.opencode.alumxbackend.jobposts.event.JobPostsImportedEvent;
+import com.opencode.alumxbackend.users.dto.UserIdentifiersView;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk import of job posts from an NDJSON or CSV body.
+ *
+ * The body is read a row at a time and handled in chunks of
+ * {@code posts.import.chunk-size}: a chunk's rows are checked against the same
+ * rules as a single new post, their authors are looked up in one query, and
+ * the valid posts and their image URLs are written in two JDBC batches in one
+ * transaction. Memory use is bounded by the chunk, not the upload. A chunk
+ * that cannot be saved fails its rows only; earlier chunks stay imported.
+ */
+@Service
+@Slf4j
+public class JobPostImportServiceImpl implements JobPostImportService {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final String INSERT_POST_SQL =
+            "INSERT INTO job_posts (username, author_id, description, created_at) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_IMAGE_SQL = "INSERT INTO job_post_images (post_id, image_url) VALUES (?, ?)";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonMapper jsonMapper;
+    private final int chunkSize;
+
+    public JobPostImportServiceImpl(
+            UserRepository userRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            JsonMapper jsonMapper,
+            @Value("${posts.import.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.jsonMapper = jsonMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public JobPostImportResult importPosts(InputStream body, MediaType contentType) throws IOException {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader in = new BufferedReader(new InputStreamReader(body, charset));
+        JobPostImportReader reader = TEXT_CSV.isCompatibleWith(contentType)
+                ? JobPostImportReader.csv(in)
+                : JobPostImportReader.ndjson(in, jsonMapper);
+
+        Tally tally = new Tally();
+        List<JobPostImportReader.Line> chunk = new ArrayList<>(chunkSize);
+        JobPostImportReader.Line line;
+        while ((line = reader.next()) != null) {
+            chunk.add(line);
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, tally);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, tally);
+        }
+        return tally.result();
+    }
+
+    private void importChunk(List<JobPostImportReader.Line> chunk, Tally tally) {
+        List<JobPostImportError> errors = new ArrayList<>();
+        List<JobPostImportReader.Line> valid = new ArrayList<>(chunk.size());
+        Set<String> usernames = new HashSet<>();
+        for (JobPostImportReader.Line line : chunk) {
+            String error = line.error() != null ? line.error() : validate(line.row());
+            if (error != null) {
+                errors.add(new JobPostImportError(line.number(), error));
+            } else {
+                valid.add(line);
+                usernames.add(line.row().username());
+            }
+        }
+
+        Map<String, Long> authorIds = new HashMap<>(usernames.size() * 2);
+        if (!usernames.isEmpty()) {
+            for (UserIdentifiersView user : userRepository.findIdentifiersByUsernameIn(usernames)) {
+                authorIds.put(user.getUsername(), user.getId());
+            }
+        }
+        List<JobPostImportReader.Line> known = new ArrayList<>(valid.size());
+        for (JobPostImportReader.Line line : valid) {
+            if (authorIds.containsKey(line.row().username())) {
+                known.add(line);
+            } else {
+                errors.add(new JobPostImportError(line.number(), "Username does not exist: " + line.row().username()));
+            }
+        }
+
+        if (!known.isEmpty()) {
+            List<Long> postIds = null;
+            try {
+                postIds = transactionTemplate.execute(status -> insert(known, authorIds));
+            } catch (DataAccessException | TransactionException | IllegalStateException e) {
+                // IllegalStateException: the insert got back a different number of keys than rows, and was rolled back
+                log.warn("Could not save a chunk of {} imported job posts", known.size(), e);
+                for (JobPostImportReader.Line line : known) {
+                    errors.add(new JobPostImportError(line.number(), "Post could not be saved"));
+                }
+            }
+            if (postIds != null) {
+                Map<Long, List<Long>> postIdsByAuthor = new HashMap<>();
+                for (int i = 0; i < known.size(); i++) {
+                    postIdsByAuthor.computeIfAbsent(authorIds.get(known.get(i).row().username()), id -> new ArrayList<>())
+                            .add(postIds.get(i));
+                }
+                eventPublisher.publishEvent(new JobPostsImportedEvent(postIdsByAuthor));
+                tally.imported += known.size();
+            }
+        }
+
+        errors.sort(Comparator.comparingLong(JobPostImportError::line));
+        errors.forEach(tally::fail);
+    }
+
+    // The rules createJobPost enforces, as a message instead of an exception
+    private static String validate(JobPostImportRow row) {
+        if (row.username() == null || row.username().isBlank()) {
+            return "Username is required";
+        }
+        String description = row.description();
+        if (description == null || description.length() > 5000 || description.isBlank() || description.length() < 50) {
+            return "Description must be between 50 and 5000 characters";
+        }
+        if (row.imageUrls() != null) {
+            for (String url : row.imageUrls()) {
+                if (url == null) {
+                    return "Image URLs must not be null";
+                }
+                try {
+                    URI.create(url).toURL();
+                } catch (IllegalArgumentException | MalformedURLException e) {
+                    return "Invalid URL: " + url;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Post ids in the order of the rows
+    private List<Long> insert(List<JobPostImportReader.Line> lines, Map<String, Long> authorIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_POST_SQL, new String[] {"post_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        JobPostImportRow row = lines.get(i).row();
+                        statement.setString(1, row.username());
+                        statement.setLong(2, authorIds.get(row.username()));
+                        statement.setString(3, row.description());
+                        statement.setTimestamp(4, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return lines.size();
+                    }
+                },
+                keys);
+
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        if (keyList.size() != lines.size()) {
+            throw new IllegalStateException("Expected " + lines.size() + " post ids, the database returned " + keyList.size());
+        }
+        List<Long> postIds = new ArrayList<>(keyList.size());
+        List<Object[]> images = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            // one generated column was asked for, whatever case the driver names it in
+            Long postId = ((Number) keyList.get(i).values().iterator().next()).longValue();
+            postIds.add(postId);
+            List<String> urls = lines.get(i).row().imageUrls();
+            if (urls != null) {
+                for (String url : urls) {
+                    images.add(new Object[] {postId, url});
+                }
+            }
+        }
+        if (!images.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_IMAGE_SQL, images);
+        }
+        return postIds;
+    }
+
+    private static final class Tally {
+
+        private int imported;
+        private int failed;
+        private final List<JobPostImportError> errors = new ArrayList<>();
+
+        private void fail(JobPostImportError error) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        private JobPostImportResult result() {
+            return JobPostImportResult.builder()
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
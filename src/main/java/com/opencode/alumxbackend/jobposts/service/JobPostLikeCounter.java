@@ -0,0 +1,220 @@
+package com.opencode.alumxbackend.jobposts.service;
+
+import com.opencode.alumxbackend.common.migration.DataMigrations;
+import com.opencode.alumxbackend.jobposts.dto.PostLikeCount;
+import com.opencode.alumxbackend.jobposts.event.JobPostLikeChangedEvent;
+import com.opencode.alumxbackend.jobposts.repository.JobPostRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Write-behind like counts for job posts.
+ *
+ * A committed like only adds to a per-post {@link LongAdder}, so likes on a
+ * hot post contend on neither a row nor a lock. Every
+ * {@code posts.likes.flush-interval-ms} the pending deltas are added to
+ * {@code job_posts.like_count} in batched UPDATEs within one transaction; if
+ * that fails they stay pending for the next flush.
+ *
+ * Reads add this instance's pending deltas to the stored counts, so a liker
+ * sees their own like straight away. A read that overlaps a flush could see a
+ * delta in both places or in neither, so it is retried under the flush lock.
+ * A post's adder is dropped once it has been idle for a whole interval; a like
+ * racing that drop is still read, and flushed at the next interval rather
+ * than lost.
+ */
+@Component
+@Slf4j
+public class JobPostLikeCounter implements MeterBinder {
+
+    private static final String FLUSH_SQL = "UPDATE job_posts SET like_count = like_count + ? WHERE post_id = ?";
+
+    // Posts liked before like_count existed. Run once only: a later recount would
+    // count likes still pending here or on another instance a second time.
+    private static final String BACKFILL_SQL = """
+        UPDATE job_posts
+        SET like_count = (SELECT COUNT(*) FROM job_post_likes l WHERE l.post_id = job_posts.post_id)
+        WHERE like_count = 0
+          AND EXISTS (SELECT 1 FROM job_post_likes l WHERE l.post_id = job_posts.post_id)
+        """;
+
+    private record Drain(Long postId, LongAdder adder, long delta) {
+    }
+
+    private final JobPostRepository jobPostRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataMigrations dataMigrations;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final StampedLock flushLock = new StampedLock();
+    // adders dropped from pending at the last flush, kept one more interval for likes that raced the drop
+    private volatile Map<Long, LongAdder> retired = Map.of();
+
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+
+    public JobPostLikeCounter(
+            JobPostRepository jobPostRepository,
+            JdbcTemplate jdbcTemplate,
+            DataMigrations dataMigrations,
+            PlatformTransactionManager transactionManager,
+            @Value("${posts.likes.flush-batch-size:500}") int batchSize) {
+        this.jobPostRepository = jobPostRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataMigrations = dataMigrations;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public void add(Long postId, long delta) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(JobPostLikeChangedEvent event) {
+        add(event.postId(), event.delta());
+    }
+
+    /**
+     * Stored plus pending like counts of these posts; ids with no post are absent.
+     */
+    public Map<Long, Long> likeCounts(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        long stamp = flushLock.tryOptimisticRead();
+        Map<Long, Long> counts = read(postIds);
+        if (!flushLock.validate(stamp)) {
+            stamp = flushLock.readLock();
+            try {
+                counts = read(postIds);
+            } finally {
+                flushLock.unlockRead(stamp);
+            }
+        }
+        return counts;
+    }
+
+    @Scheduled(fixedDelayString = "${posts.likes.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Drain> drains = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : retired.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta != 0) {
+                drains.add(new Drain(entry.getKey(), entry.getValue(), delta));
+            }
+        }
+        List<Map.Entry<Long, LongAdder>> idle = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta != 0) {
+                drains.add(new Drain(entry.getKey(), entry.getValue(), delta));
+            } else {
+                idle.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        if (!drains.isEmpty()) {
+            // post id order, so instances flushing at once lock rows in the same order
+            drains.sort(Comparator.comparing(Drain::postId));
+            long stamp = flushLock.writeLock();
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, drains, batchSize,
+                        (statement, drain) -> {
+                            statement.setLong(1, drain.delta());
+                            statement.setLong(2, drain.postId());
+                        }));
+                for (Drain drain : drains) {
+                    drain.adder().add(-drain.delta());
+                }
+                flushes.increment();
+            } catch (DataAccessException | TransactionException e) {
+                failedFlushes.increment();
+                log.warn("Could not flush like counts of {} posts, will retry", drains.size(), e);
+                return;
+            } finally {
+                flushLock.unlockWrite(stamp);
+            }
+        }
+
+        // under the lock too, so no read sees an adder in neither pending nor retired
+        long stamp = flushLock.writeLock();
+        try {
+            Map<Long, LongAdder> dropped = new HashMap<>();
+            for (Map.Entry<Long, LongAdder> entry : idle) {
+                if (pending.remove(entry.getKey(), entry.getValue())) {
+                    dropped.put(entry.getKey(), entry.getValue());
+                }
+            }
+            retired = dropped;
+        } finally {
+            flushLock.unlockWrite(stamp);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        dataMigrations.runOnce("job_posts.like_count", BACKFILL_SQL);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("posts.likes.pending", pending, Map::size)
+                .description("Posts with likes not yet flushed to the database")
+                .register(registry);
+        FunctionCounter.builder("posts.likes.flushes", flushes, LongAdder::doubleValue)
+                .description("Batched like count flushes")
+                .tag("result", "success")
+                .register(registry);
+        FunctionCounter.builder("posts.likes.flushes", failedFlushes, LongAdder::doubleValue)
+                .description("Batched like count flushes")
+                .tag("result", "failure")
+                .register(registry);
+    }
+
+    private Map<Long, Long> read(Collection<Long> postIds) {
+        Map<Long, LongAdder> racedDrop = retired;
+        Map<Long, Long> counts = new HashMap<>(postIds.size() * 2);
+        for (PostLikeCount stored : jobPostRepository.findLikeCountsByIdIn(postIds)) {
+            counts.put(stored.postId(), stored.likeCount()
+                    + sum(pending.get(stored.postId())) + sum(racedDrop.get(stored.postId())));
+        }
+        return counts;
+    }
+
+    private static long sum(LongAdder adder) {
+        return adder == null ? 0 : adder.sum();
+    }
+}
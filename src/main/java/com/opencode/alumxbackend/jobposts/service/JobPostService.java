@@ -4,13 +4,17 @@ import com.opencode.alumxbackend.jobposts.dto.*;
 import com.opencode.alumxbackend.jobposts.model.JobPost;
 
 import java.util.List;
+import java.util.Map;
 
 public interface JobPostService {
     JobPost createJobPost(JobPostRequest request);
     void deletePostByUser(Long userId, Long postId);
-    List<JobPostResponse> getPostsByUser(Long userId);
+    PostTimelinePage getPostsByUser(Long userId, PostTimelineCursor after, int size);
     CommentResponse addComment(Long jobPostId, CommentRequest request);
-    void likePost(Long postId, Long userId);
+    boolean likePost(Long postId, Long userId);
+    boolean unlikePost(Long postId, Long userId);
+    Map<Long, Boolean> getLikeStates(Long userId, List<Long> postIds);
     PagedPostResponse searchPosts(PostSearchRequest searchRequest);
     List<CommentResponse> getCommentsByJobPostId(Long jobPostId);
+    CommentPageResponse getComments(Long postId, CommentCursor after, int size);
 }
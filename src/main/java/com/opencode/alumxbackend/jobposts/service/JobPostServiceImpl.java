@@ -3,13 +3,22 @@ package com.opencode.alumxbackend.jobposts.service;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.opencode.alumxbackend.jobposts.dto.*;
+import com.opencode.alumxbackend.jobposts.event.JobPostCommentAddedEvent;
+import com.opencode.alumxbackend.jobposts.event.JobPostCreatedEvent;
+import com.opencode.alumxbackend.jobposts.event.JobPostDeletedEvent;
+import com.opencode.alumxbackend.jobposts.event.JobPostLikeChangedEvent;
 import com.opencode.alumxbackend.jobposts.model.JobPostComment;
 import com.opencode.alumxbackend.jobposts.repository.CommentRepository;
-import com.opencode.alumxbackend.jobposts.model.JobPostLike;
 import com.opencode.alumxbackend.jobposts.repository.JobPostLikeRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -30,34 +39,56 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Transactional
 public class JobPostServiceImpl implements JobPostService {
+    static final int MAX_LIKE_STATE_POSTS = 100;
+    static final int MAX_COMMENT_PAGE_SIZE = 100;
+    static final int MAX_TIMELINE_PAGE_SIZE = 100;
+
     private final JobPostLikeRepository jobPostLikeRepository;
     private final JobPostRepository jobPostRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final JobPostLikeCounter likeCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
-    public List<JobPostResponse> getPostsByUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User with id  not found " + userId));
+    @Transactional(readOnly = true)
+    public PostTimelinePage getPostsByUser(Long userId, PostTimelineCursor after, int size) {
+        if (size < 1 || size > MAX_TIMELINE_PAGE_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_TIMELINE_PAGE_SIZE);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User with id  not found " + userId);
+        }
+
+        // one extra row tells us whether there is a next page without a COUNT
+        Limit limit = Limit.of(size + 1);
+        List<JobPost> rows = after == null
+                ? jobPostRepository.findTimeline(userId, limit)
+                : jobPostRepository.findTimelineAfter(userId, after.createdAt(), after.postId(), limit);
 
-        List<JobPost> posts = jobPostRepository.findByUsernameOrderByCreatedAtDesc(user.getUsername());
-        return JobPostResponse.fromEntities(posts);
+        boolean hasMore = rows.size() > size;
+        List<JobPostResponse> posts = withLikeCounts(JobPostResponse.fromEntities(hasMore ? rows.subList(0, size) : rows));
+        return new PostTimelinePage(posts, hasMore ? PostTimelineCursor.after(posts.get(size - 1)).encode() : null);
     }
 
+    @Override
     public CommentResponse addComment(Long postId, CommentRequest request) {
-        JobPost post = jobPostRepository.findById(postId)
-                .orElseThrow(()->new ResourceNotFoundException("job post not found"));
+        // bumping the count doubles as the existence check and holds the post row until commit
+        if (jobPostRepository.incrementCommentCount(postId) == 0) {
+            throw new ResourceNotFoundException("job post not found");
+        }
 
         User user = userRepository.findById(request.userId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         JobPostComment comment = JobPostComment.builder()
-                .jobPost(post)
+                .jobPost(jobPostRepository.getReferenceById(postId))
                 .user(user)
                 .content(request.content())
                 .build();
 
-       JobPostComment savedcomment = commentRepository.save(comment);
-
+        JobPostComment savedcomment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new JobPostCommentAddedEvent(postId));
 
         return new CommentResponse(
                 savedcomment.getId(),
@@ -65,35 +96,58 @@ public class JobPostServiceImpl implements JobPostService {
                 user.getUsername(),
                 savedcomment.getCreatedAt()
         );
-
-
     }
 
+    /**
+     * Adds the like unless it exists already; true if it was added.
+     */
+    @Override
+    public boolean likePost(Long postId, Long userId) {
+        requirePostAndUser(postId, userId);
+        boolean liked = jobPostLikeRepository.insertIfAbsent(postId, userId, LocalDateTime.now()) == 1;
+        if (liked) {
+            eventPublisher.publishEvent(new JobPostLikeChangedEvent(postId, 1));
+        }
+        return liked;
+    }
 
+    /**
+     * Removes the like if there is one; true if it was removed.
+     */
+    @Override
+    public boolean unlikePost(Long postId, Long userId) {
+        requirePostAndUser(postId, userId);
+        boolean unliked = jobPostLikeRepository.deleteByPostIdAndUserId(postId, userId) == 1;
+        if (unliked) {
+            eventPublisher.publishEvent(new JobPostLikeChangedEvent(postId, -1));
+        }
+        return unliked;
+    }
 
     @Override
-    public void likePost(Long postId, Long userId) {
-        JobPost post = jobPostRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post not found with postId: " + postId));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        
-        try {
-            JobPostLike like = JobPostLike.builder()
-                    .jobPost(post)
-                    .user(user)
-                    .build();
-            jobPostLikeRepository.save(like);
-        } catch (org.springframework.dao.DataIntegrityViolationException e) {
-            throw new BadRequestException("User has already liked this post");
+    @Transactional(readOnly = true)
+    public Map<Long, Boolean> getLikeStates(Long userId, List<Long> postIds) {
+        if (postIds.size() > MAX_LIKE_STATE_POSTS) {
+            throw new BadRequestException("At most " + MAX_LIKE_STATE_POSTS + " post ids per request");
         }
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> liked = new HashSet<>(jobPostLikeRepository.findLikedPostIds(userId, postIds));
+        Map<Long, Boolean> states = new LinkedHashMap<>();
+        for (Long postId : postIds) {
+            states.put(postId, liked.contains(postId));
+        }
+        return states;
     }
 
     @Override
     public JobPost createJobPost(JobPostRequest request) {
-        if (!userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("Username does not exist: " + request.getUsername());
-        }
+        Long authorId = userRepository.findIdByUsername(request.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("Username does not exist: " + request.getUsername()));
 
         if (request.getDescription().length() > 5000 || request.getDescription().isBlank() || request.getDescription().length() < 50) {
             throw new IllegalArgumentException("Description must be between 50 and 5000 characters");
@@ -110,13 +164,15 @@ public class JobPostServiceImpl implements JobPostService {
         }
         JobPost jobPost = JobPost.builder()
                 .username(request.getUsername())
+                .authorId(authorId)
                 .description(request.getDescription())
                 .imageUrls(request.getImageUrls())
                 .createdAt(LocalDateTime.now())
                 .build();
 
-
-        return jobPostRepository.save(jobPost);
+        JobPost saved = jobPostRepository.save(jobPost);
+        eventPublisher.publishEvent(new JobPostCreatedEvent(saved.getPostId(), authorId));
+        return saved;
     }
 
     @Override
@@ -127,11 +183,16 @@ public class JobPostServiceImpl implements JobPostService {
         JobPost post = jobPostRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found with postId " + postId));
 
-        if (!post.getUsername().equals(user.getUsername())) {
+        // posts written before author_id existed only name their author
+        boolean owner = post.getAuthorId() != null
+                ? post.getAuthorId().equals(userId)
+                : post.getUsername().equals(user.getUsername());
+        if (!owner) {
             throw new ForbiddenException("User is not the owner of the post");
         }
 
         jobPostRepository.delete(post);
+        eventPublisher.publishEvent(new JobPostDeletedEvent(postId));
     }
 
     @Override
@@ -149,20 +210,56 @@ public class JobPostServiceImpl implements JobPostService {
         );
         
         Page<JobPostResponse> responsePage = postPage.map(JobPostResponse::fromEntity);
+        withLikeCounts(responsePage.getContent());
         return PagedPostResponse.fromPage(responsePage);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsByJobPostId(Long jobPostId) {
-        JobPost jobPost = jobPostRepository.findById(jobPostId)
-                .orElseThrow(() -> new ResourceNotFoundException("Job post not found"));
-
-        return jobPost.getComments().stream()
-                .map(comment -> new CommentResponse(
-                        comment.getId(),
-                        comment.getContent(),
-                        comment.getUser().getUsername(),
-                        comment.getCreatedAt()
-                )).toList();
+        // the unpaged endpoint only ever serves the first page
+        return getComments(jobPostId, null, MAX_COMMENT_PAGE_SIZE).getComments();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPageResponse getComments(Long postId, CommentCursor after, int size) {
+        if (size < 1 || size > MAX_COMMENT_PAGE_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_COMMENT_PAGE_SIZE);
+        }
+
+        // one extra row tells us whether there is a next page without a COUNT
+        Limit limit = Limit.of(size + 1);
+        List<CommentResponse> rows = after == null
+                ? commentRepository.findThread(postId, limit)
+                : commentRepository.findThreadAfter(postId, after.createdAt(), after.id(), limit);
+        if (rows.isEmpty() && !jobPostRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("Job post not found");
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<CommentResponse> comments = hasMore ? rows.subList(0, size) : rows;
+        return CommentPageResponse.builder()
+                .comments(comments)
+                .nextCursor(hasMore ? CommentCursor.after(comments.get(size - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // Stored counts lag by up to one flush; the counter adds the likes still pending
+    private List<JobPostResponse> withLikeCounts(List<JobPostResponse> posts) {
+        Map<Long, Long> counts = likeCounter.likeCounts(posts.stream().map(JobPostResponse::getId).toList());
+        posts.forEach(post -> post.setLikeCount(counts.getOrDefault(post.getId(), post.getLikeCount())));
+        return posts;
+    }
+
+    // Id-only checks, so a like never loads the post or the user
+    private void requirePostAndUser(Long postId, Long userId) {
+        if (!jobPostRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("Post not found with postId: " + postId);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
     }
 }
@@ -0,0 +1,13 @@
+package com.opencode.alumxbackend.jobposts.service;
+
+import com.opencode.alumxbackend.jobposts.dto.CursorPostResponse;
+import com.opencode.alumxbackend.jobposts.dto.PostSearchCursor;
+import com.opencode.alumxbackend.jobposts.dto.PostSearchSort;
+
+import java.time.LocalDateTime;
+
+public interface PostSearchService {
+
+    CursorPostResponse search(String keyword, LocalDateTime dateFrom, LocalDateTime dateTo,
+                              PostSearchSort sort, PostSearchCursor after, int size);
+}
@@ -0,0 +1,48 @@
+package com.opencode.alumxbackend.jobposts.service;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.jobposts.dto.CursorPostResponse;
+import com.opencode.alumxbackend.jobposts.dto.PostSearchCursor;
+import com.opencode.alumxbackend.jobposts.dto.PostSearchHit;
+import com.opencode.alumxbackend.jobposts.dto.PostSearchSort;
+import com.opencode.alumxbackend.jobposts.repository.JobPostSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class PostSearchServiceImpl implements PostSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final JobPostSearchRepository jobPostSearchRepository;
+    private final JobPostLikeCounter likeCounter;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPostResponse search(String keyword, LocalDateTime dateFrom, LocalDateTime dateTo,
+                                     PostSearchSort sort, PostSearchCursor after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (sort == PostSearchSort.RELEVANCE && keyword == null) {
+            throw new BadRequestException("Sorting by relevance needs a keyword");
+        }
+
+        // one extra row tells us whether there is a next page without a COUNT
+        List<PostSearchHit> rows = jobPostSearchRepository.search(keyword, dateFrom, dateTo, sort, after, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<PostSearchHit> hits = hasMore ? rows.subList(0, size) : rows;
+        Map<Long, Long> likeCounts = likeCounter.likeCounts(hits.stream().map(PostSearchHit::postId).toList());
+        return CursorPostResponse.builder()
+                .posts(hits.stream().map(hit -> hit.toResponse(likeCounts.getOrDefault(hit.postId(), 0L))).toList())
+                .nextCursor(hasMore ? PostSearchCursor.after(hits.get(size - 1), sort).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.opencode.alumxbackend.jobposts.service;
+
+import com.opencode.alumxbackend.jobposts.dto.TrendingPostResponse;
+
+import java.util.List;
+
+public interface TrendingPostService {
+
+    List<TrendingPostResponse> getTrending(int limit);
+}
@@ -0,0 +1,62 @@
+package com.opencode.alumxbackend.jobposts.service;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.common.exception.Errors.ServiceUnavailableException;
+import com.opencode.alumxbackend.jobposts.dto.JobPostResponse;
+import com.opencode.alumxbackend.jobposts.dto.TrendingPostResponse;
+import com.opencode.alumxbackend.jobposts.dto.TrendingScore;
+import com.opencode.alumxbackend.jobposts.index.TrendingPosts;
+import com.opencode.alumxbackend.jobposts.model.JobPost;
+import com.opencode.alumxbackend.jobposts.repository.JobPostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class TrendingPostServiceImpl implements TrendingPostService {
+
+    static final int MAX_LIMIT = 100;
+
+    private final TrendingPosts trendingPosts;
+    private final JobPostRepository jobPostRepository;
+    private final JobPostLikeCounter likeCounter;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrendingPostResponse> getTrending(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (!trendingPosts.isReady()) {
+            throw new ServiceUnavailableException("Trending posts are starting up, try again shortly");
+        }
+
+        List<TrendingScore> scores = trendingPosts.top(limit);
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = scores.stream().map(TrendingScore::postId).toList();
+        Map<Long, JobPost> posts = new HashMap<>();
+        jobPostRepository.findAllById(postIds).forEach(post -> posts.put(post.getPostId(), post));
+        Map<Long, Long> likeCounts = likeCounter.likeCounts(postIds);
+
+        List<TrendingPostResponse> responses = new ArrayList<>(scores.size());
+        for (TrendingScore score : scores) {
+            JobPost post = posts.get(score.postId());
+            // a post deleted since the last ranking is skipped
+            if (post != null) {
+                JobPostResponse response = JobPostResponse.fromEntity(post);
+                response.setLikeCount(likeCounts.getOrDefault(post.getPostId(), post.getLikeCount()));
+                responses.add(new TrendingPostResponse(response, Math.round(score.score() * 1000) / 1000.0));
+            }
+        }
+        return responses;
+    }
+}
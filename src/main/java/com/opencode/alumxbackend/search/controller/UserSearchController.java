@@ -1,22 +1,84 @@
 package com.opencode.alumxbackend.search.controller;
 
+import com.opencode.alumxbackend.search.dto.AlumniMatchResponse;
+import com.opencode.alumxbackend.search.dto.FacetedUserSearchResponse;
+import com.opencode.alumxbackend.search.dto.UserFacet;
+import com.opencode.alumxbackend.search.dto.UserSearchPage;
 import com.opencode.alumxbackend.users.dto.UserResponseDto;
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import com.opencode.alumxbackend.search.service.AlumniMatchService;
+import com.opencode.alumxbackend.search.service.UserAutocompleteService;
+import com.opencode.alumxbackend.search.service.UserFacetSearchService;
 import com.opencode.alumxbackend.search.service.UserSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class UserSearchController {
 
+    static final String NEXT_PAGE_HEADER = "X-Next-Page";
+
     private final UserSearchService service;
+    private final UserAutocompleteService autocompleteService;
+    private final UserFacetSearchService facetSearchService;
+    private final AlumniMatchService alumniMatchService;
 
+    // Best matches first; X-Next-Page carries the next page number while more results exist
     @GetMapping("/search")
-    public ResponseEntity<List<UserResponseDto>> searchUsers(@RequestParam("q") String query) {
-        return ResponseEntity.ok(service.search(query));
+    public ResponseEntity<List<UserResponseDto>> searchUsers(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + UserSearchService.DEFAULT_PAGE_SIZE) int size) {
+        UserSearchPage result = service.search(query, page, size);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (result.hasMore()) {
+            ok.header(NEXT_PAGE_HEADER, String.valueOf(page + 1));
+        }
+        return ok.body(result.users());
+    }
+
+    // Typeahead for the mention and new-chat pickers: prefix matches, most connected first
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<UserSummaryResponse>> autocomplete(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(autocompleteService.complete(prefix, limit));
+    }
+
+    // Filters are repeatable (?skill=Java&skill=Go) and read from the raw parameters
+    // so values containing commas, like "Acme, Inc.", are not split
+    @GetMapping("/facets")
+    public ResponseEntity<FacetedUserSearchResponse> facetedSearch(
+            @RequestParam MultiValueMap<String, String> params,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + UserFacetSearchService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "" + UserFacetSearchService.DEFAULT_FACET_LIMIT) int facetLimit) {
+        Map<UserFacet, List<String>> filters = new EnumMap<>(UserFacet.class);
+        for (UserFacet facet : UserFacet.values()) {
+            List<String> values = params.get(facet.param());
+            if (values != null) {
+                List<String> nonBlank = values.stream().filter(value -> !value.isBlank()).toList();
+                if (!nonBlank.isEmpty()) {
+                    filters.put(facet, nonBlank);
+                }
+            }
+        }
+        return ResponseEntity.ok(facetSearchService.search(filters, page, size, facetLimit));
+    }
+
+    // Mentorship suggestions: alumni sharing the most (and rarest) skills with the user
+    @GetMapping("/{userId}/matches")
+    public ResponseEntity<List<AlumniMatchResponse>> alumniMatches(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "" + AlumniMatchService.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(alumniMatchService.findMatches(userId, limit));
     }
 }
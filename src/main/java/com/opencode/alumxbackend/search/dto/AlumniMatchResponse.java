@@ -0,0 +1,24 @@
+package com.opencode.alumxbackend.search.dto;
+
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * An alumnus suggested as a mentor, with how strongly and on what their skills overlap.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class AlumniMatchResponse {
+    private UserSummaryResponse user;
+    private double score;
+    private List<String> sharedSkills;
+}
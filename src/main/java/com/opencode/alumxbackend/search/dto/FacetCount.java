@@ -0,0 +1,18 @@
+package com.opencode.alumxbackend.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * How many matching users have one value of a facet.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class FacetCount {
+    private String value;
+    private int count;
+}
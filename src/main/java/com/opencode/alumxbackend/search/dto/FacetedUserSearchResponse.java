@@ -0,0 +1,26 @@
+package com.opencode.alumxbackend.search.dto;
+
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of users matching the facet filters, the total match count, and the
+ * counts per value of each facet keyed by its parameter name.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class FacetedUserSearchResponse {
+    private List<UserSummaryResponse> users;
+    private int total;
+    private Map<String, List<FacetCount>> facets;
+}
@@ -0,0 +1,15 @@
+package com.opencode.alumxbackend.search.dto;
+
+import java.util.List;
+
+/**
+ * One candidate found by skill matching.
+ *
+ * @param sharedSkills the overlapping values, as first written by any user
+ */
+public record SkillMatch(
+        Long userId,
+        double score,
+        List<String> sharedSkills
+) {
+}
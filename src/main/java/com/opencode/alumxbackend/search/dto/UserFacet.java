@@ -0,0 +1,23 @@
+package com.opencode.alumxbackend.search.dto;
+
+/**
+ * Profile fields people search can filter on and count by. Each is also the
+ * name of its query parameter and of its entry in the facet counts.
+ */
+public enum UserFacet {
+    ROLE("role"),
+    COMPANY("company"),
+    LOCATION("location"),
+    SKILL("skill"),
+    FRAMEWORK("framework");
+
+    private final String param;
+
+    UserFacet(String param) {
+        this.param = param;
+    }
+
+    public String param() {
+        return param;
+    }
+}
@@ -0,0 +1,18 @@
+package com.opencode.alumxbackend.search.dto;
+
+import com.opencode.alumxbackend.users.model.UserRole;
+
+import java.util.List;
+
+/**
+ * The faceted fields of one user.
+ */
+public record UserFacetDocument(
+        Long userId,
+        UserRole role,
+        String currentCompany,
+        String location,
+        List<String> skills,
+        List<String> frameworks
+) {
+}
@@ -0,0 +1,17 @@
+package com.opencode.alumxbackend.search.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of user ids matching a faceted search, in id order, with the
+ * facet counts for the whole match.
+ *
+ * @param total users matching every filter
+ */
+public record UserFacetPage(
+        List<Long> userIds,
+        int total,
+        Map<UserFacet, List<FacetCount>> facets
+) {
+}
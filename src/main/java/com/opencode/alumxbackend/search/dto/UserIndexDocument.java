@@ -0,0 +1,30 @@
+package com.opencode.alumxbackend.search.dto;
+
+import com.opencode.alumxbackend.users.model.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One user as read for the in-memory user indexes: the columns and attribute
+ * lists any of them needs. Each index keeps only its own part of it.
+ */
+public record UserIndexDocument(
+        Long id,
+        String username,
+        String name,
+        String email,
+        UserRole role,
+        LocalDateTime createdAt,
+        String currentCompany,
+        String currentRole,
+        String location,
+        List<String> education,
+        List<String> experience,
+        List<String> internships,
+        List<String> skills,
+        List<String> frameworks,
+        List<String> techStack,
+        List<String> languages
+) {
+}
@@ -0,0 +1,20 @@
+package com.opencode.alumxbackend.search.dto;
+
+import com.opencode.alumxbackend.users.dto.UserResponseDto;
+
+import java.util.List;
+
+/**
+ * Everything user search matches on for one user, plus the row it returns.
+ */
+public record UserSearchDocument(
+        UserResponseDto user,
+        String username,
+        String name,
+        String currentCompany,
+        List<String> education,
+        List<String> experience,
+        List<String> internships,
+        List<String> skills
+) {
+}
@@ -0,0 +1,16 @@
+package com.opencode.alumxbackend.search.dto;
+
+import com.opencode.alumxbackend.users.dto.UserResponseDto;
+
+import java.util.List;
+
+/**
+ * One page of user search results, best match first.
+ *
+ * @param hasMore whether a further page exists within the result cap
+ */
+public record UserSearchPage(
+        List<UserResponseDto> users,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,18 @@
+package com.opencode.alumxbackend.search.dto;
+
+import com.opencode.alumxbackend.users.model.UserRole;
+
+import java.util.List;
+
+/**
+ * The attribute lists skill matching compares, for one user.
+ */
+public record UserSkillDocument(
+        Long userId,
+        UserRole role,
+        List<String> skills,
+        List<String> techStack,
+        List<String> frameworks,
+        List<String> languages
+) {
+}
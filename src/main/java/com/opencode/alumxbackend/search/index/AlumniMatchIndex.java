@@ -0,0 +1,96 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.SkillMatch;
+import com.opencode.alumxbackend.search.dto.UserIndexDocument;
+import com.opencode.alumxbackend.search.dto.UserSkillDocument;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Alumni matching over a {@link SkillMatchIndex} that {@link UserIndexes}
+ * loads and keeps current. Large matches are scored on this index's own
+ * fork/join pool ({@code users.matching.parallelism}), so matching does not
+ * compete with other users of the common pool.
+ */
+@Component
+@Slf4j
+public class AlumniMatchIndex implements UserIndex, MeterBinder {
+
+    private final ForkJoinPool pool;
+    private volatile SkillMatchIndex index = new SkillMatchIndex();
+    private volatile boolean ready;
+
+    private final LongAdder queries = new LongAdder();
+
+    public AlumniMatchIndex(@Value("${users.matching.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Best matching alumni first, or null if the user is not indexed.
+     */
+    public List<SkillMatch> match(Long userId, int limit) {
+        queries.increment();
+        return index.match(userId, limit, pool);
+    }
+
+    @Override
+    public void reset() {
+        ready = false;
+        index = new SkillMatchIndex();
+    }
+
+    @Override
+    public void put(UserIndexDocument document) {
+        index.put(new UserSkillDocument(
+                document.id(),
+                document.role(),
+                document.skills(),
+                document.techStack(),
+                document.frameworks(),
+                document.languages()));
+    }
+
+    @Override
+    public void remove(Long userId) {
+        index.remove(userId);
+    }
+
+    @Override
+    public void loaded() {
+        ready = true;
+        log.info("Skill match index loaded {} users, {} of them alumni", index.size(), index.candidateCount());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.matching.index.users", this, matching -> matching.index.size())
+                .description("Users in the skill match index")
+                .register(registry);
+        Gauge.builder("users.matching.index.alumni", this, matching -> matching.index.candidateCount())
+                .description("Alumni that can be suggested as matches")
+                .register(registry);
+        FunctionCounter.builder("users.matching.queries", queries, LongAdder::doubleValue)
+                .description("Alumni match requests scored")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
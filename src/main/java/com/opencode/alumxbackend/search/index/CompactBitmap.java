@@ -0,0 +1,518 @@
+package com.opencode.alumxbackend.search.index;
+
+import java.util.Arrays;
+
+/**
+ * Compressed set of non-negative ints in the style of a roaring bitmap.
+ *
+ * Values are grouped by their high 16 bits. Each group holds its low 16 bits
+ * either as a sorted {@code char[]} while it has at most 4096 members, or as
+ * a 65536-bit word array once it is denser than that, so neither sparse nor
+ * dense groups cost more than 8 KB. Intersections and unions work group by
+ * group, and {@link #andCardinality} counts an intersection without building
+ * it.
+ */
+final class CompactBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    private char[] highs = new char[0];
+    private Container[] containers = new Container[0];
+    private int groups;
+
+    static CompactBitmap of(int... values) {
+        CompactBitmap bitmap = new CompactBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    void add(int value) {
+        char high = high(value);
+        int at = find(high);
+        if (at >= 0) {
+            containers[at] = containers[at].add(low(value));
+            return;
+        }
+        at = -at - 1;
+        if (groups == highs.length) {
+            int capacity = Math.max(4, groups * 2);
+            highs = Arrays.copyOf(highs, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(highs, at, highs, at + 1, groups - at);
+        System.arraycopy(containers, at, containers, at + 1, groups - at);
+        highs[at] = high;
+        containers[at] = new ArrayContainer().add(low(value));
+        groups++;
+    }
+
+    void remove(int value) {
+        int at = find(high(value));
+        if (at < 0) {
+            return;
+        }
+        Container container = containers[at].remove(low(value));
+        if (container.cardinality() > 0) {
+            containers[at] = container;
+            return;
+        }
+        System.arraycopy(highs, at + 1, highs, at, groups - at - 1);
+        System.arraycopy(containers, at + 1, containers, at, groups - at - 1);
+        groups--;
+        containers[groups] = null;
+    }
+
+    boolean contains(int value) {
+        int at = find(high(value));
+        return at >= 0 && containers[at].contains(low(value));
+    }
+
+    int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < groups; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return groups == 0;
+    }
+
+    CompactBitmap and(CompactBitmap other) {
+        CompactBitmap result = new CompactBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < groups && j < other.groups) {
+            if (highs[i] < other.highs[j]) {
+                i++;
+            } else if (highs[i] > other.highs[j]) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.append(highs[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    CompactBitmap or(CompactBitmap other) {
+        CompactBitmap result = new CompactBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < groups || j < other.groups) {
+            if (j == other.groups || (i < groups && highs[i] < other.highs[j])) {
+                result.append(highs[i], containers[i].copy());
+                i++;
+            } else if (i == groups || highs[i] > other.highs[j]) {
+                result.append(other.highs[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.append(highs[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    int andCardinality(CompactBitmap other) {
+        int cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < groups && j < other.groups) {
+            if (highs[i] < other.highs[j]) {
+                i++;
+            } else if (highs[i] > other.highs[j]) {
+                j++;
+            } else {
+                cardinality += containers[i].andCardinality(other.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * Up to {@code limit} members in ascending order, skipping the first {@code offset}.
+     */
+    int[] toArray(int offset, int limit) {
+        int[] values = new int[Math.max(0, Math.min(limit, cardinality() - offset))];
+        int size = 0;
+        int skip = offset;
+        for (int i = 0; i < groups && size < values.length; i++) {
+            Container container = containers[i];
+            if (skip >= container.cardinality()) {
+                skip -= container.cardinality();
+                continue;
+            }
+            size = container.fill(highs[i] << 16, skip, values, size);
+            skip = 0;
+        }
+        return values;
+    }
+
+    long bytes() {
+        long bytes = 16 + 16 + 2L * highs.length + 16 + 4L * containers.length;
+        for (int i = 0; i < groups; i++) {
+            bytes += containers[i].bytes();
+        }
+        return bytes;
+    }
+
+    private void append(char high, Container container) {
+        if (groups == highs.length) {
+            int capacity = Math.max(4, groups * 2);
+            highs = Arrays.copyOf(highs, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        highs[groups] = high;
+        containers[groups] = container;
+        groups++;
+    }
+
+    private int find(char high) {
+        return Arrays.binarySearch(highs, 0, groups, high);
+    }
+
+    private static char high(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Only non-negative values can be stored: " + value);
+        }
+        return (char) (value >>> 16);
+    }
+
+    private static char low(int value) {
+        return (char) value;
+    }
+
+    /**
+     * The low 16 bits of one group. Mutators return the container to keep, which
+     * differs from {@code this} when the group switches representation.
+     */
+    private sealed interface Container permits ArrayContainer, BitsContainer {
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+
+        Container and(Container other);
+
+        Container or(Container other);
+
+        int andCardinality(Container other);
+
+        Container copy();
+
+        /**
+         * Writes members past the first {@code skip} into {@code into} from {@code at}, until it is full.
+         */
+        int fill(int base, int skip, int[] into, int at);
+
+        long bytes();
+    }
+
+    private static final class ArrayContainer implements Container {
+
+        private char[] values;
+        private int size;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public Container add(char value) {
+            int at = Arrays.binarySearch(values, 0, size, value);
+            if (at >= 0) {
+                return this;
+            }
+            if (size == ARRAY_MAX) {
+                return toBits().add(value);
+            }
+            at = -at - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, size * 2));
+            }
+            System.arraycopy(values, at, values, at + 1, size - at);
+            values[at] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int at = Arrays.binarySearch(values, 0, size, value);
+            if (at >= 0) {
+                System.arraycopy(values, at + 1, values, at, size - at - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public Container and(Container other) {
+            char[] kept = new char[size];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int j = 0;
+                for (int i = 0; i < size && j < array.size; ) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        kept[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        kept[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(kept, count);
+        }
+
+        @Override
+        public Container or(Container other) {
+            if (other instanceof BitsContainer bits) {
+                return bits.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            char[] merged = new char[size + array.size];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < array.size) {
+                if (j == array.size || (i < size && values[i] < array.values[j])) {
+                    merged[count++] = values[i++];
+                } else if (i == size || values[i] > array.values[j]) {
+                    merged[count++] = array.values[j++];
+                } else {
+                    merged[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            ArrayContainer union = new ArrayContainer(merged, count);
+            return count > ARRAY_MAX ? union.toBits() : union;
+        }
+
+        @Override
+        public int andCardinality(Container other) {
+            if (other instanceof BitsContainer) {
+                int count = 0;
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            int count = 0;
+            int j = 0;
+            for (int i = 0; i < size && j < array.size; ) {
+                if (values[i] < array.values[j]) {
+                    i++;
+                } else if (values[i] > array.values[j]) {
+                    j++;
+                } else {
+                    count++;
+                    i++;
+                    j++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(size, 1)), size);
+        }
+
+        @Override
+        public int fill(int base, int skip, int[] into, int at) {
+            for (int i = skip; i < size && at < into.length; i++) {
+                into[at++] = base | values[i];
+            }
+            return at;
+        }
+
+        @Override
+        public long bytes() {
+            return 16 + 16 + 2L * values.length;
+        }
+
+        BitsContainer toBits() {
+            BitsContainer bits = new BitsContainer();
+            for (int i = 0; i < size; i++) {
+                bits.add(values[i]);
+            }
+            return bits;
+        }
+    }
+
+    private static final class BitsContainer implements Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitsContainer() {
+            this(new long[WORDS], 0);
+        }
+
+        BitsContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before | (1L << value);
+            if (before != words[value >>> 6]) {
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before & ~(1L << value);
+            if (before != words[value >>> 6]) {
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            BitsContainer bits = (BitsContainer) other;
+            long[] kept = new long[WORDS];
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                kept[i] = words[i] & bits.words[i];
+                count += Long.bitCount(kept[i]);
+            }
+            BitsContainer intersection = new BitsContainer(kept, count);
+            return count <= ARRAY_MAX ? intersection.toArray() : intersection;
+        }
+
+        @Override
+        public Container or(Container other) {
+            BitsContainer union = (BitsContainer) copy();
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.size; i++) {
+                    union.add(array.values[i]);
+                }
+                return union;
+            }
+            BitsContainer bits = (BitsContainer) other;
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                union.words[i] |= bits.words[i];
+                count += Long.bitCount(union.words[i]);
+            }
+            union.cardinality = count;
+            return union;
+        }
+
+        @Override
+        public int andCardinality(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.andCardinality(this);
+            }
+            BitsContainer bits = (BitsContainer) other;
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                count += Long.bitCount(words[i] & bits.words[i]);
+            }
+            return count;
+        }
+
+        @Override
+        public Container copy() {
+            return new BitsContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        public int fill(int base, int skip, int[] into, int at) {
+            int seen = 0;
+            for (int i = 0; i < WORDS && at < into.length; i++) {
+                long word = words[i];
+                while (word != 0 && at < into.length) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    if (seen++ >= skip) {
+                        into[at++] = base | (i << 6) | bit;
+                    }
+                }
+            }
+            return at;
+        }
+
+        @Override
+        public long bytes() {
+            return 16 + 16 + 8L * WORDS;
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int size = 0;
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[size++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, size);
+        }
+    }
+}
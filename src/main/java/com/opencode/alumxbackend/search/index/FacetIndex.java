@@ -0,0 +1,313 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.FacetCount;
+import com.opencode.alumxbackend.search.dto.UserFacet;
+import com.opencode.alumxbackend.search.dto.UserFacetDocument;
+import com.opencode.alumxbackend.search.dto.UserFacetPage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Facet values mapped to compressed bitmaps of the users holding them.
+ *
+ * Filtering unions the selected values of a facet and intersects across
+ * facets. Counts are disjunctive: a facet is counted against the filters of
+ * the other facets only, so picking one company still shows how many users
+ * each other company would add. Unfiltered counts are ranked once per change
+ * to a facet; filtered ones walk either the facet's values or, when fewer
+ * users match than it has values, the matching users' own values. Values are
+ * matched trimmed and ignoring case and repeated spaces, and reported as first
+ * written until a user holding one writes it differently.
+ *
+ * Users are numbered internally so bitmaps stay dense; an updated user keeps
+ * its number and only the values that changed are moved. Reads share a
+ * lock, updates take it exclusively.
+ */
+final class FacetIndex {
+
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final Comparator<FacetCount> MOST_COMMON = Comparator
+            .comparingInt(FacetCount::getCount).reversed()
+            .thenComparing(FacetCount::getValue);
+
+    private record Key(UserFacet facet, String value) {
+    }
+
+    private static final class Value {
+        private String label;
+        private final CompactBitmap docs = new CompactBitmap();
+
+        private Value(String label) {
+            this.label = label;
+        }
+    }
+
+    private final Map<UserFacet, Map<String, Value>> values = new EnumMap<>(UserFacet.class);
+    private final CompactBitmap all = new CompactBitmap();
+    private final Map<Long, Integer> docsByUserId = new HashMap<>();
+    private final List<Map<Key, String>> labelsByDoc = new ArrayList<>();
+    // ranked counts over every user, dropped when a value of the facet changes
+    private final Map<UserFacet, List<FacetCount>> rankedByFacet = new ConcurrentHashMap<>();
+    private long[] userIds = new long[1 << 10];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    FacetIndex() {
+        for (UserFacet facet : UserFacet.values()) {
+            values.put(facet, new HashMap<>());
+        }
+    }
+
+    void put(UserFacetDocument document) {
+        Map<Key, String> labels = keys(document);
+        Long userId = document.userId();
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docsByUserId.get(userId);
+            int doc;
+            Map<Key, String> old;
+            if (existing != null) {
+                doc = existing;
+                old = labelsByDoc.get(doc);
+            } else {
+                doc = labelsByDoc.size();
+                labelsByDoc.add(Map.of());
+                if (doc == userIds.length) {
+                    userIds = Arrays.copyOf(userIds, doc * 2);
+                }
+                userIds[doc] = userId;
+                docsByUserId.put(userId, doc);
+                old = Map.of();
+            }
+
+            for (Key key : old.keySet()) {
+                if (!labels.containsKey(key)) {
+                    unfile(doc, key);
+                }
+            }
+            labels.forEach((key, label) -> {
+                String oldLabel = old.get(key);
+                if (oldLabel == null) {
+                    values.get(key.facet()).computeIfAbsent(key.value(), value -> new Value(label)).docs.add(doc);
+                    rankedByFacet.remove(key.facet());
+                } else if (!oldLabel.equals(label)) {
+                    values.get(key.facet()).get(key.value()).label = label;
+                    rankedByFacet.remove(key.facet());
+                }
+            });
+            labelsByDoc.set(doc, Map.copyOf(labels));
+            all.add(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByUserId.remove(userId);
+            if (doc != null) {
+                for (Key key : labelsByDoc.get(doc).keySet()) {
+                    unfile(doc, key);
+                }
+                labelsByDoc.set(doc, Map.of());
+                all.remove(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Users matching every filtered facet (any selected value of it), in the
+     * order they were indexed, with the {@code facetLimit} most common values
+     * of each facet.
+     */
+    UserFacetPage search(Map<UserFacet, ? extends Collection<String>> filters, int offset, int limit, int facetLimit) {
+        lock.readLock().lock();
+        try {
+            Map<UserFacet, CompactBitmap> selected = new EnumMap<>(UserFacet.class);
+            filters.forEach((facet, requested) -> {
+                if (!requested.isEmpty()) {
+                    CompactBitmap union = new CompactBitmap();
+                    for (String value : requested) {
+                        Value indexed = values.get(facet).get(normalize(value));
+                        if (indexed != null) {
+                            union = union.or(indexed.docs);
+                        }
+                    }
+                    selected.put(facet, union);
+                }
+            });
+
+            CompactBitmap match = matching(selected, null);
+            int[] docs = match.toArray(offset, limit);
+            List<Long> page = new ArrayList<>(docs.length);
+            for (int doc : docs) {
+                page.add(userIds[doc]);
+            }
+
+            Map<UserFacet, List<FacetCount>> facets = new LinkedHashMap<>();
+            for (UserFacet facet : UserFacet.values()) {
+                CompactBitmap base = selected.containsKey(facet) ? matching(selected, facet) : match;
+                facets.put(facet, count(facet, base, facetLimit));
+            }
+            return new UserFacetPage(page, match.cardinality(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docsByUserId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int valueCount() {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (Map<String, Value> facetValues : values.values()) {
+                count += facetValues.size();
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rough heap estimate: bitmaps, value labels and per-user bookkeeping.
+     */
+    long bytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = all.bytes() + 8L * userIds.length + 48L * docsByUserId.size();
+            for (Map<String, Value> facetValues : values.values()) {
+                for (Map.Entry<String, Value> value : facetValues.entrySet()) {
+                    bytes += 64 + 2L * (value.getKey().length() + value.getValue().label.length())
+                            + value.getValue().docs.bytes();
+                }
+            }
+            for (Map<Key, String> labels : labelsByDoc) {
+                bytes += 16 + 16L * labels.size();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String value) {
+        return SPACES.matcher(value.strip().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    // Everyone, narrowed by each selected facet other than the one being counted
+    private CompactBitmap matching(Map<UserFacet, CompactBitmap> selected, UserFacet except) {
+        CompactBitmap match = all;
+        for (Map.Entry<UserFacet, CompactBitmap> filter : selected.entrySet()) {
+            if (filter.getKey() != except) {
+                match = match.and(filter.getValue());
+            }
+        }
+        return match;
+    }
+
+    private List<FacetCount> count(UserFacet facet, CompactBitmap base, int facetLimit) {
+        List<FacetCount> counts;
+        if (base == all) {
+            // with nothing filtered out, a value's own bitmap is its count
+            counts = rankedByFacet.computeIfAbsent(facet, this::rankAll);
+        } else if (base.cardinality() < values.get(facet).size()) {
+            counts = countMatchingUsers(facet, base);
+        } else {
+            counts = new ArrayList<>();
+            for (Value value : values.get(facet).values()) {
+                int count = value.docs.andCardinality(base);
+                if (count > 0) {
+                    counts.add(new FacetCount(value.label, count));
+                }
+            }
+            counts.sort(MOST_COMMON);
+        }
+        return counts.size() > facetLimit ? List.copyOf(counts.subList(0, facetLimit)) : counts;
+    }
+
+    private List<FacetCount> rankAll(UserFacet facet) {
+        List<FacetCount> counts = new ArrayList<>(values.get(facet).size());
+        for (Value value : values.get(facet).values()) {
+            counts.add(new FacetCount(value.label, value.docs.cardinality()));
+        }
+        counts.sort(MOST_COMMON);
+        return List.copyOf(counts);
+    }
+
+    // Only the values some matching user holds can have a count
+    private List<FacetCount> countMatchingUsers(UserFacet facet, CompactBitmap base) {
+        Map<String, int[]> byValue = new HashMap<>();
+        for (int doc : base.toArray(0, base.cardinality())) {
+            for (Key key : labelsByDoc.get(doc).keySet()) {
+                if (key.facet() == facet) {
+                    byValue.computeIfAbsent(key.value(), value -> new int[1])[0]++;
+                }
+            }
+        }
+        List<FacetCount> counts = new ArrayList<>(byValue.size());
+        Map<String, Value> facetValues = values.get(facet);
+        byValue.forEach((value, count) -> counts.add(new FacetCount(facetValues.get(value).label, count[0])));
+        counts.sort(MOST_COMMON);
+        return counts;
+    }
+
+    private void unfile(int doc, Key key) {
+        Map<String, Value> facetValues = values.get(key.facet());
+        Value value = facetValues.get(key.value());
+        if (value != null) {
+            rankedByFacet.remove(key.facet());
+            value.docs.remove(doc);
+            if (value.docs.isEmpty()) {
+                facetValues.remove(key.value());
+            }
+        }
+    }
+
+    private static Map<Key, String> keys(UserFacetDocument document) {
+        Map<Key, String> keys = new LinkedHashMap<>();
+        if (document.role() != null) {
+            addKey(keys, UserFacet.ROLE, document.role().name());
+        }
+        addKey(keys, UserFacet.COMPANY, document.currentCompany());
+        addKey(keys, UserFacet.LOCATION, document.location());
+        if (document.skills() != null) {
+            document.skills().forEach(skill -> addKey(keys, UserFacet.SKILL, skill));
+        }
+        if (document.frameworks() != null) {
+            document.frameworks().forEach(framework -> addKey(keys, UserFacet.FRAMEWORK, framework));
+        }
+        return keys;
+    }
+
+    private static void addKey(Map<Key, String> keys, UserFacet facet, String value) {
+        if (value != null && !value.isBlank()) {
+            keys.putIfAbsent(new Key(facet, normalize(value)), SPACES.matcher(value.strip()).replaceAll(" "));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.opencode.alumxbackend.search.index;
+
+/**
+ * Open-addressing map from an n-gram packed into a {@code long} to its
+ * postings, so the hot lookup path never boxes a key.
+ *
+ * A gram of up to three characters is its length followed by one 16-bit
+ * field per character; the length bits keep every key non-zero, and zero
+ * marks an empty slot.
+ */
+final class GramTable {
+
+    static final int MAX_GRAM = 3;
+
+    private long[] keys = new long[1 << 10];
+    private IntPostings[] values = new IntPostings[1 << 10];
+    private int size;
+
+    static long gram(String text, int start, int length) {
+        long key = length;
+        for (int i = start; i < start + length; i++) {
+            key = (key << 16) | text.charAt(i);
+        }
+        return key;
+    }
+
+    IntPostings get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return null;
+    }
+
+    IntPostings getOrCreate(long key) {
+        if (size * 2 >= keys.length) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = new IntPostings();
+        size++;
+        return values[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    long bytes() {
+        long bytes = 16 + 16 + 8L * keys.length + 16 + 4L * values.length;
+        for (IntPostings postings : values) {
+            if (postings != null) {
+                bytes += postings.bytes();
+            }
+        }
+        return bytes;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        IntPostings[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new IntPostings[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i], mask);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,93 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.UserIndexDocument;
+import com.opencode.alumxbackend.search.dto.UserSearchDocument;
+import com.opencode.alumxbackend.users.dto.UserResponseDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional in-process user search ({@code users.search.in-memory.enabled}),
+ * loaded and kept current by {@link UserIndexes}. Until the load finishes
+ * {@link #isReady()} is false and search stays on the database.
+ */
+@Component
+@Slf4j
+public class InMemoryUserSearch implements UserIndex, MeterBinder {
+
+    private final boolean enabled;
+    private volatile UserSearchIndex index = new UserSearchIndex();
+    private volatile boolean ready;
+
+    private final LongAdder queries = new LongAdder();
+
+    public InMemoryUserSearch(@Value("${users.search.in-memory.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<UserResponseDto> search(String query, int offset, int limit) {
+        queries.increment();
+        return index.search(query, offset, limit);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void reset() {
+        ready = false;
+        index = new UserSearchIndex();
+    }
+
+    @Override
+    public void put(UserIndexDocument document) {
+        index.put(new UserSearchDocument(
+                new UserResponseDto(document.id(), document.name(), document.email(), document.role(), document.createdAt()),
+                document.username(),
+                document.name(),
+                document.currentCompany(),
+                document.education(),
+                document.experience(),
+                document.internships(),
+                document.skills()));
+    }
+
+    @Override
+    public void remove(Long userId) {
+        index.remove(userId);
+    }
+
+    @Override
+    public void loaded() {
+        ready = true;
+        log.info("In-memory user search loaded {} users (~{} KB)", index.size(), index.bytes() / 1024);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.search.index.memory", this, search -> search.index.bytes())
+                .description("Estimated heap used by the in-memory user search index")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("users.search.index.users", this, search -> search.index.size())
+                .description("Users in the in-memory user search index")
+                .register(registry);
+        FunctionCounter.builder("users.search.index.queries", queries, LongAdder::doubleValue)
+                .description("User searches answered from memory")
+                .register(registry);
+    }
+}
@@ -0,0 +1,87 @@
+package com.opencode.alumxbackend.search.index;
+
+import java.util.Arrays;
+
+/**
+ * Sorted, duplicate-free list of document numbers backed by an {@code int[]}.
+ * Documents are mostly added in increasing order, which is a plain append.
+ */
+final class IntPostings {
+
+    private int[] docs = new int[4];
+    private int size;
+
+    void add(int doc) {
+        if (size > 0 && docs[size - 1] >= doc) {
+            int at = Arrays.binarySearch(docs, 0, size, doc);
+            if (at >= 0) {
+                return;
+            }
+            insertAt(-at - 1, doc);
+            return;
+        }
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+        }
+        docs[size++] = doc;
+    }
+
+    void remove(int doc) {
+        int at = Arrays.binarySearch(docs, 0, size, doc);
+        if (at >= 0) {
+            System.arraycopy(docs, at + 1, docs, at, size - at - 1);
+            size--;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return docs[index];
+    }
+
+    /**
+     * Position of the first document not below {@code doc}, or {@link #size()} if there is none.
+     */
+    int lowerBound(int doc) {
+        int at = Arrays.binarySearch(docs, 0, size, doc);
+        return at >= 0 ? at : -at - 1;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(docs, size);
+    }
+
+    long bytes() {
+        return 16 + 16 + 4L * docs.length;
+    }
+
+    /**
+     * Documents of {@code sorted} (ascending, first {@code length} entries) that are also in this list.
+     */
+    int retainIn(int[] sorted, int length) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < length && j < size; i++) {
+            int doc = sorted[i];
+            while (j < size && docs[j] < doc) {
+                j++;
+            }
+            if (j < size && docs[j] == doc) {
+                sorted[kept++] = doc;
+            }
+        }
+        return kept;
+    }
+
+    private void insertAt(int at, int doc) {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+        }
+        System.arraycopy(docs, at, docs, at + 1, size - at);
+        docs[at] = doc;
+        size++;
+    }
+}
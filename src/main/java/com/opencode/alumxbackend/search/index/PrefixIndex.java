@@ -0,0 +1,338 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix completion over usernames and names, most popular users first.
+ *
+ * Every user is filed under normalized keys (accents stripped, lower-case,
+ * single spaces): the username, the full name, and the name from each later
+ * word on, so "doe" and "john d" both complete "John Doe". Keys live in a
+ * concurrent sorted map, so a prefix is a contiguous range; ranges of five
+ * or more characters are short enough to rank on the fly. Shorter prefixes
+ * cover too many users for that, so their top entries are kept ready: built
+ * in one pass after a bulk change and patched as single users change.
+ *
+ * Reads take no lock. Updates are serialized; a reader may briefly see a
+ * user under both the old and the new name, never under neither.
+ */
+final class PrefixIndex {
+
+    static final int MAX_RESULTS = 20;
+    static final int PRECOMPUTED_PREFIX_LENGTH = 4;
+
+    private static final int RECOUNT_CHUNK_SIZE = 1000;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    static final Comparator<Entry> RANKING = Comparator
+            .comparingLong(Entry::popularity).reversed()
+            .thenComparing(entry -> entry.user().getUsername(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(entry -> entry.user().getId());
+
+    /**
+     * One user as the index sees it; replaced, never modified.
+     */
+    record Entry(UserSummaryResponse user, long popularity, List<String> keys) {
+
+        Entry withPopularity(long newPopularity) {
+            return new Entry(user, newPopularity, keys);
+        }
+    }
+
+    private final ConcurrentSkipListMap<String, Entry> keys = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> users = new ConcurrentHashMap<>();
+    private final Map<String, Entry[]> shortPrefixes = new ConcurrentHashMap<>();
+
+    static Entry entry(UserSummaryResponse user, long popularity) {
+        Set<String> userKeys = new LinkedHashSet<>();
+        String username = normalize(user.getUsername());
+        if (!username.isEmpty()) {
+            userKeys.add(username);
+        }
+        String name = normalize(user.getName());
+        for (int start = 0; start < name.length(); start = name.indexOf(' ', start) + 1) {
+            userKeys.add(name.substring(start));
+            if (name.indexOf(' ', start) < 0) {
+                break;
+            }
+        }
+        return new Entry(user, popularity, List.copyOf(userKeys));
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(stripped.strip().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    /**
+     * Up to {@code limit} users with a key starting with {@code prefix}, most popular first.
+     */
+    List<UserSummaryResponse> complete(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Entry[] ranked = normalized.length() <= PRECOMPUTED_PREFIX_LENGTH
+                ? shortPrefixes.getOrDefault(normalized, NO_ENTRIES)
+                : rank(normalized);
+        List<UserSummaryResponse> result = new ArrayList<>(Math.min(limit, ranked.length));
+        for (int i = 0; i < ranked.length && result.size() < limit; i++) {
+            result.add(ranked[i].user());
+        }
+        return result;
+    }
+
+    synchronized void put(Entry entry) {
+        Entry old = file(entry);
+        Set<String> touched = shortPrefixesOf(entry);
+        if (old != null) {
+            touched.addAll(shortPrefixesOf(old));
+        }
+        for (String prefix : touched) {
+            patchShortPrefix(prefix, old, shortPrefixesOf(entry).contains(prefix) ? entry : null);
+        }
+    }
+
+    /**
+     * Files many users at once, then ranks every short prefix again in a single pass.
+     */
+    synchronized void putAll(Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            file(entry);
+        }
+        rebuildShortPrefixes();
+    }
+
+    /**
+     * Files a new or renamed user, keeping the popularity already known for them.
+     */
+    synchronized void upsert(UserSummaryResponse user) {
+        Entry current = users.get(user.getId());
+        put(entry(user, current == null ? 0 : current.popularity()));
+    }
+
+    /**
+     * @return whether the user is indexed and their popularity changed
+     */
+    synchronized boolean updatePopularity(Long userId, long popularity) {
+        Entry current = users.get(userId);
+        if (current == null || current.popularity() == popularity) {
+            return false;
+        }
+        put(current.withPopularity(popularity));
+        return true;
+    }
+
+    /**
+     * Applies a full recount; users missing from {@code popularity} drop to zero.
+     * Changes are filed a chunk at a time so single-user updates are not held up
+     * behind a large recount, and short prefixes are ranked again once at the end.
+     *
+     * @return how many users changed
+     */
+    int updatePopularities(Map<Long, Long> popularity) {
+        List<Entry> changed = new ArrayList<>();
+        for (Entry current : users.values()) {
+            long updated = popularity.getOrDefault(current.user().getId(), 0L);
+            if (current.popularity() != updated) {
+                changed.add(current.withPopularity(updated));
+            }
+        }
+        if (changed.isEmpty()) {
+            return 0;
+        }
+        for (int from = 0; from < changed.size(); from += RECOUNT_CHUNK_SIZE) {
+            fileIfPresent(changed.subList(from, Math.min(from + RECOUNT_CHUNK_SIZE, changed.size())));
+        }
+        synchronized (this) {
+            rebuildShortPrefixes();
+        }
+        return changed.size();
+    }
+
+    synchronized void remove(Long userId) {
+        Entry old = users.remove(userId);
+        if (old == null) {
+            return;
+        }
+        for (String key : old.keys()) {
+            keys.remove(fileKey(key, userId));
+        }
+        for (String prefix : shortPrefixesOf(old)) {
+            patchShortPrefix(prefix, old, null);
+        }
+    }
+
+    int size() {
+        return users.size();
+    }
+
+    int keyCount() {
+        return keys.size();
+    }
+
+    // Applies to the user's current entry, which a rename may have replaced meanwhile
+    private synchronized void fileIfPresent(List<Entry> entries) {
+        for (Entry entry : entries) {
+            Entry current = users.get(entry.user().getId());
+            if (current != null) {
+                file(current.withPopularity(entry.popularity()));
+            }
+        }
+    }
+
+    // Files the entry's keys and drops keys the previous version no longer has
+    private Entry file(Entry entry) {
+        Long userId = entry.user().getId();
+        Entry old = users.put(userId, entry);
+        for (String key : entry.keys()) {
+            keys.put(fileKey(key, userId), entry);
+        }
+        if (old != null) {
+            for (String key : old.keys()) {
+                if (!entry.keys().contains(key)) {
+                    keys.remove(fileKey(key, userId));
+                }
+            }
+        }
+        return old;
+    }
+
+    private void rebuildShortPrefixes() {
+        Map<String, Entry[]> tops = new HashMap<>();
+        Map<String, Integer> sizes = new HashMap<>();
+        for (Entry entry : users.values()) {
+            for (String prefix : shortPrefixesOf(entry)) {
+                Entry[] top = tops.computeIfAbsent(prefix, p -> new Entry[MAX_RESULTS]);
+                sizes.put(prefix, offer(top, sizes.getOrDefault(prefix, 0), entry));
+            }
+        }
+        shortPrefixes.keySet().retainAll(tops.keySet());
+        tops.forEach((prefix, top) -> {
+            int size = sizes.get(prefix);
+            shortPrefixes.put(prefix, size == MAX_RESULTS ? top : Arrays.copyOf(top, size));
+        });
+    }
+
+    // One pass over the key range keeping the best MAX_RESULTS users by insertion
+    private Entry[] rank(String prefix) {
+        Entry[] top = new Entry[MAX_RESULTS];
+        int size = 0;
+        for (Entry entry : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            size = offer(top, size, entry);
+        }
+        return size == MAX_RESULTS ? top : Arrays.copyOf(top, size);
+    }
+
+    /**
+     * Inserts the entry into a sorted, bounded top list unless it ranks below a full list
+     * or its user is already there.
+     *
+     * @return the new size of the list
+     */
+    private static int offer(Entry[] top, int size, Entry entry) {
+        if (size == MAX_RESULTS && (entry.popularity() < top[size - 1].popularity()
+                || RANKING.compare(entry, top[size - 1]) >= 0)) {
+            return size;
+        }
+        if (contains(top, size, entry.user().getId())) {
+            return size;
+        }
+        int at = size == MAX_RESULTS ? size - 1 : size++;
+        while (at > 0 && RANKING.compare(entry, top[at - 1]) < 0) {
+            top[at] = top[at - 1];
+            at--;
+        }
+        top[at] = entry;
+        return size;
+    }
+
+    private static boolean contains(Entry[] entries, int size, Long userId) {
+        for (int i = 0; i < size; i++) {
+            if (entries[i].user().getId().equals(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Replaces {@code removed} with {@code added} (either may be null) in a precomputed list,
+     * ranking the prefix range again only when the patched list could be incomplete.
+     */
+    private void patchShortPrefix(String prefix, Entry removed, Entry added) {
+        Entry[] current = shortPrefixes.getOrDefault(prefix, NO_ENTRIES);
+        List<Entry> next = new ArrayList<>(current.length + 1);
+        boolean lostMember = false;
+        for (Entry entry : current) {
+            if (removed != null && entry.user().getId().equals(removed.user().getId())) {
+                lostMember = true;
+            } else {
+                next.add(entry);
+            }
+        }
+
+        // A member that left, or came back ranked lower, may now be outranked by
+        // someone outside the list; a member that only moved up keeps the list complete
+        if (lostMember && current.length == MAX_RESULTS
+                && (added == null || RANKING.compare(added, removed) > 0)) {
+            Entry[] ranked = rank(prefix);
+            if (ranked.length == 0) {
+                shortPrefixes.remove(prefix);
+            } else {
+                shortPrefixes.put(prefix, ranked);
+            }
+            return;
+        }
+
+        if (added != null) {
+            next.add(added);
+            next.sort(RANKING);
+            if (next.size() > MAX_RESULTS) {
+                next = next.subList(0, MAX_RESULTS);
+            }
+        }
+        if (next.isEmpty()) {
+            shortPrefixes.remove(prefix);
+        } else {
+            shortPrefixes.put(prefix, next.toArray(Entry[]::new));
+        }
+    }
+
+    private static Set<String> shortPrefixesOf(Entry entry) {
+        Set<String> prefixes = new LinkedHashSet<>();
+        for (String key : entry.keys()) {
+            for (int length = 1; length <= Math.min(PRECOMPUTED_PREFIX_LENGTH, key.length()); length++) {
+                prefixes.add(key.substring(0, length));
+            }
+        }
+        return prefixes;
+    }
+
+    private static String fileKey(String key, Long userId) {
+        return key + KEY_SEPARATOR + userId;
+    }
+}
@@ -0,0 +1,388 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.SkillMatch;
+import com.opencode.alumxbackend.search.dto.UserSkillDocument;
+import com.opencode.alumxbackend.users.model.UserRole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Alumni ranked by weighted overlap of skills, tech stack, frameworks and
+ * languages with a given user.
+ *
+ * Each user is a sparse vector of term ids, a term being one normalized value
+ * of one attribute. Alumni are also listed in a posting list per term. A
+ * shared term scores its attribute's weight times the term's inverse
+ * document frequency among alumni, so sharing a rare framework counts for
+ * more than sharing "Git".
+ *
+ * Scoring merges the posting lists of the user's terms, so it only touches
+ * alumni sharing at least one term. Large merges are split by user number
+ * into ranges holding about half the postings each and scored as fork/join
+ * tasks, each keeping its own bounded top-k heap; the heaps are merged at the
+ * end. Reads share a lock, updates take it exclusively.
+ */
+final class SkillMatchIndex {
+
+    static final float[] ATTRIBUTE_WEIGHTS = {1.0f, 0.8f, 0.8f, 0.5f};
+
+    /**
+     * Postings merged by one task before its range is split further.
+     */
+    static final int LEAF_POSTINGS = 1 << 14;
+
+    private static final int[] NONE = new int[0];
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> labels = new ArrayList<>();
+    private final List<IntPostings> postings = new ArrayList<>();
+    private int[] termAttributes = new int[1 << 8];
+
+    private final Map<Long, Integer> docsByUserId = new HashMap<>();
+    private long[] userIds = new long[1 << 10];
+    private int[][] vectors = new int[1 << 10][];
+    private boolean[] candidates = new boolean[1 << 10];
+    private int nextDoc;
+    private int candidateCount;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(UserSkillDocument document) {
+        List<List<String>> attributes = List.of(
+                nullSafe(document.skills()), nullSafe(document.techStack()),
+                nullSafe(document.frameworks()), nullSafe(document.languages()));
+        boolean candidate = document.role() == UserRole.ALUMNI;
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docsByUserId.get(document.userId());
+            int doc;
+            if (existing != null) {
+                doc = existing;
+                unindex(doc);
+            } else {
+                doc = nextDoc++;
+                if (doc == userIds.length) {
+                    userIds = Arrays.copyOf(userIds, doc * 2);
+                    vectors = Arrays.copyOf(vectors, doc * 2);
+                    candidates = Arrays.copyOf(candidates, doc * 2);
+                }
+                userIds[doc] = document.userId();
+                docsByUserId.put(document.userId(), doc);
+            }
+
+            int[] vector = terms(attributes);
+            vectors[doc] = vector;
+            candidates[doc] = candidate;
+            if (candidate) {
+                candidateCount++;
+                for (int term : vector) {
+                    postings.get(term).add(doc);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByUserId.remove(userId);
+            if (doc != null) {
+                unindex(doc);
+                vectors[doc] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code limit} alumni sharing the most weight with the user, best first,
+     * or null if the user is not indexed.
+     */
+    List<SkillMatch> match(Long userId, int limit, ForkJoinPool pool) {
+        lock.readLock().lock();
+        try {
+            Integer doc = docsByUserId.get(userId);
+            if (doc == null) {
+                return null;
+            }
+            int[] query = vectors[doc];
+            if (query.length == 0 || candidateCount == 0) {
+                return List.of();
+            }
+
+            IntPostings[] lists = new IntPostings[query.length];
+            float[] weights = new float[query.length];
+            int total = 0;
+            for (int i = 0; i < query.length; i++) {
+                lists[i] = postings.get(query[i]);
+                weights[i] = ATTRIBUTE_WEIGHTS[termAttributes[query[i]]] * idf(lists[i].size());
+                total += lists[i].size();
+            }
+
+            ScoreTask task = new ScoreTask(lists, weights, doc, limit, 0, nextDoc);
+            TopKeys top = total <= LEAF_POSTINGS ? task.compute() : pool.invoke(task);
+
+            List<SkillMatch> matches = new ArrayList<>();
+            for (long key : top.sorted()) {
+                int match = (int) key;
+                float score = Float.intBitsToFloat(Integer.MAX_VALUE - (int) (key >>> 32));
+                matches.add(new SkillMatch(userIds[match], Math.round(score * 1000) / 1000.0, shared(query, vectors[match])));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docsByUserId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int candidateCount() {
+        lock.readLock().lock();
+        try {
+            return candidateCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // Smoothed so a term every alumnus has still counts a little
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1 + (double) candidateCount / (1 + documentFrequency));
+    }
+
+    private int[] terms(List<List<String>> attributes) {
+        int[] terms = new int[8];
+        int size = 0;
+        for (int attribute = 0; attribute < attributes.size(); attribute++) {
+            for (String value : attributes.get(attribute)) {
+                if (value == null || value.isBlank()) {
+                    continue;
+                }
+                int term = termId(attribute, value);
+                if (size == terms.length) {
+                    terms = Arrays.copyOf(terms, size * 2);
+                }
+                terms[size++] = term;
+            }
+        }
+        if (size == 0) {
+            return NONE;
+        }
+        int[] sorted = Arrays.copyOf(terms, size);
+        Arrays.sort(sorted);
+        int distinct = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[distinct - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, distinct);
+    }
+
+    private int termId(int attribute, String value) {
+        return termIds.computeIfAbsent(attribute + ":" + normalize(value), key -> {
+            int term = labels.size();
+            labels.add(value.strip());
+            postings.add(new IntPostings());
+            if (term == termAttributes.length) {
+                termAttributes = Arrays.copyOf(termAttributes, term * 2);
+            }
+            termAttributes[term] = attribute;
+            return term;
+        });
+    }
+
+    private void unindex(int doc) {
+        if (candidates[doc]) {
+            for (int term : vectors[doc]) {
+                postings.get(term).remove(doc);
+            }
+            candidates[doc] = false;
+            candidateCount--;
+        }
+    }
+
+    // Labels of the terms both sorted vectors hold, one per value across attributes
+    private List<String> shared(int[] query, int[] match) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0, j = 0; i < query.length && j < match.length; ) {
+            if (query[i] < match[j]) {
+                i++;
+            } else if (query[i] > match[j]) {
+                j++;
+            } else {
+                String label = labels.get(query[i]);
+                values.putIfAbsent(normalize(label), label);
+                i++;
+                j++;
+            }
+        }
+        return List.copyOf(values.values());
+    }
+
+    private static List<String> nullSafe(List<String> values) {
+        return values == null ? List.of() : values;
+    }
+
+    /**
+     * Scores the users in [from, to) and keeps the best {@code limit}. Ranges
+     * holding more than {@link #LEAF_POSTINGS} postings are split where about
+     * half of them fall on each side; a user has at most one posting per list,
+     * so such a range always has a user number to split at.
+     */
+    private static final class ScoreTask extends RecursiveTask<TopKeys> {
+
+        private final IntPostings[] lists;
+        private final float[] weights;
+        private final int self;
+        private final int limit;
+        private final int from;
+        private final int to;
+
+        ScoreTask(IntPostings[] lists, float[] weights, int self, int limit, int from, int to) {
+            this.lists = lists;
+            this.weights = weights;
+            this.self = self;
+            this.limit = limit;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TopKeys compute() {
+            int total = postingsBefore(to);
+            if (total > LEAF_POSTINGS) {
+                int middle = split(total / 2);
+                ScoreTask left = new ScoreTask(lists, weights, self, limit, from, middle);
+                ScoreTask right = new ScoreTask(lists, weights, self, limit, middle, to);
+                left.fork();
+                TopKeys top = right.compute();
+                top.offerAll(left.join());
+                return top;
+            }
+
+            // k-way merge: a heap of lists ordered by their next user number, ties by list
+            int[] next = new int[lists.length];
+            int[] end = new int[lists.length];
+            int[] heap = new int[lists.length];
+            int heapSize = 0;
+            for (int i = 0; i < lists.length; i++) {
+                next[i] = lists[i].lowerBound(from);
+                end[i] = lists[i].lowerBound(to);
+                if (next[i] < end[i]) {
+                    heap[heapSize] = i;
+                    siftUp(heap, heapSize++, next);
+                }
+            }
+
+            TopKeys top = new TopKeys(limit);
+            while (heapSize > 0) {
+                int doc = lists[heap[0]].get(next[heap[0]]);
+                float score = 0;
+                while (heapSize > 0 && lists[heap[0]].get(next[heap[0]]) == doc) {
+                    int list = heap[0];
+                    score += weights[list];
+                    if (++next[list] == end[list]) {
+                        heap[0] = heap[--heapSize];
+                    }
+                    siftDown(heap, heapSize, next);
+                }
+                if (doc != self) {
+                    // higher score first, then lower user number, as one ascending key
+                    top.offer(((long) (Integer.MAX_VALUE - Float.floatToIntBits(score)) << 32) | doc);
+                }
+            }
+            return top;
+        }
+
+        private int postingsBefore(int doc) {
+            int count = 0;
+            for (IntPostings list : lists) {
+                count += list.lowerBound(doc) - list.lowerBound(from);
+            }
+            return count;
+        }
+
+        // Smallest user number with at least half of the range's postings below it
+        private int split(int half) {
+            int low = from + 1;
+            int high = to - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (postingsBefore(middle) >= half) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+
+        private boolean before(int a, int b, int[] next) {
+            int docA = lists[a].get(next[a]);
+            int docB = lists[b].get(next[b]);
+            return docA < docB || (docA == docB && a < b);
+        }
+
+        private void siftUp(int[] heap, int at, int[] next) {
+            while (at > 0) {
+                int parent = (at - 1) >>> 1;
+                if (!before(heap[at], heap[parent], next)) {
+                    return;
+                }
+                swap(heap, at, parent);
+                at = parent;
+            }
+        }
+
+        private void siftDown(int[] heap, int size, int[] next) {
+            int at = 0;
+            while (true) {
+                int least = at;
+                int left = 2 * at + 1;
+                if (left < size && before(heap[left], heap[least], next)) {
+                    least = left;
+                }
+                if (left + 1 < size && before(heap[left + 1], heap[least], next)) {
+                    least = left + 1;
+                }
+                if (least == at) {
+                    return;
+                }
+                swap(heap, at, least);
+                at = least;
+            }
+        }
+
+        private static void swap(int[] heap, int a, int b) {
+            int held = heap[a];
+            heap[a] = heap[b];
+            heap[b] = held;
+        }
+    }
+}
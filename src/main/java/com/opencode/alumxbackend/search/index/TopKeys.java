@@ -0,0 +1,77 @@
+package com.opencode.alumxbackend.search.index;
+
+import java.util.Arrays;
+
+/**
+ * The k smallest keys seen, kept in a max-heap so a full scan stays O(n log k).
+ */
+final class TopKeys {
+
+    private final long[] heap;
+    private int size;
+
+    TopKeys(int k) {
+        heap = new long[k];
+    }
+
+    void offer(long key) {
+        if (size < heap.length) {
+            heap[size] = key;
+            siftUp(size++);
+        } else if (heap.length > 0 && key < heap[0]) {
+            heap[0] = key;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Offers every key another heap kept, e.g. to merge the results of parallel scans.
+     */
+    void offerAll(TopKeys other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.heap[i]);
+        }
+    }
+
+    long[] sorted() {
+        long[] keys = Arrays.copyOf(heap, size);
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (heap[parent] >= heap[i]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && heap[left] > heap[largest]) {
+                largest = left;
+            }
+            if (right < size && heap[right] > heap[largest]) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            swap(i, largest);
+            i = largest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+}
@@ -0,0 +1,133 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.UserIndexDocument;
+import com.opencode.alumxbackend.search.repository.UserAutocompleteRepository;
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Username and name completion ({@code users.autocomplete.enabled}) from a
+ * {@link PrefixIndex} that {@link UserIndexes} loads and keeps current.
+ *
+ * The load collects every user and files them in one bulk pass, ranked by
+ * accepted connections. Connections are not user changes, so popularity is
+ * recounted on its own schedule; a renamed user keeps theirs until then.
+ */
+@Component
+@Slf4j
+public class UserAutocompleteIndex implements UserIndex, MeterBinder {
+
+    public static final int MAX_RESULTS = PrefixIndex.MAX_RESULTS;
+
+    private final UserAutocompleteRepository repository;
+    private final boolean enabled;
+    private volatile PrefixIndex index = new PrefixIndex();
+    private List<UserSummaryResponse> loading;
+    private volatile boolean ready;
+
+    private final LongAdder completions = new LongAdder();
+
+    public UserAutocompleteIndex(
+            UserAutocompleteRepository repository,
+            @Value("${users.autocomplete.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * The form usernames and names are matched in: accents stripped, lower-case, single spaces.
+     */
+    public static String normalize(String text) {
+        return PrefixIndex.normalize(text);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<UserSummaryResponse> complete(String prefix, int limit) {
+        completions.increment();
+        return index.complete(prefix, limit);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void reset() {
+        ready = false;
+        index = new PrefixIndex();
+        loading = new ArrayList<>();
+    }
+
+    @Override
+    public void put(UserIndexDocument document) {
+        UserSummaryResponse user = new UserSummaryResponse(
+                document.id(),
+                document.username(),
+                document.name(),
+                document.role(),
+                document.currentCompany(),
+                document.currentRole(),
+                document.location());
+        if (loading != null) {
+            loading.add(user);
+        } else {
+            index.upsert(user);
+        }
+    }
+
+    @Override
+    public void remove(Long userId) {
+        index.remove(userId);
+    }
+
+    @Override
+    public void loaded() {
+        Map<Long, Long> popularity = repository.countAcceptedConnections();
+        List<PrefixIndex.Entry> entries = new ArrayList<>(loading.size());
+        for (UserSummaryResponse user : loading) {
+            entries.add(PrefixIndex.entry(user, popularity.getOrDefault(user.getId(), 0L)));
+        }
+        index.putAll(entries);
+        loading = null;
+        ready = true;
+        log.info("Autocomplete index loaded {} users under {} keys", index.size(), index.keyCount());
+    }
+
+    @Scheduled(fixedDelayString = "${users.autocomplete.popularity-refresh-ms:300000}")
+    public void refreshPopularity() {
+        if (!ready) {
+            return;
+        }
+        int changed = index.updatePopularities(repository.countAcceptedConnections());
+        log.debug("Autocomplete popularity refreshed, {} users changed", changed);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.autocomplete.index.users", this, autocomplete -> autocomplete.index.size())
+                .description("Users in the autocomplete index")
+                .register(registry);
+        Gauge.builder("users.autocomplete.index.keys", this, autocomplete -> autocomplete.index.keyCount())
+                .description("Username and name keys in the autocomplete index")
+                .register(registry);
+        FunctionCounter.builder("users.autocomplete.completions", completions, LongAdder::doubleValue)
+                .description("Autocomplete requests answered from the index")
+                .register(registry);
+    }
+}
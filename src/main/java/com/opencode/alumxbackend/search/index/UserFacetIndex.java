@@ -0,0 +1,84 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.UserFacet;
+import com.opencode.alumxbackend.search.dto.UserFacetDocument;
+import com.opencode.alumxbackend.search.dto.UserFacetPage;
+import com.opencode.alumxbackend.search.dto.UserIndexDocument;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Faceted user search over a {@link FacetIndex} of every user's role,
+ * company, location, skills and frameworks, loaded and kept current by
+ * {@link UserIndexes}. There is no database fallback: until the load
+ * finishes {@link #isReady()} is false and the endpoint answers 503.
+ */
+@Component
+@Slf4j
+public class UserFacetIndex implements UserIndex, MeterBinder {
+
+    private volatile FacetIndex index = new FacetIndex();
+    private volatile boolean ready;
+
+    private final LongAdder queries = new LongAdder();
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public UserFacetPage search(Map<UserFacet, ? extends Collection<String>> filters, int offset, int limit, int facetLimit) {
+        queries.increment();
+        return index.search(filters, offset, limit, facetLimit);
+    }
+
+    @Override
+    public void reset() {
+        ready = false;
+        index = new FacetIndex();
+    }
+
+    @Override
+    public void put(UserIndexDocument document) {
+        index.put(new UserFacetDocument(
+                document.id(),
+                document.role(),
+                document.currentCompany(),
+                document.location(),
+                document.skills(),
+                document.frameworks()));
+    }
+
+    @Override
+    public void remove(Long userId) {
+        index.remove(userId);
+    }
+
+    @Override
+    public void loaded() {
+        ready = true;
+        log.info("Facet index loaded {} users with {} values (~{} KB)",
+                index.size(), index.valueCount(), index.bytes() / 1024);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.facets.index.memory", this, facets -> facets.index.bytes())
+                .description("Estimated heap used by the facet bitmaps")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("users.facets.index.values", this, facets -> facets.index.valueCount())
+                .description("Distinct facet values across all facets")
+                .register(registry);
+        FunctionCounter.builder("users.facets.queries", queries, LongAdder::doubleValue)
+                .description("Faceted user searches answered")
+                .register(registry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.UserIndexDocument;
+
+/**
+ * An in-memory index over the users table that {@link UserIndexes} loads and
+ * keeps current. Puts and removes come from one thread at a time; queries may
+ * run concurrently with them.
+ */
+interface UserIndex {
+
+    /**
+     * False leaves this index out of loading and updates altogether.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * A full load is starting: drop everything indexed and fall back to the
+     * database until {@link #loaded()}.
+     */
+    void reset();
+
+    /**
+     * Adds the user, or replaces what is indexed for them.
+     */
+    void put(UserIndexDocument document);
+
+    void remove(Long userId);
+
+    /**
+     * Every user has been put; queries can be answered from the index.
+     */
+    void loaded();
+}
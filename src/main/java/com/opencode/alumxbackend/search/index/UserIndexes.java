@@ -0,0 +1,154 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.UserIndexDocument;
+import com.opencode.alumxbackend.search.repository.UserIndexRepository;
+import com.opencode.alumxbackend.users.event.UserChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads every {@link UserIndex} in one pass over the users table and keeps
+ * them in step with it.
+ *
+ * A committed user change only records the user's id, so the request that
+ * made it runs no extra statements. The recorded ids are read back once, for
+ * all indexes together, on a short schedule ({@code users.index.refresh-interval-ms}).
+ * An id is taken out of the set before its row is read, so a change that
+ * commits after the read records it again and the next refresh picks it up.
+ * Changes made while the initial load runs are recorded the same way.
+ *
+ * If the load fails the indexes stay on their database fallbacks, nothing is
+ * recorded, and the whole load is retried after {@code users.index.retry-interval-ms}.
+ */
+@Component
+@Slf4j
+public class UserIndexes implements MeterBinder {
+
+    private static final int LOAD_BATCH_SIZE = 2000;
+    private static final int REFRESH_BATCH_SIZE = 500;
+
+    private enum State { NOT_LOADED, LOADING, READY, FAILED }
+
+    private final UserIndexRepository repository;
+    private final List<UserIndex> indexes;
+    private final long retryNanos;
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    private volatile State state = State.NOT_LOADED;
+    private volatile long failedAt;
+
+    public UserIndexes(
+            UserIndexRepository repository,
+            List<UserIndex> indexes,
+            @Value("${users.index.retry-interval-ms:60000}") long retryIntervalMillis) {
+        this.repository = repository;
+        this.indexes = indexes.stream().filter(UserIndex::isEnabled).toList();
+        this.retryNanos = TimeUnit.MILLISECONDS.toNanos(retryIntervalMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        // from here on changes are recorded; the ones that commit before a batch is read are in it anyway
+        state = State.LOADING;
+        try {
+            indexes.forEach(UserIndex::reset);
+            int users = 0;
+            long afterId = 0;
+            List<UserIndexDocument> batch;
+            do {
+                batch = repository.findAfter(afterId, LOAD_BATCH_SIZE);
+                for (UserIndexDocument document : batch) {
+                    indexes.forEach(index -> index.put(document));
+                    afterId = document.id();
+                }
+                users += batch.size();
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            indexes.forEach(UserIndex::loaded);
+            state = State.READY;
+            log.info("User indexes loaded {} users into {} indexes", users, indexes.size());
+        } catch (RuntimeException e) {
+            state = State.FAILED;
+            failedAt = System.nanoTime();
+            changed.clear();
+            log.error("Failed to load the user indexes, using the database until the retry in {} s",
+                    TimeUnit.NANOSECONDS.toSeconds(retryNanos), e);
+            return;
+        }
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        // before the load, or after it failed, the next (re)load reads the change itself
+        State current = state;
+        if (current == State.LOADING || current == State.READY) {
+            changed.add(event.userId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${users.index.refresh-interval-ms:1000}")
+    public void refreshOrRetry() {
+        if (state == State.FAILED && System.nanoTime() - failedAt >= retryNanos) {
+            load();
+        } else {
+            refresh();
+        }
+    }
+
+    /**
+     * Applies the changes recorded so far to every index. Runs on a schedule;
+     * call it directly to see a change in the indexes right away.
+     */
+    public synchronized void refresh() {
+        while (state == State.READY && !changed.isEmpty()) {
+            List<Long> userIds = new ArrayList<>(Math.min(changed.size(), REFRESH_BATCH_SIZE));
+            Iterator<Long> pending = changed.iterator();
+            while (pending.hasNext() && userIds.size() < REFRESH_BATCH_SIZE) {
+                userIds.add(pending.next());
+                pending.remove();
+            }
+
+            List<UserIndexDocument> documents;
+            try {
+                documents = repository.findByIds(userIds);
+            } catch (RuntimeException e) {
+                changed.addAll(userIds);
+                log.warn("Could not refresh {} users in the user indexes, will retry", userIds.size(), e);
+                return;
+            }
+            Set<Long> deleted = new HashSet<>(userIds);
+            for (UserIndexDocument document : documents) {
+                indexes.forEach(index -> index.put(document));
+                deleted.remove(document.id());
+            }
+            for (Long userId : deleted) {
+                indexes.forEach(index -> index.remove(userId));
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.index.pending", changed, Set::size)
+                .description("Changed users waiting to be refreshed in the in-memory user indexes")
+                .register(registry);
+    }
+}
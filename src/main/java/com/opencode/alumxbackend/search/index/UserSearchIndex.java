@@ -0,0 +1,336 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.UserSearchDocument;
+import com.opencode.alumxbackend.users.dto.UserResponseDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index answering user search with the same matches and ranking as
+ * {@code UserSearchRepositoryImpl}.
+ *
+ * Every searched field is lower-cased and split into all of its 1-, 2- and
+ * 3-character grams. A query of up to three characters is a single posting
+ * list; a longer one intersects the lists of its trigrams, rarest first, and
+ * confirms the substring on the few documents left. Username, name and
+ * company are also split into words, so a multi-word query matches those
+ * words in any order, like the Postgres {@code tsvector} match.
+ *
+ * Users are numbered internally so posting lists are sorted {@code int[]};
+ * an updated user keeps its number. Reads share a lock, updates take it
+ * exclusively.
+ */
+final class UserSearchIndex {
+
+    private static final int[] NONE = new int[0];
+    private static final int USERNAME = 0;
+    private static final int NAME = 1;
+    private static final int WORD_FIELDS = 3;
+    private static final long USER_ID_MASK = (1L << 55) - 1;
+
+    private final GramTable grams = new GramTable();
+    private final Map<String, IntPostings> words = new HashMap<>();
+    private final Map<Long, Integer> docsByUserId = new HashMap<>();
+    private UserResponseDto[] users = new UserResponseDto[1 << 10];
+    private String[][] fields = new String[1 << 10][];
+    private int nextDoc;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(UserSearchDocument document) {
+        String[] lowered = lower(document);
+        Long userId = document.user().getId();
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docsByUserId.get(userId);
+            int doc;
+            if (existing != null) {
+                doc = existing;
+                unindex(doc, fields[doc]);
+            } else {
+                doc = nextDoc++;
+                if (doc == users.length) {
+                    users = Arrays.copyOf(users, doc * 2);
+                    fields = Arrays.copyOf(fields, doc * 2);
+                }
+                docsByUserId.put(userId, doc);
+            }
+            users[doc] = document.user();
+            fields[doc] = lowered;
+            index(doc, lowered);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByUserId.remove(userId);
+            if (doc != null) {
+                unindex(doc, fields[doc]);
+                users[doc] = null;
+                fields[doc] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Matching users best first, ties by id, skipping {@code offset} and returning at most {@code limit}.
+     */
+    List<UserResponseDto> search(String query, int offset, int limit) {
+        String term = query.strip().toLowerCase(Locale.ROOT);
+        if (term.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] wordMatches = wordMatches(term);
+            int[] matches = union(substringMatches(term), wordMatches);
+            if (offset >= matches.length) {
+                return List.of();
+            }
+
+            TopKeys top = new TopKeys((int) Math.min((long) offset + limit, matches.length));
+            for (int doc : matches) {
+                int score = score(fields[doc], term) + (Arrays.binarySearch(wordMatches, doc) >= 0 ? 1 : 0);
+                // lower key sorts first: best score, then lowest user id
+                top.offer(((long) (255 - score) << 55) | users[doc].getId());
+            }
+
+            long[] ranked = top.sorted();
+            List<UserResponseDto> page = new ArrayList<>(ranked.length - offset);
+            for (int i = offset; i < ranked.length; i++) {
+                page.add(users[docsByUserId.get(ranked[i] & USER_ID_MASK)]);
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docsByUserId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rough heap footprint: posting arrays at capacity, keys, and the stored fields.
+     */
+    long bytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = grams.bytes() + 16 + 8L * users.length + 16 + 8L * fields.length;
+            for (Map.Entry<String, IntPostings> word : words.entrySet()) {
+                bytes += 32 + 40 + 2L * word.getKey().length() + word.getValue().bytes();
+            }
+            for (String[] docFields : fields) {
+                if (docFields != null) {
+                    bytes += 16 + 8L * docFields.length + 120;
+                    for (String field : docFields) {
+                        bytes += 40 + 2L * field.length();
+                    }
+                }
+            }
+            return bytes + 64L * docsByUserId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] substringMatches(String term) {
+        int length = term.length();
+        if (length <= GramTable.MAX_GRAM) {
+            IntPostings postings = grams.get(GramTable.gram(term, 0, length));
+            return postings == null ? NONE : postings.toArray();
+        }
+
+        IntPostings[] trigrams = new IntPostings[length - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = grams.get(GramTable.gram(term, i, 3));
+            if (trigrams[i] == null) {
+                return NONE;
+            }
+        }
+        Arrays.sort(trigrams, Comparator.comparingInt(IntPostings::size));
+
+        int[] candidates = trigrams[0].toArray();
+        int count = candidates.length;
+        for (int i = 1; i < trigrams.length && count > 0; i++) {
+            count = trigrams[i].retainIn(candidates, count);
+        }
+
+        // The trigrams may come from different fields or places; keep real substrings only
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (containsInAnyField(fields[candidates[i]], term)) {
+                candidates[kept++] = candidates[i];
+            }
+        }
+        return Arrays.copyOf(candidates, kept);
+    }
+
+    private int[] wordMatches(String term) {
+        List<String> queryWords = words(term);
+        if (queryWords.isEmpty()) {
+            return NONE;
+        }
+
+        IntPostings[] postings = new IntPostings[queryWords.size()];
+        for (int i = 0; i < postings.length; i++) {
+            postings[i] = words.get(queryWords.get(i));
+            if (postings[i] == null) {
+                return NONE;
+            }
+        }
+        Arrays.sort(postings, Comparator.comparingInt(IntPostings::size));
+
+        int[] matches = postings[0].toArray();
+        int count = matches.length;
+        for (int i = 1; i < postings.length && count > 0; i++) {
+            count = postings[i].retainIn(matches, count);
+        }
+        return count == matches.length ? matches : Arrays.copyOf(matches, count);
+    }
+
+    // Same weights as the ORDER BY in UserSearchRepositoryImpl, times ten
+    private static int score(String[] docFields, String term) {
+        String username = docFields[USERNAME];
+        String name = docFields[NAME];
+        int score = 0;
+        if (username.equals(term)) {
+            score += 80;
+        } else if (username.startsWith(term)) {
+            score += 40;
+        }
+        if (name.startsWith(term)) {
+            score += 20;
+        }
+        if (username.contains(term) || name.contains(term)) {
+            score += 10;
+        }
+        return score;
+    }
+
+    private void index(int doc, String[] docFields) {
+        for (String field : docFields) {
+            for (int length = 1; length <= GramTable.MAX_GRAM; length++) {
+                for (int start = 0; start + length <= field.length(); start++) {
+                    grams.getOrCreate(GramTable.gram(field, start, length)).add(doc);
+                }
+            }
+        }
+        for (int i = 0; i < WORD_FIELDS; i++) {
+            for (String word : words(docFields[i])) {
+                words.computeIfAbsent(word, w -> new IntPostings()).add(doc);
+            }
+        }
+    }
+
+    private void unindex(int doc, String[] docFields) {
+        for (String field : docFields) {
+            for (int length = 1; length <= GramTable.MAX_GRAM; length++) {
+                for (int start = 0; start + length <= field.length(); start++) {
+                    IntPostings postings = grams.get(GramTable.gram(field, start, length));
+                    if (postings != null) {
+                        postings.remove(doc);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < WORD_FIELDS; i++) {
+            for (String word : words(docFields[i])) {
+                IntPostings postings = words.get(word);
+                if (postings != null) {
+                    postings.remove(doc);
+                    if (postings.size() == 0) {
+                        words.remove(word);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean containsInAnyField(String[] docFields, String term) {
+        for (String field : docFields) {
+            if (field.contains(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        if (b.length == 0) {
+            return a;
+        }
+        int[] merged = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            int next = j == b.length || (i < a.length && a[i] <= b[j]) ? a[i] : b[j];
+            if (i < a.length && a[i] == next) {
+                i++;
+            }
+            if (j < b.length && b[j] == next) {
+                j++;
+            }
+            merged[n++] = next;
+        }
+        return Arrays.copyOf(merged, n);
+    }
+
+    // Letters and digits only, like the 'simple' text search configuration
+    private static List<String> words(String text) {
+        List<String> result = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                result.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return result;
+    }
+
+    // username, name and company first (the word fields), then the attribute values
+    private static String[] lower(UserSearchDocument document) {
+        List<String> values = new ArrayList<>();
+        values.add(lower(document.username()));
+        values.add(lower(document.name()));
+        values.add(lower(document.currentCompany()));
+        for (List<String> attribute : List.of(
+                document.education(), document.experience(), document.internships(), document.skills())) {
+            for (String value : attribute) {
+                if (value != null) {
+                    values.add(lower(value));
+                }
+            }
+        }
+        return values.toArray(String[]::new);
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,22 @@
+package com.opencode.alumxbackend.search.repository;
+
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+
+import java.util.List;
+import java.util.Map;
+
+public interface UserAutocompleteRepository {
+
+    /**
+     * Accepted connections per user; users without any are absent.
+     */
+    Map<Long, Long> countAcceptedConnections();
+
+    /**
+     * Users whose username, name, or a later word of the name starts with the
+     * prefix, for use while the index is not loaded. The prefix is expected in
+     * the index's normalized form; stored values are lower-cased and folded the
+     * same way for Latin letters.
+     */
+    List<UserSummaryResponse> findByPrefix(String prefix, int limit);
+}
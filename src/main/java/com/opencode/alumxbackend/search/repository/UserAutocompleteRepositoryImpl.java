@@ -0,0 +1,88 @@
+package com.opencode.alumxbackend.search.repository;
+
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads for autocomplete: connection counts for ranking, and the prefix
+ * query used while the index is not loaded.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class UserAutocompleteRepositoryImpl implements UserAutocompleteRepository {
+
+    private static final String SUMMARY_JPQL = """
+    SELECT new com.opencode.alumxbackend.users.dto.UserSummaryResponse(
+        u.id, u.username, u.name, u.role, u.currentCompany, u.currentRole, u.location
+    )
+    FROM User u
+""";
+
+    private static final String ACCEPTED_CONNECTIONS_SQL = """
+    SELECT user_id, COUNT(*)
+    FROM (
+        SELECT sender_id AS user_id FROM connections WHERE status = 'ACCEPTED'
+        UNION ALL
+        SELECT receiver_id AS user_id FROM connections WHERE status = 'ACCEPTED'
+    ) accepted
+    GROUP BY user_id
+""";
+
+    // Every lower-case Latin letter up to Latin Extended-B that loses its
+    // accent to a single base letter, as the index's normalization does
+    private static final String ACCENTED;
+    private static final String PLAIN;
+
+    static {
+        StringBuilder accented = new StringBuilder();
+        StringBuilder plain = new StringBuilder();
+        for (char c = '\u00C0'; c <= '\u024F'; c++) {
+            String folded = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+            if (Character.isLowerCase(c) && folded.length() == 1 && folded.charAt(0) != c) {
+                accented.append(c);
+                plain.append(folded);
+            }
+        }
+        ACCENTED = accented.toString();
+        PLAIN = plain.toString();
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Map<Long, Long> countAcceptedConnections() {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(ACCEPTED_CONNECTIONS_SQL).getResultList();
+        Map<Long, Long> counts = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            counts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public List<UserSummaryResponse> findByPrefix(String prefix, int limit) {
+        String escaped = prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return entityManager.createQuery(SUMMARY_JPQL + """
+    WHERE CAST(function('translate', LOWER(u.username), :accented, :plain) AS String) LIKE :pattern ESCAPE '!'
+       OR CAST(function('translate', LOWER(u.name), :accented, :plain) AS String) LIKE :pattern ESCAPE '!'
+       OR CAST(function('translate', LOWER(u.name), :accented, :plain) AS String) LIKE :laterWord ESCAPE '!'
+    ORDER BY u.username
+""", UserSummaryResponse.class)
+                .setParameter("accented", ACCENTED)
+                .setParameter("plain", PLAIN)
+                .setParameter("pattern", escaped + "%")
+                .setParameter("laterWord", "% " + escaped + "%")
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
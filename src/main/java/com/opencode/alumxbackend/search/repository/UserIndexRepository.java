@@ -0,0 +1,19 @@
+package com.opencode.alumxbackend.search.repository;
+
+import com.opencode.alumxbackend.search.dto.UserIndexDocument;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserIndexRepository {
+
+    /**
+     * The next {@code limit} users by id, for loading the indexes in batches.
+     */
+    List<UserIndexDocument> findAfter(long afterId, int limit);
+
+    /**
+     * Current documents of these users; ids with no user are absent.
+     */
+    List<UserIndexDocument> findByIds(Collection<Long> userIds);
+}
@@ -0,0 +1,129 @@
+package com.opencode.alumxbackend.search.repository;
+
+import com.opencode.alumxbackend.search.dto.UserIndexDocument;
+import com.opencode.alumxbackend.users.repository.ProfileAttribute;
+import com.opencode.alumxbackend.users.model.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads index documents in two statements per batch: the users' columns,
+ * then every indexed attribute table in one UNION ALL.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class UserIndexRepositoryImpl implements UserIndexRepository {
+
+    private static final String USERS_JPQL = """
+    SELECT u.id, u.username, u.name, u.email, u.role, u.createdAt, u.currentCompany, u.currentRole, u.location
+    FROM User u
+""";
+
+    // The attributes a document carries, in the order of its lists
+    private static final List<ProfileAttribute> ATTRIBUTES = List.of(
+            ProfileAttribute.EDUCATION,
+            ProfileAttribute.EXPERIENCE,
+            ProfileAttribute.INTERNSHIPS,
+            ProfileAttribute.SKILLS,
+            ProfileAttribute.FRAMEWORKS,
+            ProfileAttribute.TECH_STACK,
+            ProfileAttribute.LANGUAGES);
+
+    // The second column says which of the document's lists the value belongs to
+    private static final String ATTRIBUTES_SQL = buildAttributesSql();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserIndexDocument> findAfter(long afterId, int limit) {
+        TypedQuery<Object[]> query = entityManager
+                .createQuery(USERS_JPQL + "WHERE u.id > :afterId ORDER BY u.id", Object[].class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit);
+        return withAttributes(query.getResultList());
+    }
+
+    @Override
+    public List<UserIndexDocument> findByIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        TypedQuery<Object[]> query = entityManager
+                .createQuery(USERS_JPQL + "WHERE u.id IN :userIds", Object[].class)
+                .setParameter("userIds", userIds);
+        return withAttributes(query.getResultList());
+    }
+
+    private List<UserIndexDocument> withAttributes(List<Object[]> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<List<String>>> attributes = new HashMap<>(users.size() * 2);
+        for (Object[] user : users) {
+            List<List<String>> lists = new ArrayList<>(ATTRIBUTES.size());
+            for (int i = 0; i < ATTRIBUTES.size(); i++) {
+                lists.add(new ArrayList<>());
+            }
+            attributes.put((Long) user[0], lists);
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(ATTRIBUTES_SQL)
+                .setParameter("userIds", attributes.keySet())
+                .getResultList();
+        for (Object[] row : rows) {
+            if (row[2] != null) {
+                attributes.get(((Number) row[0]).longValue()).get(((Number) row[1]).intValue()).add((String) row[2]);
+            }
+        }
+
+        List<UserIndexDocument> documents = new ArrayList<>(users.size());
+        for (Object[] user : users) {
+            Long id = (Long) user[0];
+            List<List<String>> lists = attributes.get(id);
+            documents.add(new UserIndexDocument(
+                    id,
+                    (String) user[1],
+                    (String) user[2],
+                    (String) user[3],
+                    (UserRole) user[4],
+                    (LocalDateTime) user[5],
+                    (String) user[6],
+                    (String) user[7],
+                    (String) user[8],
+                    lists.get(0),
+                    lists.get(1),
+                    lists.get(2),
+                    lists.get(3),
+                    lists.get(4),
+                    lists.get(5),
+                    lists.get(6)));
+        }
+        return documents;
+    }
+
+    private static String buildAttributesSql() {
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < ATTRIBUTES.size(); i++) {
+            ProfileAttribute attribute = ATTRIBUTES.get(i);
+            if (i > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("SELECT user_id, ").append(i).append(" AS attribute_index, ")
+                    .append(attribute.column()).append(" AS attribute_value FROM ")
+                    .append(attribute.table()).append(" WHERE user_id IN (:userIds)");
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package com.opencode.alumxbackend.search.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the Postgres indexes behind user search, which {@code ddl-auto}
+ * cannot express: {@code pg_trgm} GIN indexes so {@code LIKE '%q%'} on the
+ * lower-cased columns is answered from the index, and a {@code tsvector}
+ * expression index for word matches. Every statement is idempotent, and a
+ * failure (e.g. no permission to create the extension) only costs speed,
+ * since the queries never depend on the indexes existing.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserSearchIndexInitializer {
+
+    // Must stay identical to the expression in UserSearchRepositoryImpl for the index to be used
+    static final String DOCUMENT =
+            "to_tsvector('simple', coalesce(username, '') || ' ' || coalesce(name, '') || ' ' || coalesce(current_company, ''))";
+
+    private static final List<String> STATEMENTS = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_users_search_document ON users USING gin (" + DOCUMENT + ")",
+            "CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON users USING gin (lower(username) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_users_name_trgm ON users USING gin (lower(name) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_users_current_company_trgm ON users USING gin (lower(current_company) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_user_education_trgm ON user_education USING gin (lower(education) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_user_experience_trgm ON user_experience USING gin (lower(experience) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_user_internships_trgm ON user_internships USING gin (lower(internship) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_user_skills_trgm ON user_skills USING gin (lower(skill) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_user_education_user_id ON user_education (user_id)",
+            "CREATE INDEX IF NOT EXISTS idx_user_experience_user_id ON user_experience (user_id)",
+            "CREATE INDEX IF NOT EXISTS idx_user_internships_user_id ON user_internships (user_id)",
+            "CREATE INDEX IF NOT EXISTS idx_user_skills_user_id ON user_skills (user_id)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        if (!isPostgres(jdbcTemplate)) {
+            return;
+        }
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException e) {
+                log.warn("Could not create user search index, search will scan instead: {}", statement, e);
+            }
+        }
+        log.info("User search indexes are in place");
+    }
+
+    static boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equals(product);
+    }
+}
@@ -4,5 +4,10 @@ import com.opencode.alumxbackend.users.dto.UserResponseDto;
 import java.util.List;
 
 public interface UserSearchRepository {
-    List<UserResponseDto> searchUsers(String query);
+
+    /**
+     * Users whose username, name, company, education, experience or internships
+     * contain the query (case-insensitive), best match first.
+     */
+    List<UserResponseDto> searchUsers(String query, int offset, int limit);
 }
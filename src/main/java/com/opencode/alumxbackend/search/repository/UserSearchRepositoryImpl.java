@@ -1,44 +1,150 @@
 package com.opencode.alumxbackend.search.repository;
 
 import com.opencode.alumxbackend.users.dto.UserResponseDto;
+import com.opencode.alumxbackend.users.model.UserRole;
+import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
+/**
+ * Ranked, paged user search.
+ *
+ * Every field is a case-insensitive substring match, as before, but the
+ * attribute collections are probed with {@code IN}/{@code EXISTS} instead of
+ * joined, so there is no row explosion and no {@code DISTINCT}. On Postgres
+ * the matching ids are collected as a {@code UNION} of one branch per column,
+ * each answered by its trigram index from {@link UserSearchIndexInitializer},
+ * and whole words also match through the {@code tsvector} index in any order.
+ * Only those ids are joined back to {@code users} and ranked. Other databases (H2 in tests) run the
+ * same substring search in JPQL without the word match.
+ *
+ * Ranking: exact username, then username prefix, then name prefix, then any
+ * other username or name hit, then attribute-only hits; ties by id.
+ */
 @Repository
+@RequiredArgsConstructor
 public class UserSearchRepositoryImpl implements UserSearchRepository {
 
-    @PersistenceContext
-    private EntityManager entityManager;
+    // Each candidate branch is answered from its own index; an OR across them
+    // (or with an IN subquery) would make Postgres scan all of users instead
+    private static final String POSTGRES_SQL = """
+    WITH candidates AS (
+        SELECT id AS user_id FROM users WHERE lower(username) LIKE :pattern ESCAPE '!'
+        UNION
+        SELECT id FROM users WHERE lower(name) LIKE :pattern ESCAPE '!'
+        UNION
+        SELECT id FROM users WHERE lower(current_company) LIKE :pattern ESCAPE '!'
+        UNION
+        SELECT id FROM users WHERE %1$s @@ plainto_tsquery('simple', :q)
+        UNION
+        SELECT user_id FROM user_education WHERE lower(education) LIKE :pattern ESCAPE '!'
+        UNION
+        SELECT user_id FROM user_experience WHERE lower(experience) LIKE :pattern ESCAPE '!'
+        UNION
+        SELECT user_id FROM user_internships WHERE lower(internship) LIKE :pattern ESCAPE '!'
+        UNION
+        SELECT user_id FROM user_skills WHERE lower(skill) LIKE :pattern ESCAPE '!'
+    )
+    SELECT u.id, u.name, u.email, u.role, u.created_at
+    FROM candidates c
+    JOIN users u ON u.id = c.user_id
+    ORDER BY CASE WHEN lower(u.username) = :term THEN 8
+                  WHEN lower(u.username) LIKE :prefix ESCAPE '!' THEN 4
+                  ELSE 0 END
+           + CASE WHEN lower(u.name) LIKE :prefix ESCAPE '!' THEN 2 ELSE 0 END
+           + CASE WHEN lower(u.username) LIKE :pattern ESCAPE '!'
+                    OR lower(u.name) LIKE :pattern ESCAPE '!' THEN 1 ELSE 0 END
+           + ts_rank(%1$s, plainto_tsquery('simple', :q)) DESC,
+             u.id
+    LIMIT :limit OFFSET :offset
+""".formatted(UserSearchIndexInitializer.DOCUMENT);
 
-    @Override
-    public List<UserResponseDto> searchUsers(String query) {
-
-        String jpql = """
-    SELECT DISTINCT new com.opencode.alumxbackend.users.dto.UserResponseDto(
-        u.id,
-        u.name,
-        u.email,
-        u.role,
-        u.createdAt
+    private static final String PORTABLE_JPQL = """
+    SELECT new com.opencode.alumxbackend.users.dto.UserResponseDto(
+        u.id, u.name, u.email, u.role, u.createdAt
     )
     FROM User u
-    LEFT JOIN u.education e
-    LEFT JOIN u.experience exp
-    LEFT JOIN u.internships i
-    WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :q, '%'))
-       OR LOWER(u.name) LIKE LOWER(CONCAT('%', :q, '%'))
-       OR LOWER(u.currentCompany) LIKE LOWER(CONCAT('%', :q, '%'))
-       OR LOWER(e) LIKE LOWER(CONCAT('%', :q, '%'))
-       OR LOWER(exp) LIKE LOWER(CONCAT('%', :q, '%'))
-       OR LOWER(i) LIKE LOWER(CONCAT('%', :q, '%'))
+    WHERE LOWER(u.username) LIKE :pattern ESCAPE '!'
+       OR LOWER(u.name) LIKE :pattern ESCAPE '!'
+       OR LOWER(u.currentCompany) LIKE :pattern ESCAPE '!'
+       OR EXISTS (SELECT 1 FROM User x JOIN x.education e WHERE x.id = u.id AND LOWER(e) LIKE :pattern ESCAPE '!')
+       OR EXISTS (SELECT 1 FROM User x JOIN x.experience e WHERE x.id = u.id AND LOWER(e) LIKE :pattern ESCAPE '!')
+       OR EXISTS (SELECT 1 FROM User x JOIN x.internships i WHERE x.id = u.id AND LOWER(i) LIKE :pattern ESCAPE '!')
+       OR EXISTS (SELECT 1 FROM User x JOIN x.skills s WHERE x.id = u.id AND LOWER(s) LIKE :pattern ESCAPE '!')
+    ORDER BY CASE WHEN LOWER(u.username) = :term THEN 8
+                  WHEN LOWER(u.username) LIKE :prefix ESCAPE '!' THEN 4
+                  ELSE 0 END
+           + CASE WHEN LOWER(u.name) LIKE :prefix ESCAPE '!' THEN 2 ELSE 0 END
+           + CASE WHEN LOWER(u.username) LIKE :pattern ESCAPE '!'
+                    OR LOWER(u.name) LIKE :pattern ESCAPE '!' THEN 1 ELSE 0 END DESC,
+             u.id
 """;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private boolean postgres;
+
+    @PostConstruct
+    void detectDatabase() {
+        postgres = UserSearchIndexInitializer.isPostgres(jdbcTemplate);
+    }
+
+    @Override
+    public List<UserResponseDto> searchUsers(String query, int offset, int limit) {
+        String term = query.toLowerCase(Locale.ROOT);
+        String escaped = escapeLike(term);
 
-        return entityManager.createQuery(jpql, UserResponseDto.class)
+        if (!postgres) {
+            return entityManager.createQuery(PORTABLE_JPQL, UserResponseDto.class)
+                    .setParameter("pattern", "%" + escaped + "%")
+                    .setParameter("prefix", escaped + "%")
+                    .setParameter("term", term)
+                    .setFirstResult(offset)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+
+        Query search = entityManager.createNativeQuery(POSTGRES_SQL)
+                .setParameter("pattern", "%" + escaped + "%")
+                .setParameter("prefix", escaped + "%")
+                .setParameter("term", term)
                 .setParameter("q", query)
-                .getResultList();
+                .setParameter("limit", limit)
+                .setParameter("offset", offset);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = search.getResultList();
+
+        List<UserResponseDto> users = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            users.add(new UserResponseDto(
+                    ((Number) row[0]).longValue(),
+                    (String) row[1],
+                    (String) row[2],
+                    UserRole.valueOf((String) row[3]),
+                    toLocalDateTime(row[4])));
+        }
+        return users;
+    }
+
+    // The query is a literal substring, so LIKE wildcards in it must not act as wildcards
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
     }
 }
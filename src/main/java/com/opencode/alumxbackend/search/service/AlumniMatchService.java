@@ -0,0 +1,15 @@
+package com.opencode.alumxbackend.search.service;
+
+import com.opencode.alumxbackend.search.dto.AlumniMatchResponse;
+
+import java.util.List;
+
+public interface AlumniMatchService {
+
+    int DEFAULT_LIMIT = 10;
+
+    /**
+     * Alumni whose skills, tech stack, frameworks and languages overlap most with the user's.
+     */
+    List<AlumniMatchResponse> findMatches(Long userId, int limit);
+}
@@ -0,0 +1,58 @@
+package com.opencode.alumxbackend.search.service;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.common.exception.Errors.ResourceNotFoundException;
+import com.opencode.alumxbackend.common.exception.Errors.ServiceUnavailableException;
+import com.opencode.alumxbackend.search.dto.AlumniMatchResponse;
+import com.opencode.alumxbackend.search.dto.SkillMatch;
+import com.opencode.alumxbackend.search.index.AlumniMatchIndex;
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import com.opencode.alumxbackend.users.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class AlumniMatchServiceImpl implements AlumniMatchService {
+
+    static final int MAX_LIMIT = 50;
+
+    private final AlumniMatchIndex matchIndex;
+    private final UserService userService;
+
+    @Override
+    public List<AlumniMatchResponse> findMatches(Long userId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (!matchIndex.isReady()) {
+            throw new ServiceUnavailableException("Alumni matching is starting up, try again shortly");
+        }
+
+        List<SkillMatch> matches = matchIndex.match(userId, limit);
+        if (matches == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, UserSummaryResponse> users = new HashMap<>();
+        userService.getUserSummaries(matches.stream().map(SkillMatch::userId).toList())
+                .forEach(user -> users.put(user.getId(), user));
+        List<AlumniMatchResponse> responses = new ArrayList<>(matches.size());
+        for (SkillMatch match : matches) {
+            UserSummaryResponse user = users.get(match.userId());
+            // a user deleted since scoring is skipped rather than returned half empty
+            if (user != null) {
+                responses.add(new AlumniMatchResponse(user, match.score(), match.sharedSkills()));
+            }
+        }
+        return responses;
+    }
+}
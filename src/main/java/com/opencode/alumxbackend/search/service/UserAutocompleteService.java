@@ -0,0 +1,14 @@
+package com.opencode.alumxbackend.search.service;
+
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+
+import java.util.List;
+
+public interface UserAutocompleteService {
+
+    /**
+     * Users whose username, name, or a later word of their name starts with the prefix,
+     * most connected first.
+     */
+    List<UserSummaryResponse> complete(String prefix, int limit);
+}
@@ -0,0 +1,33 @@
+package com.opencode.alumxbackend.search.service;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.search.index.UserAutocompleteIndex;
+import com.opencode.alumxbackend.search.repository.UserAutocompleteRepository;
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class UserAutocompleteServiceImpl implements UserAutocompleteService {
+
+    private final UserAutocompleteIndex index;
+    private final UserAutocompleteRepository repository;
+
+    @Override
+    public List<UserSummaryResponse> complete(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new BadRequestException("Prefix cannot be empty");
+        }
+        if (limit < 1 || limit > UserAutocompleteIndex.MAX_RESULTS) {
+            throw new BadRequestException("limit must be between 1 and " + UserAutocompleteIndex.MAX_RESULTS);
+        }
+
+        // While the index is disabled or loading, a prefix query matching the same keys keeps the pickers working
+        return index.isReady()
+                ? index.complete(prefix, limit)
+                : repository.findByPrefix(UserAutocompleteIndex.normalize(prefix), limit);
+    }
+}
@@ -0,0 +1,19 @@
+package com.opencode.alumxbackend.search.service;
+
+import com.opencode.alumxbackend.search.dto.FacetedUserSearchResponse;
+import com.opencode.alumxbackend.search.dto.UserFacet;
+
+import java.util.List;
+import java.util.Map;
+
+public interface UserFacetSearchService {
+
+    int DEFAULT_PAGE_SIZE = 20;
+    int DEFAULT_FACET_LIMIT = 10;
+
+    /**
+     * Users holding any of the requested values of every filtered facet, with
+     * the most common values of each facet among them.
+     */
+    FacetedUserSearchResponse search(Map<UserFacet, List<String>> filters, int page, int size, int facetLimit);
+}
@@ -0,0 +1,64 @@
+package com.opencode.alumxbackend.search.service;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.common.exception.Errors.ServiceUnavailableException;
+import com.opencode.alumxbackend.search.dto.FacetCount;
+import com.opencode.alumxbackend.search.dto.FacetedUserSearchResponse;
+import com.opencode.alumxbackend.search.dto.UserFacet;
+import com.opencode.alumxbackend.search.dto.UserFacetPage;
+import com.opencode.alumxbackend.search.index.UserFacetIndex;
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import com.opencode.alumxbackend.users.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class UserFacetSearchServiceImpl implements UserFacetSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_FACET_LIMIT = 50;
+    static final int MAX_VALUES_PER_FACET = 20;
+
+    private final UserFacetIndex facetIndex;
+    private final UserService userService;
+
+    @Override
+    public FacetedUserSearchResponse search(Map<UserFacet, List<String>> filters, int page, int size, int facetLimit) {
+        if (page < 0) {
+            throw new BadRequestException("page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (facetLimit < 1 || facetLimit > MAX_FACET_LIMIT) {
+            throw new BadRequestException("facetLimit must be between 1 and " + MAX_FACET_LIMIT);
+        }
+        filters.forEach((facet, values) -> {
+            if (values.size() > MAX_VALUES_PER_FACET) {
+                throw new BadRequestException("At most " + MAX_VALUES_PER_FACET + " values of " + facet.param() + " are allowed");
+            }
+        });
+        if (!facetIndex.isReady()) {
+            throw new ServiceUnavailableException("Faceted search is starting up, try again shortly");
+        }
+
+        long offset = (long) page * size;
+        UserFacetPage result = facetIndex.search(filters, (int) Math.min(offset, Integer.MAX_VALUE), size, facetLimit);
+        List<UserSummaryResponse> users = result.userIds().isEmpty()
+                ? List.of()
+                : userService.getUserSummaries(result.userIds());
+
+        Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+        result.facets().forEach((facet, counts) -> facets.put(facet.param(), counts));
+        return FacetedUserSearchResponse.builder()
+                .users(users)
+                .total(result.total())
+                .facets(facets)
+                .build();
+    }
+}
@@ -1,8 +1,16 @@
 package com.opencode.alumxbackend.search.service;
 
+import com.opencode.alumxbackend.search.dto.UserSearchPage;
 import com.opencode.alumxbackend.users.dto.UserResponseDto;
 import java.util.List;
 
 public interface UserSearchService {
-    List<UserResponseDto> search(String query);
+
+    int DEFAULT_PAGE_SIZE = 20;
+
+    UserSearchPage search(String query, int page, int size);
+
+    default List<UserResponseDto> search(String query) {
+        return search(query, 0, DEFAULT_PAGE_SIZE).users();
+    }
 }
@@ -1,23 +1,56 @@
 package com.opencode.alumxbackend.search.service;
 
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.search.dto.UserSearchPage;
+import com.opencode.alumxbackend.search.index.InMemoryUserSearch;
 import com.opencode.alumxbackend.users.dto.UserResponseDto;
 import com.opencode.alumxbackend.search.repository.UserSearchRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class UserSearchServiceImpl implements UserSearchService {
 
+    static final int MAX_PAGE_SIZE = 100;
+
     private final UserSearchRepository repository;
+    private final InMemoryUserSearch inMemorySearch;
+    private final int maxResults;
+
+    public UserSearchServiceImpl(
+            UserSearchRepository repository,
+            InMemoryUserSearch inMemorySearch,
+            @Value("${users.search.max-results:1000}") int maxResults) {
+        this.repository = repository;
+        this.inMemorySearch = inMemorySearch;
+        this.maxResults = maxResults;
+    }
 
     @Override
-    public List<UserResponseDto> search(String query) {
+    public UserSearchPage search(String query, int page, int size) {
         if (query == null || query.trim().isEmpty()) {
             throw new IllegalArgumentException("Search query cannot be empty");
         }
-        return repository.searchUsers(query.trim());
+        if (page < 0) {
+            throw new BadRequestException("page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        // Results past the cap are never served, however deep the client pages
+        long offset = (long) page * size;
+        if (offset >= maxResults) {
+            return new UserSearchPage(List.of(), false);
+        }
+        int fetch = (int) Math.min(size + 1L, maxResults - offset);
+
+        List<UserResponseDto> users = inMemorySearch.isReady()
+                ? inMemorySearch.search(query.trim(), (int) offset, fetch)
+                : repository.searchUsers(query.trim(), (int) offset, fetch);
+        boolean hasMore = users.size() > size;
+        return new UserSearchPage(hasMore ? users.subList(0, size) : users, hasMore);
     }
 }
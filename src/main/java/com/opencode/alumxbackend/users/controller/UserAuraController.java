@@ -5,13 +5,22 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.opencode.alumxbackend.users.dto.ColorAwareAuraResponse;
 import com.opencode.alumxbackend.users.dto.UserAuraResponse;
+import com.opencode.alumxbackend.users.dto.VersionedUserProfile;
+import com.opencode.alumxbackend.users.service.AuraColorService;
 import com.opencode.alumxbackend.users.service.UserAuraService;
+import com.opencode.alumxbackend.users.service.UserService;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
 
 @RestController
@@ -20,14 +29,33 @@ import org.springframework.web.bind.annotation.PathVariable;
 public class UserAuraController {
 
     private final UserAuraService auraService;
+    private final AuraColorService auraColorService;
+    private final UserService userService;
 
+    // Aura is derived from the profile, so it carries the profile's version in its ETag;
+    // colored aura also depends on the color mapping, which can be reloaded at runtime
     @GetMapping("/{userId}/aura")
     public ResponseEntity<UserAuraResponse> getAura(@PathVariable Long userId) {
-        return ResponseEntity.ok(auraService.getAuraResponse(userId));
+        VersionedUserProfile profile = userService.getVersionedUserProfile(userId);
+        return ResponseEntity.ok()
+                .eTag(profile.etag("aura"))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(auraService.getAuraResponse(profile));
     }
 
     @GetMapping("/{userId}/aura/colors")
     public ResponseEntity<ColorAwareAuraResponse> getColorAwareAura(@PathVariable Long userId) {
-        return ResponseEntity.ok(auraService.getColorAwareAuraResponse(userId));
+        VersionedUserProfile profile = userService.getVersionedUserProfile(userId);
+        return ResponseEntity.ok()
+                .eTag(profile.etag("aura-colors-" + Long.toString(auraColorService.getMappingVersion(), 36)))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(auraService.getColorAwareAuraResponse(profile));
+    }
+
+    // Aura badges for a page of profile cards in one call, e.g. /api/users/auras?ids=1,2,3
+    @GetMapping("/auras")
+    public ResponseEntity<Map<Long, ColorAwareAuraResponse>> getColorAwareAuras(@RequestParam List<Long> ids) {
+        // de-duplicate but keep the caller's order
+        return ResponseEntity.ok(auraService.getColorAwareAuras(new LinkedHashSet<>(ids)));
     }
 }
@@ -1,47 +1,124 @@
 package com.opencode.alumxbackend.users.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.logging.Logger;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.opencode.alumxbackend.common.exception.Errors.ResourceNotFoundException;
+import com.opencode.alumxbackend.users.dto.UserDirectoryCursor;
+import com.opencode.alumxbackend.users.dto.UserDirectoryPage;
+import com.opencode.alumxbackend.users.dto.UserDirectorySort;
 import com.opencode.alumxbackend.users.dto.UserProfileResponse;
 import com.opencode.alumxbackend.users.dto.UserProfileUpdateRequest;
 import com.opencode.alumxbackend.users.dto.UserResponseDto;
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import com.opencode.alumxbackend.users.dto.VersionedUserProfile;
+import com.opencode.alumxbackend.users.service.UserDirectoryService;
 import com.opencode.alumxbackend.users.service.UserService;
 
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.json.JsonMapper;
 
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class UserController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final UserService userService;
+    private final UserDirectoryService userDirectoryService;
+    private final JsonMapper jsonMapper;
     private static final Logger logger = Logger.getLogger(UserController.class.getName());
 
+    // A matching If-None-Match is answered with 304 by Spring from the ETag set here
     @GetMapping("/{userId}/profile")
     public ResponseEntity<UserProfileResponse> getProfile(@PathVariable Long userId){
         try {
-            return ResponseEntity.ok(userService.getUserProfile(userId));
+            VersionedUserProfile profile = userService.getVersionedUserProfile(userId);
+            return ResponseEntity.ok()
+                    .eTag(profile.etag("profile"))
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(profile.profile());
         }
-        catch (EntityNotFoundException e) {
+        catch (ResourceNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    /**
+     * Admin user directory, one keyset page at a time. The cursor for the next page
+     * comes back in the X-Next-Cursor header and is passed as {@code after}.
+     * Without {@code limit} only the first 100 users come back, not the whole
+     * directory; callers that need everyone follow the cursor or use the stream below.
+     */
     @GetMapping
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-        logger.info("Fetching all users");
-        List<UserResponseDto> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<UserResponseDto>> getAllUsers(
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        UserDirectorySort order = UserDirectorySort.fromParam(sort);
+        logger.info("Fetching users page");
+        UserDirectoryPage page = userDirectoryService.getPage(order, cursor(after, order), limit);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            ok.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return ok.body(page.users());
+    }
+
+    /**
+     * The whole directory (from {@code after} onwards) for {@code Accept: application/x-ndjson},
+     * one JSON object per line, written as rows come off the database cursor.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers(
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String after
+    ) {
+        UserDirectorySort order = UserDirectorySort.fromParam(sort);
+        UserDirectoryCursor cursor = cursor(after, order);
+        logger.info("Streaming user directory");
+        StreamingResponseBody body = out -> {
+            userDirectoryService.streamDirectory(order, cursor, user -> {
+                try {
+                    out.write(jsonMapper.writeValueAsBytes(user));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private static UserDirectoryCursor cursor(String after, UserDirectorySort order) {
+        return after == null || after.isBlank() ? null : UserDirectoryCursor.decode(after, order);
+    }
+
+    // Name, role and company for a page of list rows, e.g. /api/users/summaries?ids=4,8,15
+    @GetMapping("/summaries")
+    public ResponseEntity<List<UserSummaryResponse>> getUserSummaries(@RequestParam List<Long> ids) {
+        // de-duplicate but keep the caller's order
+        return ResponseEntity.ok(userService.getUserSummaries(new LinkedHashSet<>(ids)));
     }
 
     @PatchMapping("/{userId}/profile")
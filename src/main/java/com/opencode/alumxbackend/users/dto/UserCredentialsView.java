@@ -0,0 +1,19 @@
+package com.opencode.alumxbackend.users.dto;
+
+import com.opencode.alumxbackend.users.model.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The columns login needs, loaded without hydrating a full {@code User}.
+ */
+@Getter
+@AllArgsConstructor
+public class UserCredentialsView {
+    private final Long id;
+    private final String email;
+    private final String username;
+    private final String name;
+    private final UserRole role;
+    private final String passwordHash;
+}
@@ -0,0 +1,56 @@
+package com.opencode.alumxbackend.users.dto;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Position of the last row a client has seen in the user directory.
+ *
+ * Clients treat the encoded form as opaque; it holds the id, plus
+ * {@code createdAt} (in epoch microseconds) when the directory is ordered by
+ * creation time.
+ */
+public record UserDirectoryCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    public static UserDirectoryCursor after(UserResponseDto user, UserDirectorySort sort) {
+        return new UserDirectoryCursor(sort == UserDirectorySort.CREATED_AT ? user.getCreatedAt() : null, user.getId());
+    }
+
+    public String encode() {
+        String payload = createdAt == null
+                ? "i:" + id
+                : "c:" + toEpochMicros(createdAt) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserDirectoryCursor decode(String cursor, UserDirectorySort sort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (sort == UserDirectorySort.ID && parts.length == 2 && parts[0].equals("i")) {
+                return new UserDirectoryCursor(null, Long.parseLong(parts[1]));
+            }
+            if (sort == UserDirectorySort.CREATED_AT && parts.length == 3 && parts[0].equals("c")) {
+                return new UserDirectoryCursor(fromEpochMicros(Long.parseLong(parts[1])), Long.parseLong(parts[2]));
+            }
+        } catch (IllegalArgumentException e) {
+            // falls through to the error below
+        }
+        throw new BadRequestException("Invalid cursor for sort " + sort.param());
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
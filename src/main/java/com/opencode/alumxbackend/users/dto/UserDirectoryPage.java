@@ -0,0 +1,12 @@
+package com.opencode.alumxbackend.users.dto;
+
+import java.util.List;
+
+/**
+ * One page of the user directory; {@code nextCursor} is null on the last page.
+ */
+public record UserDirectoryPage(
+        List<UserResponseDto> users,
+        String nextCursor
+) {
+}
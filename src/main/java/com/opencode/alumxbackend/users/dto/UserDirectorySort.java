@@ -0,0 +1,31 @@
+package com.opencode.alumxbackend.users.dto;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+
+/**
+ * Orderings supported by the user directory. Both are total orders (ties on
+ * {@code createdAt} are broken by id), which keyset pagination requires.
+ */
+public enum UserDirectorySort {
+    ID("id"),
+    CREATED_AT("createdAt");
+
+    private final String param;
+
+    UserDirectorySort(String param) {
+        this.param = param;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public static UserDirectorySort fromParam(String param) {
+        for (UserDirectorySort sort : values()) {
+            if (sort.param.equalsIgnoreCase(param)) {
+                return sort;
+            }
+        }
+        throw new BadRequestException("Invalid sort. Must be id or createdAt.");
+    }
+}
@@ -0,0 +1,12 @@
+package com.opencode.alumxbackend.users.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserIdentifiersView {
+    private final Long id;
+    private final String email;
+    private final String username;
+}
@@ -1,5 +1,6 @@
 package com.opencode.alumxbackend.users.dto;
 
+import com.opencode.alumxbackend.users.model.UserRole;
 import lombok.*;
 
 import java.util.List;
@@ -16,6 +17,7 @@ public class UserProfileResponse {
     private String username;
     private String name;
     private String email;
+    private UserRole role;
 
     // Professional summary
     private String about;
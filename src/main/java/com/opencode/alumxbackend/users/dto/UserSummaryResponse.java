@@ -0,0 +1,38 @@
+package com.opencode.alumxbackend.users.dto;
+
+import com.opencode.alumxbackend.users.model.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * What a list row shows for a user (chat lists, participants, connections,
+ * search results), without the attribute lists of the full profile.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class UserSummaryResponse {
+    private Long id;
+    private String username;
+    private String name;
+    private UserRole role;
+    private String currentCompany;
+    private String currentRole;
+    private String location;
+
+    public static UserSummaryResponse of(UserProfileResponse profile) {
+        return new UserSummaryResponse(
+                profile.getId(),
+                profile.getUsername(),
+                profile.getName(),
+                profile.getRole(),
+                profile.getCurrentCompany(),
+                profile.getCurrentRole(),
+                profile.getLocation());
+    }
+}
@@ -0,0 +1,25 @@
+package com.opencode.alumxbackend.users.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * A profile together with the {@code updatedAt} of the row it was read from.
+ * Every representation built from the same profile shares this version, so it
+ * doubles as the source of the HTTP ETag for the profile and aura endpoints.
+ */
+public record VersionedUserProfile(
+        UserProfileResponse profile,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Strong ETag for one representation of this profile, e.g. {@code "profile-1o2p3q"}.
+     * The representation name keeps the profile and aura ETags distinct.
+     */
+    public String etag(String representation) {
+        long micros = updatedAt == null ? 0
+                : updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + updatedAt.getNano() / 1_000;
+        return "\"" + representation + "-" + Long.toString(micros, 36) + "\"";
+    }
+}
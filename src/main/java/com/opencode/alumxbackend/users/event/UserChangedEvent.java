@@ -0,0 +1,20 @@
+package com.opencode.alumxbackend.users.event;
+
+/**
+ * Published whenever a {@link com.opencode.alumxbackend.users.model.User} row is
+ * inserted, updated or deleted, whichever code path did it. Carries only scalar
+ * fields so listeners never touch lazy collections while Hibernate is flushing.
+ */
+public record UserChangedEvent(
+        Long userId,
+        String email,
+        String username,
+        ChangeType type
+) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,42 @@
+package com.opencode.alumxbackend.users.event;
+
+import com.opencode.alumxbackend.users.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on {@link User} that turns entity lifecycle callbacks into
+ * {@link UserChangedEvent}s, so in-memory indexes stay in sync even when users
+ * are saved straight through the repository.
+ */
+@Component
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onCreated(User user) {
+        publish(user, UserChangedEvent.ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(User user) {
+        publish(user, UserChangedEvent.ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(User user) {
+        publish(user, UserChangedEvent.ChangeType.DELETED);
+    }
+
+    private void publish(User user, UserChangedEvent.ChangeType type) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail(), user.getUsername(), type));
+    }
+}
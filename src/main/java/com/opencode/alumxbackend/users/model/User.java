@@ -7,9 +7,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import com.opencode.alumxbackend.jobposts.model.JobPostComment;
+import com.opencode.alumxbackend.users.event.UserEntityListener;
 
 @Entity
-@Table(name = "users")
+@EntityListeners(UserEntityListener.class)
+@Table(name = "users", indexes = {
+        // keyset pagination of the user directory by creation time
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,73 @@
+package com.opencode.alumxbackend.users.repository;
+
+import com.opencode.alumxbackend.users.dto.UserProfileResponse;
+import com.opencode.alumxbackend.users.dto.UserProfileUpdateRequest;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * The twelve {@code List<String>} profile attributes of
+ * {@link com.opencode.alumxbackend.users.model.User}, with the collection
+ * table each one is stored in and how it maps onto the profile DTOs.
+ */
+public enum ProfileAttribute {
+    SKILLS("user_skills", "skill",
+            UserProfileUpdateRequest::getSkills, UserProfileResponse.UserProfileResponseBuilder::skills),
+    EDUCATION("user_education", "education",
+            UserProfileUpdateRequest::getEducation, UserProfileResponse.UserProfileResponseBuilder::education),
+    TECH_STACK("user_tech_stack", "tech",
+            UserProfileUpdateRequest::getTechStack, UserProfileResponse.UserProfileResponseBuilder::techStack),
+    FRAMEWORKS("user_frameworks", "framework",
+            UserProfileUpdateRequest::getFrameworks, UserProfileResponse.UserProfileResponseBuilder::frameworks),
+    LANGUAGES("user_languages", "language",
+            UserProfileUpdateRequest::getLanguages, UserProfileResponse.UserProfileResponseBuilder::languages),
+    COMMUNICATION_SKILLS("user_communication_skills", "communication_skill",
+            UserProfileUpdateRequest::getCommunicationSkills, UserProfileResponse.UserProfileResponseBuilder::communicationSkills),
+    SOFT_SKILLS("user_soft_skills", "soft_skill",
+            UserProfileUpdateRequest::getSoftSkills, UserProfileResponse.UserProfileResponseBuilder::softSkills),
+    EXPERIENCE("user_experience", "experience",
+            UserProfileUpdateRequest::getExperience, UserProfileResponse.UserProfileResponseBuilder::experience),
+    INTERNSHIPS("user_internships", "internship",
+            UserProfileUpdateRequest::getInternships, UserProfileResponse.UserProfileResponseBuilder::internships),
+    PROJECTS("user_projects", "project",
+            UserProfileUpdateRequest::getProjects, UserProfileResponse.UserProfileResponseBuilder::projects),
+    CERTIFICATIONS("user_certifications", "certification",
+            UserProfileUpdateRequest::getCertifications, UserProfileResponse.UserProfileResponseBuilder::certifications),
+    HOBBIES("user_hobbies", "hobby",
+            UserProfileUpdateRequest::getHobbies, UserProfileResponse.UserProfileResponseBuilder::hobbies);
+
+    private final String table;
+    private final String column;
+    private final Function<UserProfileUpdateRequest, List<String>> requested;
+    private final BiConsumer<UserProfileResponse.UserProfileResponseBuilder, List<String>> setter;
+
+    ProfileAttribute(String table, String column,
+                     Function<UserProfileUpdateRequest, List<String>> requested,
+                     BiConsumer<UserProfileResponse.UserProfileResponseBuilder, List<String>> setter) {
+        this.table = table;
+        this.column = column;
+        this.requested = requested;
+        this.setter = setter;
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    /**
+     * The new values asked for in an update, or null if the request leaves this attribute alone.
+     */
+    public List<String> requestedIn(UserProfileUpdateRequest request) {
+        return requested.apply(request);
+    }
+
+    public void setOn(UserProfileResponse.UserProfileResponseBuilder builder, List<String> values) {
+        setter.accept(builder, values);
+    }
+}
@@ -0,0 +1,59 @@
+package com.opencode.alumxbackend.users.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows to delete and insert to turn one attribute's stored values into the
+ * requested ones, treating both as multisets (the tables have no row id, so
+ * order is not stored and duplicates are allowed).
+ *
+ * A value whose count goes down is deleted outright and re-inserted the
+ * remaining number of times, since a row cannot be told apart from its
+ * duplicates.
+ *
+ * @param deletedValues values whose rows are all deleted
+ * @param insertedValues rows to insert, one entry per row
+ */
+public record ProfileAttributeDelta(
+        List<String> deletedValues,
+        List<String> insertedValues
+) {
+
+    public static ProfileAttributeDelta between(List<String> current, List<String> desired) {
+        Map<String, Integer> before = counts(current);
+        Map<String, Integer> after = counts(desired);
+
+        List<String> deleted = new ArrayList<>();
+        List<String> inserted = new ArrayList<>();
+        before.forEach((value, count) -> {
+            int remaining = after.getOrDefault(value, 0);
+            if (remaining < count) {
+                deleted.add(value);
+                inserted.addAll(Collections.nCopies(remaining, value));
+            }
+        });
+        after.forEach((value, count) -> {
+            int existing = before.getOrDefault(value, 0);
+            if (count > existing) {
+                inserted.addAll(Collections.nCopies(count - existing, value));
+            }
+        });
+        return new ProfileAttributeDelta(deleted, inserted);
+    }
+
+    public boolean isEmpty() {
+        return deletedValues.isEmpty() && insertedValues.isEmpty();
+    }
+
+    private static Map<String, Integer> counts(List<String> values) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String value : values) {
+            counts.merge(value, 1, Integer::sum);
+        }
+        return counts;
+    }
+}
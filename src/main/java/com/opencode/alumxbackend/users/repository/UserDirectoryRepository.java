@@ -0,0 +1,18 @@
+package com.opencode.alumxbackend.users.repository;
+
+import com.opencode.alumxbackend.users.dto.UserDirectoryCursor;
+import com.opencode.alumxbackend.users.dto.UserDirectorySort;
+import com.opencode.alumxbackend.users.dto.UserResponseDto;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface UserDirectoryRepository {
+    List<UserResponseDto> findPage(UserDirectorySort sort, UserDirectoryCursor after, int limit);
+
+    /**
+     * Forward-only stream over the directory. Must be consumed and closed inside
+     * the transaction that opened it.
+     */
+    Stream<UserResponseDto> stream(UserDirectorySort sort, UserDirectoryCursor after);
+}
@@ -0,0 +1,74 @@
+package com.opencode.alumxbackend.users.repository;
+
+import com.opencode.alumxbackend.users.dto.UserDirectoryCursor;
+import com.opencode.alumxbackend.users.dto.UserDirectorySort;
+import com.opencode.alumxbackend.users.dto.UserResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Keyset queries over the users table that select straight into
+ * {@link UserResponseDto}, so no entities (or their collections) are loaded
+ * and the persistence context stays empty however many rows are read.
+ */
+@Repository
+public class UserDirectoryRepositoryImpl implements UserDirectoryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int streamFetchSize;
+
+    public UserDirectoryRepositoryImpl(@Value("${users.directory.stream-fetch-size:500}") int streamFetchSize) {
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    @Override
+    public List<UserResponseDto> findPage(UserDirectorySort sort, UserDirectoryCursor after, int limit) {
+        return query(sort, after)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<UserResponseDto> stream(UserDirectorySort sort, UserDirectoryCursor after) {
+        // With a fetch size the Postgres driver reads through a server-side cursor
+        // instead of buffering the whole result
+        return query(sort, after)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize)
+                .getResultStream();
+    }
+
+    private TypedQuery<UserResponseDto> query(UserDirectorySort sort, UserDirectoryCursor after) {
+        StringBuilder jpql = new StringBuilder("""
+    SELECT new com.opencode.alumxbackend.users.dto.UserResponseDto(
+        u.id, u.name, u.email, u.role, u.createdAt
+    )
+    FROM User u
+""");
+
+        boolean byCreatedAt = sort == UserDirectorySort.CREATED_AT;
+        if (after != null) {
+            jpql.append(byCreatedAt
+                    ? "WHERE u.createdAt > :afterCreatedAt OR (u.createdAt = :afterCreatedAt AND u.id > :afterId)\n"
+                    : "WHERE u.id > :afterId\n");
+        }
+        jpql.append(byCreatedAt ? "ORDER BY u.createdAt, u.id" : "ORDER BY u.id");
+
+        TypedQuery<UserResponseDto> query = entityManager.createQuery(jpql.toString(), UserResponseDto.class);
+        if (after != null) {
+            query.setParameter("afterId", after.id());
+            if (byCreatedAt) {
+                query.setParameter("afterCreatedAt", after.createdAt());
+            }
+        }
+        return query;
+    }
+}
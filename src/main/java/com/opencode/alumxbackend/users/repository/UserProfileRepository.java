@@ -0,0 +1,31 @@
+package com.opencode.alumxbackend.users.repository;
+
+import com.opencode.alumxbackend.users.dto.VersionedUserProfile;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface UserProfileRepository {
+    Optional<VersionedUserProfile> findProfileById(Long userId);
+
+    /**
+     * Profiles for several users in two statements; ids with no user are absent from the result.
+     */
+    Map<Long, VersionedUserProfile> findProfilesByIds(Collection<Long> userIds);
+
+    /**
+     * All twelve attribute lists of a user in one statement; attributes with no rows map to an empty list.
+     */
+    Map<ProfileAttribute, List<String>> findAttributesById(Long userId);
+
+    /**
+     * Writes only the rows that differ between {@code current} and {@code desired}, batched per table.
+     *
+     * @return number of rows deleted and inserted
+     */
+    int applyAttributeChanges(Long userId,
+                              Map<ProfileAttribute, List<String>> current,
+                              Map<ProfileAttribute, List<String>> desired);
+}
@@ -0,0 +1,175 @@
+package com.opencode.alumxbackend.users.repository;
+
+import com.opencode.alumxbackend.users.dto.UserProfileResponse;
+import com.opencode.alumxbackend.users.dto.VersionedUserProfile;
+import com.opencode.alumxbackend.users.model.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Loads full profiles in two statements, however many users are asked for:
+ * one for the users' columns and one UNION ALL over the twelve attribute
+ * collection tables. Going through the entity would issue a separate SELECT
+ * for every lazy collection of every user.
+ *
+ * Updates go through JDBC for the same reason: the collections are bags, so
+ * Hibernate would delete and re-insert every row of any list that changed.
+ */
+@Repository
+public class UserProfileRepositoryImpl implements UserProfileRepository {
+
+    private static final ProfileAttribute[] ATTRIBUTES = ProfileAttribute.values();
+
+    // Each row is tagged with its attribute's ordinal
+    private static final String ATTRIBUTES_SQL = buildAttributesSql();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserProfileRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VersionedUserProfile> findProfileById(Long userId) {
+        return Optional.ofNullable(findProfilesByIds(List.of(userId)).get(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, VersionedUserProfile> findProfilesByIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String jpql = """
+    SELECT u.id, u.username, u.name, u.email,
+           u.about, u.currentCompany, u.currentRole, u.location,
+           u.linkedinUrl, u.githubUrl, u.portfolioUrl,
+           u.profileCompleted, u.updatedAt, u.role
+    FROM User u
+    WHERE u.id IN :userIds
+""";
+
+        List<Object[]> rows = entityManager.createQuery(jpql, Object[].class)
+                .setParameter("userIds", userIds)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Map<ProfileAttribute, List<String>>> attributes =
+                findAttributesByIds(rows.stream().map(row -> (Long) row[0]).toList());
+
+        Map<Long, VersionedUserProfile> profiles = new HashMap<>(rows.size() * 2);
+        for (Object[] user : rows) {
+            Long id = (Long) user[0];
+            UserProfileResponse.UserProfileResponseBuilder profile = UserProfileResponse.builder()
+                    .id(id)
+                    .username((String) user[1])
+                    .name((String) user[2])
+                    .email((String) user[3])
+                    .role((UserRole) user[13])
+                    .about((String) user[4])
+                    .currentCompany((String) user[5])
+                    .currentRole((String) user[6])
+                    .location((String) user[7])
+                    .linkedinUrl((String) user[8])
+                    .githubUrl((String) user[9])
+                    .portfolioUrl((String) user[10])
+                    .profileCompleted((Boolean) user[11]);
+            attributes.get(id).forEach((attribute, values) -> attribute.setOn(profile, List.copyOf(values)));
+            profiles.put(id, new VersionedUserProfile(profile.build(), (LocalDateTime) user[12]));
+        }
+        return profiles;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<ProfileAttribute, List<String>> findAttributesById(Long userId) {
+        return findAttributesByIds(List.of(userId)).get(userId);
+    }
+
+    private Map<Long, Map<ProfileAttribute, List<String>>> findAttributesByIds(Collection<Long> userIds) {
+        Map<Long, Map<ProfileAttribute, List<String>>> attributes = new HashMap<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            Map<ProfileAttribute, List<String>> lists = new EnumMap<>(ProfileAttribute.class);
+            for (ProfileAttribute attribute : ATTRIBUTES) {
+                lists.put(attribute, new ArrayList<>());
+            }
+            attributes.put(userId, lists);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(ATTRIBUTES_SQL)
+                .setParameter("userIds", userIds)
+                .getResultList();
+        for (Object[] row : rows) {
+            Long userId = ((Number) row[0]).longValue();
+            attributes.get(userId).get(ATTRIBUTES[((Number) row[1]).intValue()]).add((String) row[2]);
+        }
+        return attributes;
+    }
+
+    @Override
+    @Transactional
+    public int applyAttributeChanges(Long userId,
+                                     Map<ProfileAttribute, List<String>> current,
+                                     Map<ProfileAttribute, List<String>> desired) {
+        int rows = 0;
+        for (Map.Entry<ProfileAttribute, List<String>> change : desired.entrySet()) {
+            ProfileAttribute attribute = change.getKey();
+            ProfileAttributeDelta delta = ProfileAttributeDelta.between(
+                    current.getOrDefault(attribute, List.of()), change.getValue());
+
+            if (!delta.deletedValues().isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "DELETE FROM " + attribute.table() + " WHERE user_id = ? AND " + attribute.column() + " = ?",
+                        rowArgs(userId, delta.deletedValues()));
+            }
+            if (!delta.insertedValues().isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO " + attribute.table() + " (user_id, " + attribute.column() + ") VALUES (?, ?)",
+                        rowArgs(userId, delta.insertedValues()));
+            }
+            rows += delta.deletedValues().size() + delta.insertedValues().size();
+        }
+        return rows;
+    }
+
+    private static List<Object[]> rowArgs(Long userId, List<String> values) {
+        List<Object[]> args = new ArrayList<>(values.size());
+        for (String value : values) {
+            args.add(new Object[]{userId, value});
+        }
+        return args;
+    }
+
+    private static String buildAttributesSql() {
+        StringBuilder sql = new StringBuilder();
+        for (ProfileAttribute attribute : ATTRIBUTES) {
+            if (attribute.ordinal() > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("SELECT user_id, ").append(attribute.ordinal()).append(" AS attribute_index, ")
+                    .append(attribute.column()).append(" AS attribute_value FROM ")
+                    .append(attribute.table()).append(" WHERE user_id IN (:userIds)");
+        }
+        return sql.toString();
+    }
+}
@@ -1,9 +1,19 @@
 package com.opencode.alumxbackend.users.repository;
 
+import com.opencode.alumxbackend.users.dto.UserCredentialsView;
+import com.opencode.alumxbackend.users.dto.UserIdentifiersView;
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
 import com.opencode.alumxbackend.users.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -22,6 +32,50 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     boolean existsByUsername(String username);
 
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
     long countByIdIn(Set<Long> ids);
 
+    // Login lookup: one query over the two unique (indexed) columns, no entity or collections
+    @Query("""
+        SELECT new com.opencode.alumxbackend.users.dto.UserCredentialsView(
+            u.id, u.email, u.username, u.name, u.role, u.passwordHash
+        )
+        FROM User u
+        WHERE u.email = :identifier OR u.username = :identifier
+        """)
+    List<UserCredentialsView> findCredentialsByEmailOrUsername(@Param("identifier") String identifier);
+
+    @Query("""
+        SELECT new com.opencode.alumxbackend.users.dto.UserIdentifiersView(u.id, u.email, u.username)
+        FROM User u
+        WHERE u.id > :afterId
+        ORDER BY u.id
+        """)
+    List<UserIdentifiersView> findIdentifiersAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+        SELECT new com.opencode.alumxbackend.users.dto.UserIdentifiersView(u.id, u.email, u.username)
+        FROM User u
+        WHERE u.username IN :usernames
+        """)
+    List<UserIdentifiersView> findIdentifiersByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @Query("""
+        SELECT new com.opencode.alumxbackend.users.dto.UserSummaryResponse(
+            u.id, u.username, u.name, u.role, u.currentCompany, u.currentRole, u.location
+        )
+        FROM User u
+        WHERE u.id IN :ids
+        """)
+    List<UserSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash WHERE u.id = :userId AND u.passwordHash = :oldHash")
+    int updatePasswordHash(@Param("userId") Long userId,
+                           @Param("oldHash") String oldHash,
+                           @Param("newHash") String newHash);
+
 }
@@ -0,0 +1,107 @@
+package com.opencode.alumxbackend.users.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Immutable, precompiled form of {@code aura-colors.json}.
+ *
+ * Every category becomes a flat map from normalized value (trimmed,
+ * lower-case) to color, and the nested {@code careerFields} maps are merged
+ * into one fallback map, keeping the first color when several fields share a
+ * value. A lookup is then at most two hash probes with no casts.
+ *
+ * The version is a checksum of the source bytes, so identical files give the
+ * same version across reloads and restarts.
+ */
+final class AuraColorIndex {
+
+    static final AuraColorIndex EMPTY = new AuraColorIndex(Map.of(), Map.of(), 0L);
+
+    private static final String CAREER_FIELDS = "careerFields";
+
+    private final Map<String, Map<String, String>> categories;
+    private final Map<String, String> careerFields;
+    private final long version;
+
+    private AuraColorIndex(Map<String, Map<String, String>> categories, Map<String, String> careerFields, long version) {
+        this.categories = categories;
+        this.careerFields = careerFields;
+        this.version = version;
+    }
+
+    static AuraColorIndex compile(byte[] json, ObjectMapper mapper) throws IOException {
+        JsonNode root = mapper.readTree(json);
+        if (root == null || !root.isObject()) {
+            throw new IOException("aura colors must be a JSON object");
+        }
+
+        Map<String, Map<String, String>> categories = new HashMap<>();
+        Map<String, String> careerFields = new HashMap<>();
+        for (Map.Entry<String, JsonNode> category : root.properties()) {
+            if (category.getKey().equals(CAREER_FIELDS)) {
+                for (JsonNode field : category.getValue()) {
+                    collectColors(field, careerFields);
+                }
+            } else {
+                Map<String, String> colors = new HashMap<>();
+                collectColors(category.getValue(), colors);
+                categories.put(category.getKey(), Map.copyOf(colors));
+            }
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(json);
+        return new AuraColorIndex(Map.copyOf(categories), Map.copyOf(careerFields), checksum.getValue());
+    }
+
+    /**
+     * Configured color for a value, or null if neither its category nor any career field lists it.
+     */
+    String lookup(Map<String, String> category, String value) {
+        String key = normalize(value);
+        String color = category.get(key);
+        return color != null ? color : careerFields.get(key);
+    }
+
+    /**
+     * The value-to-color map of one category, resolved once per batch of lookups.
+     */
+    Map<String, String> category(String name) {
+        return categories.getOrDefault(name, Map.of());
+    }
+
+    long version() {
+        return version;
+    }
+
+    int size() {
+        int size = careerFields.size();
+        for (Map<String, String> colors : categories.values()) {
+            size += colors.size();
+        }
+        return size;
+    }
+
+    static String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // Only string leaves are colors; anything else in a category is ignored
+    private static void collectColors(JsonNode node, Map<String, String> into) {
+        if (node == null || !node.isObject()) {
+            return;
+        }
+        for (Map.Entry<String, JsonNode> entry : node.properties()) {
+            if (entry.getValue().isTextual()) {
+                into.putIfAbsent(normalize(entry.getKey()), entry.getValue().asText());
+            }
+        }
+    }
+}
@@ -7,4 +7,9 @@ import java.util.List;
 public interface AuraColorService {
     String getColor(String category, String value);
     List<AuraElement> mapToColorAwareElements(String category, List<String> values);
+
+    /**
+     * Identifies the color mapping currently in use; changes whenever a different mapping is loaded.
+     */
+    long getMappingVersion();
 }
\ No newline at end of file
@@ -1,41 +1,77 @@
 package com.opencode.alumxbackend.users.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opencode.alumxbackend.common.cache.BoundedMap;
 import com.opencode.alumxbackend.users.dto.AuraElement;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Resolves aura element colors from a precompiled {@link AuraColorIndex}.
+ *
+ * The mapping comes from {@code aura-colors.json} on the classpath, or from
+ * {@code users.aura.colors-file} when set. An external file is watched and
+ * recompiled when it changes; the new index replaces the old one in a single
+ * write, and a file that fails to parse leaves the current mapping in place.
+ * Colors generated for unknown values are memoized in a bounded map.
+ */
 @Service
 @Slf4j
-public class AuraColorServiceImpl implements AuraColorService {
+public class AuraColorServiceImpl implements AuraColorService, MeterBinder {
 
     private static final String DEFAULT_COLOR = "#808080";
-    private Map<String, Object> colorMappings;
+    private static final String CLASSPATH_COLORS = "aura-colors.json";
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
 
-    @PostConstruct
-    public void init() {
-        loadColorMappings();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Path colorsFile;
+    private final BoundedMap<String, String> generatedColors;
+
+    private volatile AuraColorIndex index = AuraColorIndex.EMPTY;
+    private WatchService watchService;
+
+    private final LongAdder reloads = new LongAdder();
+
+    public AuraColorServiceImpl(
+            @Value("${users.aura.colors-file:}") String colorsFile,
+            @Value("${users.aura.generated-color-cache-size:10000}") int generatedCacheSize) {
+        this.colorsFile = colorsFile == null || colorsFile.isBlank() ? null : Path.of(colorsFile).toAbsolutePath();
+        this.generatedColors = new BoundedMap<>(generatedCacheSize);
     }
 
-    private void loadColorMappings() {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            ClassPathResource resource = new ClassPathResource("aura-colors.json");
-            InputStream inputStream = resource.getInputStream();
-            colorMappings = mapper.readValue(inputStream, new TypeReference<Map<String, Object>>() {});
-            log.info("Loaded aura color mappings successfully");
-        } catch (IOException e) {
-            log.error("Failed to load aura-colors.json, using empty mappings", e);
-            colorMappings = new HashMap<>();
+    @PostConstruct
+    public void init() {
+        if (colorsFile == null) {
+            loadClasspathMappings();
+            return;
         }
+        reload();
+        watch();
     }
 
     @Override
@@ -43,54 +79,128 @@ public class AuraColorServiceImpl implements AuraColorService {
         if (value == null || value.isBlank()) {
             return DEFAULT_COLOR;
         }
+        AuraColorIndex current = index;
+        return resolve(current, current.category(category), value);
+    }
 
-        Object categoryObj = colorMappings.get(category);
-        if (categoryObj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> categoryColors = (Map<String, Object>) categoryObj;
-            Object color = categoryColors.get(value);
-            if (color instanceof String) {
-                return (String) color;
-            }
+    @Override
+    public List<AuraElement> mapToColorAwareElements(String category, List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        // Check nested careerFields
-        Object careerFieldsObj = colorMappings.get("careerFields");
-        if (careerFieldsObj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> careerFields = (Map<String, Object>) careerFieldsObj;
-            for (Object fieldValue : careerFields.values()) {
-                if (fieldValue instanceof Map) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> nestedColors = (Map<String, Object>) fieldValue;
-                    Object color = nestedColors.get(value);
-                    if (color instanceof String) {
-                        return (String) color;
-                    }
-                }
+        AuraColorIndex current = index;
+        Map<String, String> colors = current.category(category);
+        List<AuraElement> elements = new ArrayList<>(values.size());
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                elements.add(AuraElement.builder()
+                        .name(value)
+                        .color(resolve(current, colors, value))
+                        .build());
             }
         }
+        return elements;
+    }
 
-        // Generate deterministic color for unknown values
-        return generateDeterministicColor(value);
+    @Override
+    public long getMappingVersion() {
+        return index.version();
+    }
+
+    /**
+     * Recompiles the external colors file; keeps the current mapping if it cannot be read.
+     */
+    void reload() {
+        try {
+            index = AuraColorIndex.compile(Files.readAllBytes(colorsFile), mapper);
+            reloads.increment();
+            log.info("Loaded aura color mappings from {} ({} colors)", colorsFile, index.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to load aura colors from {}, keeping the current mappings", colorsFile, e);
+        }
     }
 
     @Override
-    public List<AuraElement> mapToColorAwareElements(String category, List<String> values) {
-        if (values == null || values.isEmpty()) {
-            return Collections.emptyList();
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("aura.colors.reloads", reloads, LongAdder::doubleValue)
+                .description("Times the aura color mapping was (re)compiled")
+                .register(registry);
+        Gauge.builder("aura.colors.generated.cache.size", generatedColors, BoundedMap::size)
+                .description("Generated colors memoized for values missing from the mapping")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (watchService != null) {
+            watchService.close();
         }
+    }
 
-        return values.stream()
-                .filter(v -> v != null && !v.isBlank())
-                .map(value -> AuraElement.builder()
-                        .name(value)
-                        .color(getColor(category, value))
-                        .build())
-                .collect(Collectors.toList());
+    private String resolve(AuraColorIndex current, Map<String, String> category, String value) {
+        String color = current.lookup(category, value);
+        if (color != null) {
+            return color;
+        }
+
+        color = generatedColors.get(value);
+        if (color == null) {
+            color = generateDeterministicColor(value);
+            generatedColors.put(value, color);
+        }
+        return color;
+    }
+
+    private void loadClasspathMappings() {
+        try (InputStream inputStream = new ClassPathResource(CLASSPATH_COLORS).getInputStream()) {
+            index = AuraColorIndex.compile(inputStream.readAllBytes(), mapper);
+            reloads.increment();
+            log.info("Loaded aura color mappings successfully");
+        } catch (IOException e) {
+            log.error("Failed to load aura-colors.json, using empty mappings", e);
+        }
+    }
+
+    // Watches the parent directory: editors often replace the file rather than write to it
+    private void watch() {
+        Path directory = colorsFile.getParent();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.error("Cannot watch {} for aura color changes, hot reload disabled", directory, e);
+            return;
+        }
+
+        Thread watcher = new Thread(() -> {
+            try {
+                while (true) {
+                    WatchKey key = watchService.take();
+                    boolean changed = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (colorsFile.getFileName().equals(event.context())) {
+                            changed = true;
+                        }
+                    }
+                    if (changed) {
+                        reload();
+                    }
+                    if (!key.reset()) {
+                        log.warn("Stopped watching {}, directory is no longer accessible", directory);
+                        return;
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                // shutting down
+            }
+        }, "aura-colors-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
     }
 
-    private String generateDeterministicColor(String value) {
+    private static String generateDeterministicColor(String value) {
         int hash = value.hashCode();
         int r = (hash & 0xFF0000) >> 16;
         int g = (hash & 0x00FF00) >> 8;
@@ -99,6 +209,6 @@ public class AuraColorServiceImpl implements AuraColorService {
         r = Math.max(80, r);
         g = Math.max(80, g);
         b = Math.max(80, b);
-        return String.format("#%02X%02X%02X", r, g, b);
+        return "#" + HEX.toHexDigits((byte) r) + HEX.toHexDigits((byte) g) + HEX.toHexDigits((byte) b);
     }
-}
\ No newline at end of file
+}
@@ -2,10 +2,19 @@ package com.opencode.alumxbackend.users.service;
 
 import com.opencode.alumxbackend.users.dto.ColorAwareAuraResponse;
 import com.opencode.alumxbackend.users.dto.UserAuraResponse;
+import com.opencode.alumxbackend.users.dto.VersionedUserProfile;
+
+import java.util.Collection;
+import java.util.Map;
 
 public interface UserAuraService {
 
-    UserAuraResponse getAuraResponse(Long userId);
+    UserAuraResponse getAuraResponse(VersionedUserProfile profile);
     
-    ColorAwareAuraResponse getColorAwareAuraResponse(Long userId);
+    ColorAwareAuraResponse getColorAwareAuraResponse(VersionedUserProfile profile);
+
+    /**
+     * Colored auras keyed by user id, in the order the ids were given; unknown ids are left out.
+     */
+    Map<Long, ColorAwareAuraResponse> getColorAwareAuras(Collection<Long> userIds);
 }
@@ -1,63 +1,151 @@
 package com.opencode.alumxbackend.users.service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.opencode.alumxbackend.common.cache.BoundedMap;
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
 import com.opencode.alumxbackend.users.dto.ColorAwareAuraResponse;
 import com.opencode.alumxbackend.users.dto.UserAuraResponse;
-import com.opencode.alumxbackend.users.model.User;
-import com.opencode.alumxbackend.users.repository.UserRepository;
+import com.opencode.alumxbackend.users.dto.UserProfileResponse;
+import com.opencode.alumxbackend.users.dto.VersionedUserProfile;
+import com.opencode.alumxbackend.users.event.UserChangedEvent;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
+/**
+ * Builds aura responses from cached profiles.
+ *
+ * Colored auras are computed once per user version and kept in a bounded map.
+ * An entry is only reused while both the profile's {@code updatedAt} and the
+ * color mapping version still match, so a stale entry is never served even
+ * before the change event removes it.
+ */
 @Service
-@RequiredArgsConstructor
-public class UserAuraServiceImpl implements UserAuraService {
+public class UserAuraServiceImpl implements UserAuraService, MeterBinder {
+
+    static final int MAX_BATCH_SIZE = 100;
 
-    private final UserRepository userRepository;
     private final AuraColorService auraColorService;
+    private final UserProfileCache userProfileCache;
+    private final BoundedMap<Long, CachedAura> coloredAuras;
 
-    @Override
-    public UserAuraResponse getAuraResponse(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private record CachedAura(LocalDateTime updatedAt, long mappingVersion, ColorAwareAuraResponse aura) {
+    }
+
+    public UserAuraServiceImpl(
+            AuraColorService auraColorService,
+            UserProfileCache userProfileCache,
+            @Value("${users.aura.cache.max-entries:10000}") int maxEntries) {
+        this.auraColorService = auraColorService;
+        this.userProfileCache = userProfileCache;
+        this.coloredAuras = new BoundedMap<>(maxEntries);
+    }
 
+    @Override
+    public UserAuraResponse getAuraResponse(VersionedUserProfile versionedProfile) {
+        UserProfileResponse profile = versionedProfile.profile();
         return UserAuraResponse.builder()
-                .skills(nullSafe(user.getSkills()))
-                .education(nullSafe(user.getEducation()))
-                .techStack(nullSafe(user.getTechStack()))
-                .languages(nullSafe(user.getLanguages()))
-                .frameworks(nullSafe(user.getFrameworks()))
-                .communicationSkills(nullSafe(user.getCommunicationSkills()))
-                .certifications(nullSafe(user.getCertifications()))
-                .projects(nullSafe(user.getProjects()))
-                .softSkills(nullSafe(user.getSoftSkills()))
-                .hobbies(nullSafe(user.getHobbies()))
-                .experience(nullSafe(user.getExperience()))
-                .internships(nullSafe(user.getInternships()))
+                .skills(nullSafe(profile.getSkills()))
+                .education(nullSafe(profile.getEducation()))
+                .techStack(nullSafe(profile.getTechStack()))
+                .languages(nullSafe(profile.getLanguages()))
+                .frameworks(nullSafe(profile.getFrameworks()))
+                .communicationSkills(nullSafe(profile.getCommunicationSkills()))
+                .certifications(nullSafe(profile.getCertifications()))
+                .projects(nullSafe(profile.getProjects()))
+                .softSkills(nullSafe(profile.getSoftSkills()))
+                .hobbies(nullSafe(profile.getHobbies()))
+                .experience(nullSafe(profile.getExperience()))
+                .internships(nullSafe(profile.getInternships()))
                 .build();
     }
 
     @Override
-    public ColorAwareAuraResponse getColorAwareAuraResponse(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public ColorAwareAuraResponse getColorAwareAuraResponse(VersionedUserProfile versionedProfile) {
+        Long userId = versionedProfile.profile().getId();
+        long mappingVersion = auraColorService.getMappingVersion();
+
+        CachedAura cached = coloredAuras.get(userId);
+        if (cached != null && cached.mappingVersion() == mappingVersion
+                && Objects.equals(cached.updatedAt(), versionedProfile.updatedAt())) {
+            hits.increment();
+            return cached.aura();
+        }
+        misses.increment();
+
+        ColorAwareAuraResponse aura = colorAura(versionedProfile.profile());
+        coloredAuras.put(userId, new CachedAura(versionedProfile.updatedAt(), mappingVersion, aura));
+        return aura;
+    }
+
+    @Override
+    public Map<Long, ColorAwareAuraResponse> getColorAwareAuras(Collection<Long> userIds) {
+        if (userIds.isEmpty() || userIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Between 1 and " + MAX_BATCH_SIZE + " user ids are required");
+        }
+
+        Map<Long, VersionedUserProfile> profiles = userProfileCache.getAll(userIds);
+        Map<Long, ColorAwareAuraResponse> auras = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            VersionedUserProfile profile = profiles.get(userId);
+            if (profile != null) {
+                auras.put(userId, getColorAwareAuraResponse(profile));
+            }
+        }
+        return auras;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        coloredAuras.remove(event.userId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("users.aura.cache", hits, LongAdder::doubleValue)
+                .description("Colored auras served from memory")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("users.aura.cache", misses, LongAdder::doubleValue)
+                .description("Colored auras computed because none was cached for the current version")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("users.aura.cache.size", coloredAuras, BoundedMap::size)
+                .description("Colored auras currently cached")
+                .register(registry);
+    }
 
+    private ColorAwareAuraResponse colorAura(UserProfileResponse profile) {
         return ColorAwareAuraResponse.builder()
-                .skills(auraColorService.mapToColorAwareElements("skills", user.getSkills()))
-                .education(auraColorService.mapToColorAwareElements("education", user.getEducation()))
-                .techStack(auraColorService.mapToColorAwareElements("techStack", user.getTechStack()))
-                .languages(auraColorService.mapToColorAwareElements("languages", user.getLanguages()))
-                .frameworks(auraColorService.mapToColorAwareElements("frameworks", user.getFrameworks()))
-                .communicationSkills(auraColorService.mapToColorAwareElements("softSkills", user.getCommunicationSkills()))
-                .certifications(auraColorService.mapToColorAwareElements("education", user.getCertifications()))
-                .projects(auraColorService.mapToColorAwareElements("skills", user.getProjects()))
-                .softSkills(auraColorService.mapToColorAwareElements("softSkills", user.getSoftSkills()))
-                .hobbies(auraColorService.mapToColorAwareElements("softSkills", user.getHobbies()))
-                .experience(auraColorService.mapToColorAwareElements("experience", user.getExperience()))
-                .internships(auraColorService.mapToColorAwareElements("experience", user.getInternships()))
+                .skills(auraColorService.mapToColorAwareElements("skills", profile.getSkills()))
+                .education(auraColorService.mapToColorAwareElements("education", profile.getEducation()))
+                .techStack(auraColorService.mapToColorAwareElements("techStack", profile.getTechStack()))
+                .languages(auraColorService.mapToColorAwareElements("languages", profile.getLanguages()))
+                .frameworks(auraColorService.mapToColorAwareElements("frameworks", profile.getFrameworks()))
+                .communicationSkills(auraColorService.mapToColorAwareElements("softSkills", profile.getCommunicationSkills()))
+                .certifications(auraColorService.mapToColorAwareElements("education", profile.getCertifications()))
+                .projects(auraColorService.mapToColorAwareElements("skills", profile.getProjects()))
+                .softSkills(auraColorService.mapToColorAwareElements("softSkills", profile.getSoftSkills()))
+                .hobbies(auraColorService.mapToColorAwareElements("softSkills", profile.getHobbies()))
+                .experience(auraColorService.mapToColorAwareElements("experience", profile.getExperience()))
+                .internships(auraColorService.mapToColorAwareElements("experience", profile.getInternships()))
                 .build();
     }
 
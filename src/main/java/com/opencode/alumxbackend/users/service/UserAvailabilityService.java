@@ -0,0 +1,11 @@
+package com.opencode.alumxbackend.users.service;
+
+import com.opencode.alumxbackend.users.dto.AvailabilityResponse;
+import org.springframework.dao.DataIntegrityViolationException;
+
+public interface UserAvailabilityService {
+    AvailabilityResponse checkAvailability(String username, String email);
+    boolean isUsernameAvailable(String username);
+    boolean isEmailAvailable(String email);
+    RuntimeException toDuplicateException(String email, String username, DataIntegrityViolationException cause);
+}
@@ -0,0 +1,65 @@
+package com.opencode.alumxbackend.users.service;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.users.dto.AvailabilityResponse;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Answers "is this username / email taken" for the signup form.
+ *
+ * Most keystrokes produce names nobody has registered, and the identifier
+ * Bloom filter rules those out in memory. The database is only queried when
+ * the filter reports a probable match.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserAvailabilityServiceImpl implements UserAvailabilityService {
+
+    private final UserIdentifierFilter userIdentifierFilter;
+    private final UserRepository userRepository;
+
+    @Override
+    public AvailabilityResponse checkAvailability(String username, String email) {
+        boolean hasUsername = username != null && !username.isBlank();
+        boolean hasEmail = email != null && !email.isBlank();
+        if (!hasUsername && !hasEmail) {
+            throw new BadRequestException("Provide a username or an email to check");
+        }
+
+        return AvailabilityResponse.builder()
+                .username(hasUsername ? username.trim() : null)
+                .usernameAvailable(hasUsername ? isUsernameAvailable(username.trim()) : null)
+                .email(hasEmail ? email.trim() : null)
+                .emailAvailable(hasEmail ? isEmailAvailable(email.trim()) : null)
+                .build();
+    }
+
+    @Override
+    public boolean isUsernameAvailable(String username) {
+        return !userIdentifierFilter.mightExist(username) || !userRepository.existsByUsername(username);
+    }
+
+    @Override
+    public boolean isEmailAvailable(String email) {
+        return !userIdentifierFilter.mightExist(email) || !userRepository.existsByEmail(email);
+    }
+
+    /**
+     * Registration inserts straight away and relies on the unique constraints on
+     * {@code users.email} and {@code users.username}. Only when that insert fails do
+     * we look up which of the two collided, to keep the error message specific.
+     */
+    @Override
+    public RuntimeException toDuplicateException(String email, String username, DataIntegrityViolationException cause) {
+        if (userRepository.existsByEmail(email)) {
+            return new BadRequestException("Email already exists: " + email);
+        }
+        if (userRepository.existsByUsername(username)) {
+            return new BadRequestException("Username already exists: " + username);
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,15 @@
+package com.opencode.alumxbackend.users.service;
+
+import com.opencode.alumxbackend.users.dto.UserDirectoryCursor;
+import com.opencode.alumxbackend.users.dto.UserDirectoryPage;
+import com.opencode.alumxbackend.users.dto.UserDirectorySort;
+import com.opencode.alumxbackend.users.dto.UserResponseDto;
+
+import java.util.function.Consumer;
+
+public interface UserDirectoryService {
+
+    UserDirectoryPage getPage(UserDirectorySort sort, UserDirectoryCursor after, int limit);
+
+    void streamDirectory(UserDirectorySort sort, UserDirectoryCursor after, Consumer<UserResponseDto> consumer);
+}
@@ -0,0 +1,48 @@
+package com.opencode.alumxbackend.users.service;
+
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.users.dto.UserDirectoryCursor;
+import com.opencode.alumxbackend.users.dto.UserDirectoryPage;
+import com.opencode.alumxbackend.users.dto.UserDirectorySort;
+import com.opencode.alumxbackend.users.dto.UserResponseDto;
+import com.opencode.alumxbackend.users.repository.UserDirectoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class UserDirectoryServiceImpl implements UserDirectoryService {
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final UserDirectoryRepository userDirectoryRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserDirectoryPage getPage(UserDirectorySort sort, UserDirectoryCursor after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        // one extra row tells us whether there is a next page without a COUNT
+        List<UserResponseDto> rows = userDirectoryRepository.findPage(sort, after, limit + 1);
+        if (rows.size() <= limit) {
+            return new UserDirectoryPage(rows, null);
+        }
+        List<UserResponseDto> users = rows.subList(0, limit);
+        return new UserDirectoryPage(users, UserDirectoryCursor.after(users.get(limit - 1), sort).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamDirectory(UserDirectorySort sort, UserDirectoryCursor after, Consumer<UserResponseDto> consumer) {
+        try (Stream<UserResponseDto> users = userDirectoryRepository.stream(sort, after)) {
+            users.forEach(consumer);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.opencode.alumxbackend.users.service;
+
+import com.opencode.alumxbackend.users.dto.UserIdentifiersView;
+import com.opencode.alumxbackend.users.event.UserChangedEvent;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory Bloom filter of every registered email and username.
+ *
+ * A negative answer is definitive, so login can turn away identifiers that
+ * were never registered without a database query or a BCrypt check. Until
+ * the filter has been warmed from the database it answers "maybe" for
+ * everything, so it never rejects a real user.
+ *
+ * Emails and usernames never change, so users registered through other
+ * instances are picked up by reading the users added since the last
+ * catch-up, every {@code users.identifier-filter.refresh-interval-ms}. Each
+ * catch-up reads again from where the one before started, so a registration
+ * that commits after a higher id was read is still seen. While catch-ups are
+ * failing or falling behind the filter answers "maybe" again. A user who
+ * registered through another instance can still be turned away for up to one
+ * interval after their registration commits.
+ */
+@Service
+@Slf4j
+public class UserIdentifierFilter implements MeterBinder {
+
+    private static final int WARM_UP_BATCH_SIZE = 5000;
+
+    private final UserRepository userRepository;
+    private final BloomFilter filter;
+    private final long staleAfterNanos;
+    private volatile boolean warmed;
+    private volatile long caughtUpAt;
+    // the next catch-up reads users after readFromId, up to and past lastSeenId
+    private long readFromId;
+    private long lastSeenId;
+
+    private final LongAdder rejected = new LongAdder();
+
+    public UserIdentifierFilter(
+            UserRepository userRepository,
+            @Value("${users.identifier-filter.expected-entries:1000000}") long expectedEntries,
+            @Value("${users.identifier-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${users.identifier-filter.refresh-interval-ms:1000}") long refreshIntervalMillis) {
+        this.userRepository = userRepository;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+        // one missed catch-up is tolerated, a second means the filter may be missing users
+        this.staleAfterNanos = TimeUnit.MILLISECONDS.toNanos(2 * refreshIntervalMillis);
+    }
+
+    /**
+     * @return false only if no user was ever registered with this email or username
+     */
+    public boolean mightExist(String identifier) {
+        if (!warmed || identifier == null || System.nanoTime() - caughtUpAt > staleAfterNanos) {
+            return true;
+        }
+        if (filter.mightContain(normalize(identifier))) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmUp() {
+        try {
+            long startedAt = System.nanoTime();
+            long loaded = loadAfter(0);
+            readFromId = lastSeenId;
+            caughtUpAt = startedAt;
+            warmed = true;
+            log.info("User identifier filter warmed with {} users ({} KB)", loaded, filter.sizeInBytes() / 1024);
+        } catch (RuntimeException e) {
+            log.error("Failed to warm user identifier filter, logins will always hit the database", e);
+        }
+    }
+
+    /**
+     * Adds the users registered since the last catch-up, including those
+     * registered through other instances.
+     */
+    @Scheduled(fixedDelayString = "${users.identifier-filter.refresh-interval-ms:1000}")
+    public synchronized void catchUp() {
+        if (!warmed) {
+            return;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            long seenBefore = lastSeenId;
+            loadAfter(readFromId);
+            readFromId = seenBefore;
+            caughtUpAt = startedAt;
+        } catch (RuntimeException e) {
+            log.warn("Could not catch up the user identifier filter, will retry", e);
+        }
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() != UserChangedEvent.ChangeType.DELETED) {
+            add(event.email(), event.username());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("users.identifier.filter.rejected", rejected, LongAdder::doubleValue)
+                .description("Lookups answered as unknown by the identifier Bloom filter")
+                .register(registry);
+        Gauge.builder("users.identifier.filter.size", filter, BloomFilter::sizeInBytes)
+                .description("Memory used by the identifier Bloom filter")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private long loadAfter(long afterId) {
+        long loaded = 0;
+        List<UserIdentifiersView> batch;
+        do {
+            batch = userRepository.findIdentifiersAfter(afterId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+            for (UserIdentifiersView user : batch) {
+                add(user.getEmail(), user.getUsername());
+                afterId = user.getId();
+            }
+            lastSeenId = Math.max(lastSeenId, afterId);
+            loaded += batch.size();
+        } while (batch.size() == WARM_UP_BATCH_SIZE);
+        return loaded;
+    }
+
+    private void add(String email, String username) {
+        if (email != null) {
+            filter.add(normalize(email));
+        }
+        if (username != null) {
+            filter.add(normalize(username));
+        }
+    }
+
+    // lower-casing only widens the filter, so exact-match lookups still never get a false negative
+    private static String normalize(String identifier) {
+        return identifier.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,146 @@
+package com.opencode.alumxbackend.users.service;
+
+import com.opencode.alumxbackend.users.dto.VersionedUserProfile;
+import com.opencode.alumxbackend.users.event.UserChangedEvent;
+import com.opencode.alumxbackend.users.repository.UserProfileRepository;
+import com.opencode.alumxbackend.common.cache.BoundedMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-process cache of user profiles, shared by the profile and aura
+ * endpoints.
+ *
+ * An entry is dropped once a transaction that changed the user commits. A load
+ * that was already running when some user changed is not cached, because it
+ * may have read the row before that commit. Cached profiles are shared between
+ * requests and must not be modified.
+ */
+@Component
+public class UserProfileCache implements MeterBinder {
+
+    private final UserProfileRepository userProfileRepository;
+    private final BoundedMap<Long, VersionedUserProfile> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public UserProfileCache(
+            UserProfileRepository userProfileRepository,
+            @Value("${users.profile-cache.max-entries:10000}") int maxEntries) {
+        this.userProfileRepository = userProfileRepository;
+        this.entries = new BoundedMap<>(maxEntries);
+    }
+
+    public Optional<VersionedUserProfile> get(Long userId) {
+        VersionedUserProfile cached = entries.get(userId);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+
+        long generation = invalidations.get();
+        Optional<VersionedUserProfile> loaded = userProfileRepository.findProfileById(userId);
+        loaded.ifPresent(profile -> store(userId, profile, generation));
+        return loaded;
+    }
+
+    /**
+     * Profiles for several users; the ones not cached are loaded together in one batch.
+     * Ids with no user are absent from the result.
+     */
+    public Map<Long, VersionedUserProfile> getAll(Collection<Long> userIds) {
+        Map<Long, VersionedUserProfile> profiles = new HashMap<>(userIds.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : userIds) {
+            VersionedUserProfile cached = entries.get(userId);
+            if (cached != null) {
+                profiles.put(userId, cached);
+            } else {
+                missing.add(userId);
+            }
+        }
+        hits.add(profiles.size());
+        misses.add(missing.size());
+
+        if (!missing.isEmpty()) {
+            long generation = invalidations.get();
+            userProfileRepository.findProfilesByIds(missing).forEach((userId, profile) -> {
+                store(userId, profile, generation);
+                profiles.put(userId, profile);
+            });
+        }
+        return profiles;
+    }
+
+    /**
+     * The profiles of these users that are already cached; nothing is loaded.
+     */
+    public Map<Long, VersionedUserProfile> getAllPresent(Collection<Long> userIds) {
+        Map<Long, VersionedUserProfile> profiles = new HashMap<>();
+        for (Long userId : userIds) {
+            VersionedUserProfile cached = entries.get(userId);
+            if (cached != null) {
+                profiles.put(userId, cached);
+            }
+        }
+        hits.add(profiles.size());
+        return profiles;
+    }
+
+    public void invalidate(Long userId) {
+        invalidations.incrementAndGet();
+        entries.remove(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("users.profile.cache", hits, LongAdder::doubleValue)
+                .description("Profile reads served from memory")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("users.profile.cache", misses, LongAdder::doubleValue)
+                .description("Profile reads that went to the database")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("users.profile.cache.size", entries, BoundedMap::size)
+                .description("Profiles currently cached")
+                .register(registry);
+    }
+
+    private void store(Long userId, VersionedUserProfile profile, long generation) {
+        if (!entries.isEnabled()) {
+            return;
+        }
+        entries.put(userId, profile);
+        // a change committed while we were loading; what we read may predate it
+        if (invalidations.get() != generation) {
+            entries.remove(userId, profile);
+        }
+    }
+}
@@ -3,14 +3,21 @@ package com.opencode.alumxbackend.users.service;
 import com.opencode.alumxbackend.users.dto.UserProfileResponse;
 import com.opencode.alumxbackend.users.dto.UserProfileUpdateRequest;
 import com.opencode.alumxbackend.users.dto.UserRequest;
-import com.opencode.alumxbackend.users.dto.UserResponseDto;
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import com.opencode.alumxbackend.users.dto.VersionedUserProfile;
 import com.opencode.alumxbackend.users.model.User;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserService {
     User createUser(UserRequest request);
     UserProfileResponse getUserProfile(Long id);
-    List<UserResponseDto> getAllUsers();
+    VersionedUserProfile getVersionedUserProfile(Long id);
     UserProfileResponse updateUserProfile(Long userId, UserProfileUpdateRequest request);
+
+    /**
+     * List-row summaries in the order the ids were given; unknown ids are left out.
+     */
+    List<UserSummaryResponse> getUserSummaries(Collection<Long> userIds);
 }
@@ -1,20 +1,30 @@
 package com.opencode.alumxbackend.users.service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.common.exception.Errors.ResourceNotFoundException;
 import com.opencode.alumxbackend.users.dto.UserProfileResponse;
 import com.opencode.alumxbackend.users.dto.UserProfileUpdateRequest;
 import com.opencode.alumxbackend.users.dto.UserRequest;
-import com.opencode.alumxbackend.users.dto.UserResponseDto;
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import com.opencode.alumxbackend.users.dto.VersionedUserProfile;
 import com.opencode.alumxbackend.users.model.User;
 import com.opencode.alumxbackend.users.model.UserRole;
+import com.opencode.alumxbackend.users.repository.ProfileAttribute;
+import com.opencode.alumxbackend.users.repository.UserProfileRepository;
 import com.opencode.alumxbackend.users.repository.UserRepository;
 
-import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
@@ -22,22 +32,18 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    static final int MAX_SUMMARY_BATCH = 500;
+
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final UserProfileRepository userProfileRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserAvailabilityService userAvailabilityService;
 
     @Override
     public User createUser(UserRequest request) {
 
-        // 1️⃣ Check uniqueness
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new BadRequestException("Email already exists: " + request.getEmail());
-        }
-
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new BadRequestException("Username already exists: " + request.getUsername());
-        }
-
-        // 2️⃣ Validate role
+        // 1️⃣ Validate role
         UserRole role;
         try {
             role = UserRole.valueOf(request.getRole().toUpperCase());
@@ -45,7 +51,7 @@ public class UserServiceImpl implements UserService {
             throw new BadRequestException("Invalid role. Must be STUDENT, ALUMNI, or PROFESSOR.");
         }
 
-        // 3️⃣ Optional: validate email format, password length etc.
+        // 2️⃣ Optional: validate email format, password length etc.
         if (!request.getEmail().matches("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}(\\.[A-Za-z]{2,})?$")) {
             throw new BadRequestException("Invalid email format: " + request.getEmail());
         }
@@ -54,7 +60,7 @@ public class UserServiceImpl implements UserService {
             throw new BadRequestException("Password must be at least 6 characters");
         }
 
-        // 4️⃣ Create and save user
+        // 3️⃣ Create and save user; uniqueness is enforced by the email/username constraints
         User user = User.builder()
                 .username(request.getUsername())
                 .name(request.getName())
@@ -64,84 +70,47 @@ public class UserServiceImpl implements UserService {
                 .profileCompleted(true) // default for dev
                 .build();
 
-        return userRepository.save(user);
+        try {
+            return userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw userAvailabilityService.toDuplicateException(user.getEmail(), user.getUsername(), e);
+        }
     }
 
     @Override
-    @Transactional
     public UserProfileResponse getUserProfile(Long id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
-
-        return mapToProfileDTO(user);
+        return getVersionedUserProfile(id).profile();
     }
 
     @Override
-    public List<UserResponseDto> getAllUsers() {
-        return userRepository.findAll()
-                .stream()
-                .map(this::mapToResponseDTO)
-                .toList();
+    public VersionedUserProfile getVersionedUserProfile(Long id) {
+        return userProfileCache.get(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
     }
 
-    private UserResponseDto mapToResponseDTO(User user) {
-        return UserResponseDto.builder()
-                .id(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .role(user.getRole())
-                .createdAt(user.getCreatedAt())
-                .build();
-    }
-    private UserProfileResponse mapToProfileDTO(User user) {
-        return UserProfileResponse.builder()
-                // Identity
-                .id(user.getId())
-                .username(user.getUsername())
-                .name(user.getName())
-                .email(user.getEmail())
-
-                // Professional summary
-                .about(user.getAbout())
-                .currentCompany(user.getCurrentCompany())
-                .currentRole(user.getCurrentRole())
-                .location(user.getLocation())
-
-                // Links
-                .linkedinUrl(user.getLinkedinUrl())
-                .githubUrl(user.getGithubUrl())
-                .portfolioUrl(user.getPortfolioUrl())
-
-                // Skills & background
-                .skills(copy(user.getSkills()))
-                .education(copy(user.getEducation()))
-                .techStack(copy(user.getTechStack()))
-                .frameworks(copy(user.getFrameworks()))
-                .languages(copy(user.getLanguages()))
-                .communicationSkills(copy(user.getCommunicationSkills()))
-                .softSkills(copy(user.getSoftSkills()))
-
-                // Experience
-                .experience(copy(user.getExperience()))
-                .internships(copy(user.getInternships()))
-                .projects(copy(user.getProjects()))
-                .certifications(copy(user.getCertifications()))
-
-                // Personal
-                .hobbies(copy(user.getHobbies()))
-
-                // Status
-                .profileCompleted(user.isProfileCompleted())
-                .build();
-    }
+    @Override
+    public List<UserSummaryResponse> getUserSummaries(Collection<Long> userIds) {
+        if (userIds.isEmpty() || userIds.size() > MAX_SUMMARY_BATCH) {
+            throw new BadRequestException("Between 1 and " + MAX_SUMMARY_BATCH + " user ids are required");
+        }
 
+        // Cached profiles already hold everything a summary needs; the rest come
+        // from one projected IN query that skips the attribute tables
+        Map<Long, UserSummaryResponse> summaries = new HashMap<>();
+        userProfileCache.getAllPresent(userIds)
+                .forEach((userId, profile) -> summaries.put(userId, UserSummaryResponse.of(profile.profile())));
+        if (summaries.size() < userIds.size()) {
+            List<Long> missing = userIds.stream().filter(userId -> !summaries.containsKey(userId)).toList();
+            userRepository.findSummariesByIdIn(missing)
+                    .forEach(summary -> summaries.put(summary.getId(), summary));
+        }
 
-    private List<String> copy(List<String> list) {
-        return list == null ? List.of() : List.copyOf(list);
+        return userIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
-
-
     @Transactional
     public UserProfileResponse updateUserProfile(Long userId, UserProfileUpdateRequest request){
 
@@ -175,46 +144,39 @@ public class UserServiceImpl implements UserService {
         if (request.getPortfolioUrl() != null)
             user.setPortfolioUrl(request.getPortfolioUrl());
 
-        // Skills & background
-        if (request.getSkills() != null)
-            user.setSkills(request.getSkills());
-
-        if (request.getEducation() != null)
-            user.setEducation(request.getEducation());
-
-        if (request.getTechStack() != null)
-            user.setTechStack(request.getTechStack());
-
-        if (request.getFrameworks() != null)
-            user.setFrameworks(request.getFrameworks());
-
-        if (request.getLanguages() != null)
-            user.setLanguages(request.getLanguages());
-
-        if (request.getCommunicationSkills() != null)
-            user.setCommunicationSkills(request.getCommunicationSkills());
-
-        if (request.getSoftSkills() != null)
-            user.setSoftSkills(request.getSoftSkills());
-
-        // Experience
-        if (request.getExperience() != null)
-            user.setExperience(request.getExperience());
-
-        if (request.getInternships() != null)
-            user.setInternships(request.getInternships());
-
-        if (request.getProjects() != null)
-            user.setProjects(request.getProjects());
-
-        if (request.getCertifications() != null)
-            user.setCertifications(request.getCertifications());
-
-        // Personal
-        if (request.getHobbies() != null)
-            user.setHobbies(request.getHobbies());
+        // Attribute lists: write only the rows that changed instead of letting
+        // Hibernate delete and re-insert every element of each replaced bag
+        Map<ProfileAttribute, List<String>> attributes = userProfileRepository.findAttributesById(userId);
+        Map<ProfileAttribute, List<String>> changes = new EnumMap<>(ProfileAttribute.class);
+        for (ProfileAttribute attribute : ProfileAttribute.values()) {
+            List<String> requested = attribute.requestedIn(request);
+            if (requested != null) {
+                changes.put(attribute, requested.stream().filter(Objects::nonNull).toList());
+            }
+        }
+        userProfileRepository.applyAttributeChanges(userId, attributes, changes);
+        attributes.putAll(changes);
 
+        // The attribute tables were written directly, so bump the version by hand;
+        // the resulting update evicts the cached profile once this commits
+        user.setUpdatedAt(LocalDateTime.now());
         User updatedUser = userRepository.save(user);
-        return mapToProfileDTO(updatedUser);
+
+        UserProfileResponse.UserProfileResponseBuilder profile = UserProfileResponse.builder()
+                .id(updatedUser.getId())
+                .username(updatedUser.getUsername())
+                .name(updatedUser.getName())
+                .email(updatedUser.getEmail())
+                .role(updatedUser.getRole())
+                .about(updatedUser.getAbout())
+                .currentCompany(updatedUser.getCurrentCompany())
+                .currentRole(updatedUser.getCurrentRole())
+                .location(updatedUser.getLocation())
+                .linkedinUrl(updatedUser.getLinkedinUrl())
+                .githubUrl(updatedUser.getGithubUrl())
+                .portfolioUrl(updatedUser.getPortfolioUrl())
+                .profileCompleted(updatedUser.isProfileCompleted());
+        attributes.forEach((attribute, values) -> attribute.setOn(profile, List.copyOf(values)));
+        return profile.build();
     }
 }
@@ -17,14 +17,18 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -222,6 +226,69 @@ public class AdminFunctionalityTest {
         assertThat(users.size()).isGreaterThanOrEqualTo(2); // At least admin and student
     }
 
+    @Test
+    @DisplayName("GET /api/users pages through every user with the X-Next-Cursor header")
+    void testAdminDirectoryKeysetPagination() {
+        for (String sort : List.of("id", "createdAt")) {
+            List<Long> seen = new ArrayList<>();
+            String cursor = null;
+            do {
+                String after = cursor;
+                ResponseEntity<List<UserResponseDto>> page = webClient.get()
+                        .uri(uri -> uri.path("/api/users")
+                                .queryParam("sort", sort)
+                                .queryParam("limit", 1)
+                                .queryParamIfPresent("after", Optional.ofNullable(after))
+                                .build())
+                        .header("Authorization", "Bearer " + adminToken)
+                        .retrieve()
+                        .toEntity(new ParameterizedTypeReference<List<UserResponseDto>>() {})
+                        .block();
+
+                assertThat(page.getBody()).hasSizeLessThanOrEqualTo(1);
+                page.getBody().forEach(user -> seen.add(user.getId()));
+                cursor = page.getHeaders().getFirst("X-Next-Cursor");
+            } while (cursor != null);
+
+            assertThat(seen).hasSize((int) userRepository.count()).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/users streams NDJSON when asked for it")
+    void testAdminDirectoryNdjsonStream() {
+        ResponseEntity<String> response = webClient.get()
+                .uri("/api/users")
+                .header("Authorization", "Bearer " + adminToken)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .retrieve()
+                .toEntity(String.class)
+                .block();
+
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_NDJSON)).isTrue();
+        String body = response.getBody();
+        assertThat(body).isNotNull();
+        List<String> lines = body.lines().filter(line -> !line.isBlank()).toList();
+        assertThat(lines).hasSize((int) userRepository.count());
+        assertThat(lines).anyMatch(line -> line.contains("\"admin@test.com\""));
+    }
+
+    @Test
+    @DisplayName("GET /api/users rejects a malformed cursor with 400")
+    void testAdminDirectoryRejectsBadCursor() {
+        WebClientResponseException exception = assertThrows(
+                WebClientResponseException.class,
+                () -> webClient.get()
+                        .uri("/api/users?after=not-a-cursor")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .retrieve()
+                        .toBodilessEntity()
+                        .block()
+        );
+
+        assertThat(exception.getStatusCode().value()).isEqualTo(400);
+    }
+
     @Test
     @DisplayName("Non-admin should get 403 on GET /api/users")
     void testNonAdminCannotAccessGetAllUsers() {
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -219,4 +220,29 @@ class AuthControllerTest {
         assertThat(response.getAccessToken()).isNotNull();
         assertThat(response.getAccessToken()).isNotEmpty();
     }
+
+    @Test
+    @DisplayName("Successful login upgrades a hash made with an older BCrypt cost")
+    void loginWithLegacyHash_shouldUpgradeStoredHash() throws InterruptedException {
+        String legacyHash = new BCryptPasswordEncoder(5).encode("password123");
+        testUser.setPasswordHash(legacyHash);
+        userRepository.save(testUser);
+
+        LoginResponse response = webClient.post()
+                .uri("/api/auth/login")
+                .bodyValue(new LoginRequest("test@example.com", "password123"))
+                .retrieve()
+                .bodyToMono(LoginResponse.class)
+                .block();
+        assertThat(response.getAccessToken()).isNotEmpty();
+
+        // the upgrade runs in the background after the response
+        String storedHash = legacyHash;
+        for (int i = 0; i < 100 && storedHash.equals(legacyHash); i++) {
+            Thread.sleep(50);
+            storedHash = userRepository.findById(testUser.getId()).orElseThrow().getPasswordHash();
+        }
+        assertThat(storedHash).startsWith("$2a$04$");
+        assertThat(passwordEncoder.matches("password123", storedHash)).isTrue();
+    }
 }
@@ -0,0 +1,65 @@
+package com.opencode.alumxbackend.auth;
+
+import com.opencode.alumxbackend.auth.security.JwtClaims;
+import com.opencode.alumxbackend.auth.security.JwtTokenProvider;
+import com.opencode.alumxbackend.auth.security.JwtVerificationCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "testSecretKeyForTestingPurposesOnlyMustBeAtLeast32Characters";
+
+    private JwtVerificationCache cache;
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JwtVerificationCache(100);
+        provider = new JwtTokenProvider(SECRET, 3600000, cache);
+    }
+
+    @Test
+    @DisplayName("verify returns every claim from a single parse")
+    void verifyReturnsAllClaims() {
+        String token = provider.generateToken(42L, "jane@example.com", "jane", "ALUMNI");
+
+        Optional<JwtClaims> claims = provider.verify(token);
+
+        assertThat(claims).isPresent();
+        assertThat(claims.get().userId()).isEqualTo(42L);
+        assertThat(claims.get().email()).isEqualTo("jane@example.com");
+        assertThat(claims.get().username()).isEqualTo("jane");
+        assertThat(claims.get().role()).isEqualTo("ALUMNI");
+        assertThat(claims.get().expiresAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("repeated verification is served from the cache")
+    void repeatedVerificationHitsCache() {
+        String token = provider.generateToken(42L, "jane@example.com", "jane", "ALUMNI");
+
+        JwtClaims first = provider.verify(token).orElseThrow();
+        JwtClaims second = provider.verify(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("tokens signed with another key are rejected and never cached")
+    void foreignTokenIsRejected() {
+        JwtTokenProvider other = new JwtTokenProvider(
+                "anotherSecretKeyThatIsAlsoLongEnoughForHmacSha256!!", 3600000, new JwtVerificationCache(100));
+        String token = other.generateToken(1L, "eve@example.com", "eve", "ADMIN");
+
+        assertThat(provider.verify(token)).isEmpty();
+        assertThat(provider.validateToken("not-a-jwt")).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+}
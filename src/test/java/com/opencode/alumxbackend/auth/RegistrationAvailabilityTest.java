@@ -0,0 +1,153 @@
+package com.opencode.alumxbackend.auth;
+
+import com.opencode.alumxbackend.auth.dto.RegisterRequest;
+import com.opencode.alumxbackend.auth.dto.RegisterResponse;
+import com.opencode.alumxbackend.jobposts.repository.CommentRepository;
+import com.opencode.alumxbackend.notifications.repository.NotificationRepository;
+import com.opencode.alumxbackend.users.dto.AvailabilityResponse;
+import com.opencode.alumxbackend.users.model.User;
+import com.opencode.alumxbackend.users.model.UserRole;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class RegistrationAvailabilityTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() {
+        webClient = WebClient.create("http://localhost:" + port);
+
+        commentRepository.deleteAll();
+        notificationRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userRepository.save(User.builder()
+                .username("takenuser")
+                .email("taken@example.com")
+                .name("Taken User")
+                .passwordHash(passwordEncoder.encode("password123"))
+                .role(UserRole.STUDENT)
+                .profileCompleted(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    @DisplayName("GET /api/auth/availability reports taken and free identifiers")
+    void availability_ReportsTakenAndFreeIdentifiers() {
+        AvailabilityResponse taken = availability("?username=takenuser&email=taken@example.com");
+        assertThat(taken.getUsernameAvailable()).isFalse();
+        assertThat(taken.getEmailAvailable()).isFalse();
+
+        AvailabilityResponse free = availability("?username=freshuser&email=fresh@example.com");
+        assertThat(free.getUsernameAvailable()).isTrue();
+        assertThat(free.getEmailAvailable()).isTrue();
+
+        AvailabilityResponse usernameOnly = availability("?username=takenuser");
+        assertThat(usernameOnly.getUsername()).isEqualTo("takenuser");
+        assertThat(usernameOnly.getUsernameAvailable()).isFalse();
+        assertThat(usernameOnly.getEmail()).isNull();
+        assertThat(usernameOnly.getEmailAvailable()).isNull();
+    }
+
+    @Test
+    @DisplayName("GET /api/auth/availability without a username or email returns 400")
+    void availability_NothingToCheck_ReturnsBadRequest() {
+        WebClientResponseException exception = assertThrows(
+                WebClientResponseException.class,
+                () -> availability(""));
+
+        assertThat(exception.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("A newly registered username is reported as taken")
+    void register_ThenAvailability_ReportsTaken() {
+        RegisterResponse response = register("newuser", "new@example.com");
+        assertThat(response.getUserId()).isNotNull();
+
+        assertThat(availability("?username=newuser").getUsernameAvailable()).isFalse();
+        assertThat(availability("?email=new@example.com").getEmailAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Registering a taken email returns 400 naming the email")
+    void register_DuplicateEmail_ReturnsBadRequest() {
+        WebClientResponseException exception = assertThrows(
+                WebClientResponseException.class,
+                () -> register("otheruser", "taken@example.com"));
+
+        assertThat(exception.getStatusCode().value()).isEqualTo(400);
+        assertThat(exception.getResponseBodyAsString()).contains("Email already exists: taken@example.com");
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Registering a taken username returns 400 naming the username")
+    void register_DuplicateUsername_ReturnsBadRequest() {
+        WebClientResponseException exception = assertThrows(
+                WebClientResponseException.class,
+                () -> register("takenuser", "other@example.com"));
+
+        assertThat(exception.getStatusCode().value()).isEqualTo(400);
+        assertThat(exception.getResponseBodyAsString()).contains("Username already exists: takenuser");
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    private AvailabilityResponse availability(String query) {
+        return webClient.get()
+                .uri("/api/auth/availability" + query)
+                .retrieve()
+                .bodyToMono(AvailabilityResponse.class)
+                .block();
+    }
+
+    private RegisterResponse register(String username, String email) {
+        RegisterRequest request = RegisterRequest.builder()
+                .username(username)
+                .name("Some User")
+                .email(email)
+                .password("password123")
+                .role("STUDENT")
+                .build();
+        return webClient.post()
+                .uri("/api/auth/register")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(RegisterResponse.class)
+                .block();
+    }
+}
@@ -0,0 +1,96 @@
+package com.opencode.alumxbackend.auth.service;
+
+import com.opencode.alumxbackend.auth.dto.RegisterRequest;
+import com.opencode.alumxbackend.auth.dto.RegisterResponse;
+import com.opencode.alumxbackend.auth.security.JwtTokenProvider;
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
+import com.opencode.alumxbackend.users.model.User;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import com.opencode.alumxbackend.users.service.UserAvailabilityService;
+import com.opencode.alumxbackend.users.service.UserIdentifierFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private PasswordVerificationService passwordVerificationService;
+
+    @Mock
+    private UserIdentifierFilter userIdentifierFilter;
+
+    @Mock
+    private UserAvailabilityService userAvailabilityService;
+
+    @InjectMocks
+    private AuthServiceImpl authService;
+
+    @Test
+    @DisplayName("register inserts once without checking for duplicates first")
+    void register_InsertsOnce() {
+        when(passwordEncoder.encode("password123")).thenReturn("hash");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            user.setId(7L);
+            return user;
+        });
+
+        RegisterResponse response = authService.register(request());
+
+        assertThat(response.getUserId()).isEqualTo(7L);
+        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userAvailabilityService, never()).toDuplicateException(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("register turns a unique constraint violation into the duplicate error")
+    void register_ConstraintViolation_ReportsDuplicate() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("users_email_key");
+        when(passwordEncoder.encode("password123")).thenReturn("hash");
+        when(userRepository.save(any(User.class))).thenThrow(violation);
+        when(userAvailabilityService.toDuplicateException("new@example.com", "newuser", violation))
+                .thenReturn(new BadRequestException("Email already exists: new@example.com"));
+
+        assertThatThrownBy(() -> authService.register(request()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Email already exists: new@example.com");
+        verify(userRepository, times(1)).save(any(User.class));
+    }
+
+    private static RegisterRequest request() {
+        return RegisterRequest.builder()
+                .username("newuser")
+                .name("New User")
+                .email("new@example.com")
+                .password("password123")
+                .role("STUDENT")
+                .build();
+    }
+}
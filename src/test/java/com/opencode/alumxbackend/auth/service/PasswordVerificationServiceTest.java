@@ -0,0 +1,104 @@
+package com.opencode.alumxbackend.auth.service;
+
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordVerificationServiceTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PasswordVerificationService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("A hash with an older cost is re-encoded at the configured cost")
+    void rehashIfNeeded_UpgradesLegacyHash() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        String legacyHash = new BCryptPasswordEncoder(5).encode(PASSWORD);
+        when(userRepository.updatePasswordHash(eq(1L), eq(legacyHash), anyString())).thenReturn(1);
+        service = new PasswordVerificationService(encoder, userRepository, 4, 1, 4, 5000, 4);
+
+        assertThat(service.matches(PASSWORD, legacyHash)).isTrue();
+        service.rehashIfNeeded(1L, PASSWORD, legacyHash);
+
+        verify(userRepository, timeout(5000)).updatePasswordHash(eq(1L), eq(legacyHash),
+                argThat(hash -> hash.startsWith("$2a$04$") && encoder.matches(PASSWORD, hash)));
+    }
+
+    @Test
+    @DisplayName("A hash already at the configured cost is left alone")
+    void rehashIfNeeded_CurrentHash_IsNotRewritten() throws InterruptedException {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        service = new PasswordVerificationService(encoder, userRepository, 4, 1, 4, 5000, 4);
+
+        service.rehashIfNeeded(1L, PASSWORD, encoder.encode(PASSWORD));
+        service.shutdown();
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Logins still verify while the rehash pool is saturated")
+    void matches_RehashPoolSaturated_StillVerifies() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        PasswordEncoder encoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return bcrypt.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return bcrypt.matches(rawPassword, encodedPassword);
+            }
+        };
+        String legacyHash = new BCryptPasswordEncoder(5).encode(PASSWORD);
+        service = new PasswordVerificationService(encoder, userRepository, 4, 1, 1, 5000, 1);
+
+        // one upgrade blocks the rehash thread, one fills its queue, the rest are skipped
+        for (long userId = 1; userId <= 5; userId++) {
+            service.rehashIfNeeded(userId, PASSWORD, legacyHash);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(service.matches(PASSWORD, legacyHash)).isTrue();
+            assertThat(service.matches("wrong-password", legacyHash)).isFalse();
+        }
+        release.countDown();
+    }
+}
@@ -0,0 +1,50 @@
+package com.opencode.alumxbackend.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedMapTest {
+
+    @Test
+    @DisplayName("a put into a full map frees a tenth of it")
+    void evictsATenthWhenFull() {
+        BoundedMap<Integer, String> map = new BoundedMap<>(100);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "v" + i);
+        }
+        assertThat(map.size()).isEqualTo(100);
+
+        map.put(100, "v100");
+
+        assertThat(map.size()).isEqualTo(91);
+        assertThat(map.get(100)).isEqualTo("v100");
+    }
+
+    @Test
+    @DisplayName("stale entries are dropped before live ones")
+    void dropsStaleEntriesFirst() {
+        BoundedMap<Integer, Integer> map = new BoundedMap<>(10, value -> value < 0);
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i % 2 == 0 ? -1 : i);
+        }
+
+        map.put(10, 10);
+
+        assertThat(map.size()).isEqualTo(6);
+        for (int i = 1; i < 10; i += 2) {
+            assertThat(map.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("a capacity of zero keeps nothing")
+    void disabledWithZeroCapacity() {
+        BoundedMap<Integer, String> map = new BoundedMap<>(0);
+        map.put(1, "one");
+
+        assertThat(map.isEnabled()).isFalse();
+        assertThat(map.get(1)).isNull();
+    }
+}
@@ -0,0 +1,70 @@
+package com.opencode.alumxbackend.common.ratelimit;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final RateLimitFilter filter = new RateLimitFilter(
+            new MockEnvironment()
+                    .withProperty("rate-limit.auth.capacity", "2")
+                    .withProperty("rate-limit.auth.refill-per-second", "0.5"),
+            true, 4, 300_000);
+
+    @Test
+    @DisplayName("requests over the limit get 429 with Retry-After and never reach the chain")
+    void rejectsOverLimitWithRetryAfter() throws ServletException, IOException {
+        assertThat(call("/api/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call("/api/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse rejected = call("/api/auth/login", "10.0.0.1", chain);
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(rejected.getContentAsString()).contains("Rate limit exceeded");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("each client IP and each route group has its own bucket")
+    void bucketsArePerCallerAndGroup() throws ServletException, IOException {
+        call("/api/auth/login", "10.0.0.1");
+        call("/api/auth/login", "10.0.0.1");
+
+        assertThat(call("/api/auth/login", "10.0.0.1").getStatus()).isEqualTo(429);
+        assertThat(call("/api/auth/login", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(call("/api/users/1", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("paths outside /api are not limited")
+    void ignoresNonApiPaths() throws ServletException, IOException {
+        for (int i = 0; i < 5; i++) {
+            assertThat(call("/ws/info", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse call(String path, String remoteAddr) throws ServletException, IOException {
+        return call(path, remoteAddr, new MockFilterChain());
+    }
+
+    private MockHttpServletResponse call(String path, String remoteAddr, MockFilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,68 @@
+package com.opencode.alumxbackend.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(4);
+    private final RateLimitRule rule = new RateLimitRule(3, 1.0);
+
+    @Test
+    @DisplayName("allows a full burst, then rejects until a token is refilled")
+    void allowsBurstThenRejects() {
+        long now = 1_000 * SECOND;
+
+        assertThat(limiter.tryAcquire("user:1", rule, now)).isZero();
+        assertThat(limiter.tryAcquire("user:1", rule, now)).isZero();
+        assertThat(limiter.tryAcquire("user:1", rule, now)).isZero();
+
+        long wait = limiter.tryAcquire("user:1", rule, now);
+        assertThat(wait).isPositive().isLessThanOrEqualTo(SECOND);
+
+        assertThat(limiter.tryAcquire("user:1", rule, now + SECOND)).isZero();
+    }
+
+    @Test
+    @DisplayName("callers do not share buckets")
+    void callersAreIsolated() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("ip:10.0.0.1", rule, now);
+        }
+
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", rule, now)).isPositive();
+        assertThat(limiter.tryAcquire("ip:10.0.0.2", rule, now)).isZero();
+    }
+
+    @Test
+    @DisplayName("idle buckets are evicted once they have been full for the idle timeout")
+    void evictsIdleBuckets() {
+        long now = 1_000 * SECOND;
+        limiter.tryAcquire("user:1", rule, now);
+        limiter.tryAcquire("user:2", rule, now + 10 * SECOND);
+
+        int removed = limiter.evictIdle(now + 8 * SECOND, 5 * SECOND);
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.availableTokens("user:1", rule, now + 8 * SECOND)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("only buckets still being refilled count as active")
+    void countsActiveBuckets() {
+        long now = 1_000 * SECOND;
+        limiter.tryAcquire("user:1", rule, now);
+        limiter.tryAcquire("user:2", rule, now + 5 * SECOND);
+
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.activeCount(now + 5 * SECOND)).isEqualTo(1);
+    }
+}
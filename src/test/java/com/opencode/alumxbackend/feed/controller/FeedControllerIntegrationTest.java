@@ -0,0 +1,306 @@
+package com.opencode.alumxbackend.feed.controller;
+
+import com.opencode.alumxbackend.auth.dto.LoginRequest;
+import com.opencode.alumxbackend.auth.dto.LoginResponse;
+import com.opencode.alumxbackend.connection.model.Connection;
+import com.opencode.alumxbackend.connection.model.ConnectionStatus;
+import com.opencode.alumxbackend.connection.repository.ConnectionRepository;
+import com.opencode.alumxbackend.feed.model.FeedEntry;
+import com.opencode.alumxbackend.feed.model.FeedPullAuthor;
+import com.opencode.alumxbackend.feed.repository.FeedEntryRepository;
+import com.opencode.alumxbackend.feed.repository.FeedPullAuthorRepository;
+import com.opencode.alumxbackend.jobposts.dto.JobPostRequest;
+import com.opencode.alumxbackend.jobposts.dto.JobPostResponse;
+import com.opencode.alumxbackend.jobposts.repository.CommentRepository;
+import com.opencode.alumxbackend.jobposts.repository.JobPostLikeRepository;
+import com.opencode.alumxbackend.jobposts.repository.JobPostRepository;
+import com.opencode.alumxbackend.notifications.repository.NotificationRepository;
+import com.opencode.alumxbackend.users.model.User;
+import com.opencode.alumxbackend.users.model.UserRole;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class FeedControllerIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ConnectionRepository connectionRepository;
+
+    @Autowired
+    private JobPostRepository jobPostRepository;
+
+    @Autowired
+    private JobPostLikeRepository jobPostLikeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private FeedEntryRepository feedEntryRepository;
+
+    @Autowired
+    private FeedPullAuthorRepository pullAuthorRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private WebClient webClient;
+    private User reader;
+    private User author;
+    private User recruiter;
+    private User stranger;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        webClient = WebClient.create("http://localhost:" + port);
+        feedEntryRepository.deleteAll();
+        pullAuthorRepository.deleteAll();
+        jobPostLikeRepository.deleteAll();
+        commentRepository.deleteAll();
+        jobPostRepository.deleteAll();
+        connectionRepository.deleteAll();
+        notificationRepository.deleteAll();
+        userRepository.deleteAll();
+
+        reader = saveUser("feedreader");
+        author = saveUser("feedauthor");
+        recruiter = saveUser("feedrecruiter");
+        stranger = saveUser("feedstranger");
+
+        LoginResponse loginResponse = webClient.post()
+                .uri("/api/auth/login")
+                .bodyValue(new LoginRequest("feedreader@test.com", "password123"))
+                .retrieve()
+                .bodyToMono(LoginResponse.class)
+                .block();
+        accessToken = loginResponse.getAccessToken();
+    }
+
+    @Test
+    @DisplayName("GET /api/feed - shows posts from connections only")
+    void feed_ShowsConnectionsPostsOnly() {
+        connect(author, reader);
+        Long connected = createPost(author, "A post from a connection of the reader, fanned out on write");
+        createPost(stranger, "A post from someone the reader is not connected to at all");
+
+        assertThat(feedPage(null, 20).getBody())
+                .extracting(JobPostResponse::getId)
+                .containsExactly(connected);
+    }
+
+    @Test
+    @DisplayName("GET /api/feed - a new connection brings in their earlier posts")
+    void feed_IncludesPostsWrittenBeforeConnecting() {
+        Long earlier = createPost(author, "A post written before the reader and the author were connected");
+        assertThat(feedPage(null, 20).getBody()).isEmpty();
+
+        connect(reader, author);
+
+        assertThat(feedPage(null, 20).getBody())
+                .extracting(JobPostResponse::getId)
+                .containsExactly(earlier);
+    }
+
+    @Test
+    @DisplayName("GET /api/feed - merges pull authors' posts in on read and pages by cursor")
+    void feed_MergesPullAuthorsAndPages() {
+        pullAuthorRepository.save(new FeedPullAuthor(recruiter.getId(), 5000, LocalDateTime.now()));
+        connect(author, reader);
+        connect(recruiter, reader);
+
+        Long first = createPost(author, "First post, from an author whose posts are fanned out on write");
+        Long second = createPost(recruiter, "Second post, from a recruiter whose posts are pulled on read");
+        Long third = createPost(author, "Third post, again from the author whose posts are fanned out");
+        Long fourth = createPost(recruiter, "Fourth post, again from the recruiter whose posts are pulled");
+        assertThat(feedEntryRepository.findAll())
+                .extracting(FeedEntry::getPostId)
+                .containsExactlyInAnyOrder(first, third);
+
+        ResponseEntity<List<JobPostResponse>> page1 = feedPage(null, 3);
+        assertThat(page1.getBody()).extracting(JobPostResponse::getId).containsExactly(fourth, third, second);
+        String cursor = page1.getHeaders().getFirst("X-Next-Cursor");
+        assertThat(cursor).isNotNull();
+
+        ResponseEntity<List<JobPostResponse>> page2 = feedPage(cursor, 3);
+        assertThat(page2.getBody()).extracting(JobPostResponse::getId).containsExactly(first);
+        assertThat(page2.getHeaders().containsHeader("X-Next-Cursor")).isFalse();
+    }
+
+    @Test
+    @DisplayName("GET /api/feed - deleted posts leave the feed")
+    void feed_DropsDeletedPosts() {
+        connect(author, reader);
+        Long kept = createPost(author, "A post that stays in the feed after the other one is deleted");
+        Long deleted = createPost(author, "A post that its author deletes again shortly after writing it");
+
+        webClient.delete()
+                .uri("/api/posts/" + deleted + "?userId=" + author.getId())
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+
+        assertThat(feedPage(null, 20).getBody())
+                .extracting(JobPostResponse::getId)
+                .containsExactly(kept);
+        assertThat(feedEntryRepository.findAll()).extracting(FeedEntry::getPostId).containsExactly(kept);
+    }
+
+    @Test
+    @DisplayName("trims only the feeds it is given, or those of the given authors' connections")
+    void trim_LeavesOtherFeedsAlone() {
+        connect(author, reader);
+        createPost(author, "Oldest post, copied into the reader's feed and trimmed away again");
+        createPost(author, "Middle post, copied into the reader's feed and trimmed away again");
+        Long newest = createPost(author, "Newest post, the only one kept in the reader's trimmed feed");
+        List<FeedEntry> readerFeed = feedEntryRepository.findAll();
+        feedEntryRepository.saveAll(readerFeed.stream()
+                .map(entry -> new FeedEntry(null, stranger.getId(), entry.getPostId(), entry.getAuthorId(), entry.getCreatedAt()))
+                .toList());
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> feedEntryRepository.trimConnectionFeeds(List.of(author.getId()), 1));
+
+        assertThat(feedEntryRepository.findAll())
+                .filteredOn(entry -> entry.getUserId().equals(reader.getId()))
+                .extracting(FeedEntry::getPostId)
+                .containsExactly(newest);
+        assertThat(feedEntryRepository.findAll()).filteredOn(entry -> entry.getUserId().equals(stranger.getId())).hasSize(3);
+
+        transaction.executeWithoutResult(status -> feedEntryRepository.trimFeeds(List.of(stranger.getId()), 2));
+
+        assertThat(feedEntryRepository.findAll()).filteredOn(entry -> entry.getUserId().equals(stranger.getId())).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("GET /api/users/{userId}/feed - serves the caller's own feed")
+    void feed_ServesOwnFeedByUserId() {
+        connect(author, reader);
+        Long connected = createPost(author, "A post from a connection of the reader, read through the user path");
+
+        List<JobPostResponse> posts = webClient.get()
+                .uri("/api/users/" + reader.getId() + "/feed")
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .bodyToFlux(JobPostResponse.class)
+                .collectList()
+                .block();
+
+        assertThat(posts).extracting(JobPostResponse::getId).containsExactly(connected);
+    }
+
+    @Test
+    @DisplayName("GET /api/users/{userId}/feed - returns 403 for another user's feed")
+    void feed_ReturnsForbiddenForAnotherUsersFeed() {
+        connect(author, stranger);
+        createPost(author, "A post that only the stranger's feed should ever show to anyone");
+
+        HttpStatus status = webClient.get()
+                .uri("/api/users/" + stranger.getId() + "/feed")
+                .header("Authorization", "Bearer " + accessToken)
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(HttpStatus.valueOf(response.statusCode().value())))
+                .block();
+
+        assertThat(status).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("GET /api/feed - returns 401 without a token")
+    void feed_RequiresAuthentication() {
+        HttpStatus status = webClient.get()
+                .uri("/api/feed")
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(HttpStatus.valueOf(response.statusCode().value())))
+                .block();
+
+        assertThat(status).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private User saveUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .name(username)
+                .email(username + "@test.com")
+                .passwordHash(passwordEncoder.encode("password123"))
+                .role(UserRole.ALUMNI)
+                .profileCompleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void connect(User sender, User receiver) {
+        Connection connection = connectionRepository.save(Connection.builder()
+                .senderId(sender.getId())
+                .receiverId(receiver.getId())
+                .status(ConnectionStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build());
+        webClient.post()
+                .uri("/api/connections/" + connection.getId() + "/accept")
+                .header("Authorization", "Bearer " + accessToken)
+                .header("X-USER-ID", receiver.getId().toString())
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+
+    private Long createPost(User user, String description) {
+        Map<String, Object> response = webClient.post()
+                .uri("/api/posts")
+                .header("Authorization", "Bearer " + accessToken)
+                .bodyValue(new JobPostRequest(user.getUsername(), description, null))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .block();
+        return ((Number) response.get("postId")).longValue();
+    }
+
+    private ResponseEntity<List<JobPostResponse>> feedPage(String cursor, int size) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/feed")
+                        .queryParam("size", size)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build())
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .toEntityList(JobPostResponse.class)
+                .block();
+    }
+}
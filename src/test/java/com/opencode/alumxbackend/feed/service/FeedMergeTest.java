@@ -0,0 +1,58 @@
+package com.opencode.alumxbackend.feed.service;
+
+import com.opencode.alumxbackend.feed.dto.FeedItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedMergeTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("merges sources newest first, higher post id first on equal times")
+    void mergesNewestFirst() {
+        List<FeedItem> stored = List.of(item(9, 0), item(5, 2), item(2, 5));
+        List<FeedItem> pulled = List.of(item(8, 1), item(6, 2), item(1, 6));
+
+        List<FeedItem> merged = FeedMerge.merge(List.of(stored, pulled), 10);
+
+        assertThat(merged).extracting(FeedItem::postId).containsExactly(9L, 8L, 6L, 5L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("stops at the limit")
+    void stopsAtLimit() {
+        List<FeedItem> merged = FeedMerge.merge(List.of(
+                List.of(item(4, 0), item(2, 2)),
+                List.of(item(3, 1), item(1, 3))), 3);
+
+        assertThat(merged).extracting(FeedItem::postId).containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("keeps one copy of a post held by several sources")
+    void dropsDuplicates() {
+        List<FeedItem> merged = FeedMerge.merge(List.of(
+                List.of(item(7, 0), item(3, 2)),
+                List.of(item(7, 0), item(5, 1)),
+                List.of()), 10);
+
+        assertThat(merged).extracting(FeedItem::postId).containsExactly(7L, 5L, 3L);
+    }
+
+    @Test
+    @DisplayName("empty sources merge to nothing")
+    void emptySources() {
+        assertThat(FeedMerge.merge(List.of(), 5)).isEmpty();
+        assertThat(FeedMerge.merge(List.of(List.of(), List.of()), 5)).isEmpty();
+    }
+
+    private static FeedItem item(long postId, int hoursAgo) {
+        return new FeedItem(postId, NOW.minusHours(hoursAgo));
+    }
+}
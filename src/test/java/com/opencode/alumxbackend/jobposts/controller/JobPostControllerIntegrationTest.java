@@ -2,23 +2,38 @@ package com.opencode.alumxbackend.jobposts.controller;
 
 import com.opencode.alumxbackend.auth.dto.LoginRequest;
 import com.opencode.alumxbackend.auth.dto.LoginResponse;
+import com.opencode.alumxbackend.jobposts.dto.CommentPageResponse;
+import com.opencode.alumxbackend.jobposts.dto.CommentRequest;
+import com.opencode.alumxbackend.jobposts.dto.CommentResponse;
+import com.opencode.alumxbackend.jobposts.dto.JobPostResponse;
+import com.opencode.alumxbackend.jobposts.dto.TrendingPostResponse;
+import com.opencode.alumxbackend.jobposts.index.TrendingPosts;
 import com.opencode.alumxbackend.jobposts.model.JobPost;
+import com.opencode.alumxbackend.jobposts.repository.CommentRepository;
+import com.opencode.alumxbackend.jobposts.repository.JobPostLikeRepository;
 import com.opencode.alumxbackend.jobposts.repository.JobPostRepository;
+import com.opencode.alumxbackend.jobposts.service.JobPostLikeCounter;
 import com.opencode.alumxbackend.users.model.User;
 import com.opencode.alumxbackend.users.model.UserRole;
 import com.opencode.alumxbackend.users.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -35,6 +50,18 @@ class JobPostControllerIntegrationTest {
     @Autowired
     private JobPostRepository jobPostRepository;
 
+    @Autowired
+    private JobPostLikeRepository jobPostLikeRepository;
+
+    @Autowired
+    private JobPostLikeCounter likeCounter;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TrendingPosts trendingPosts;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -45,6 +72,8 @@ class JobPostControllerIntegrationTest {
     @BeforeEach
     void setUp() {
         webClient = WebClient.create("http://localhost:" + port);
+        jobPostLikeRepository.deleteAll();
+        commentRepository.deleteAll();
         jobPostRepository.deleteAll();
         userRepository.deleteAll();
 
@@ -71,11 +100,19 @@ class JobPostControllerIntegrationTest {
         accessToken = loginResponse.getAccessToken();
     }
 
+    // Likes and comments reference users, which other test classes delete freely
+    @AfterEach
+    void tearDown() {
+        jobPostLikeRepository.deleteAll();
+        commentRepository.deleteAll();
+    }
+
     @Test
     @DisplayName("GET /api/users/{userId}/posts - returns 200 OK with posts list")
     void getPostsByUser_ReturnsOkWithPosts() {
         JobPost post = JobPost.builder()
                 .username(testUser.getUsername())
+                .authorId(testUser.getId())
                 .description("Integration test job post description content")
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -126,12 +163,14 @@ class JobPostControllerIntegrationTest {
     void getPostsByUser_ReturnsMultiplePosts() {
         JobPost post1 = JobPost.builder()
                 .username(testUser.getUsername())
+                .authorId(testUser.getId())
                 .description("First post description for testing")
                 .createdAt(LocalDateTime.now().minusDays(2))
                 .build();
         
         JobPost post2 = JobPost.builder()
                 .username(testUser.getUsername())
+                .authorId(testUser.getId())
                 .description("Second post description for testing")
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -149,4 +188,234 @@ class JobPostControllerIntegrationTest {
         assertThat(response).isNotNull();
         assertThat(response).hasSize(2);
     }
+
+    @Test
+    @DisplayName("POST /api/posts/{postId}/like - like count shows at once and survives the flush")
+    void likePost_CountIsVisibleBeforeAndAfterFlush() {
+        JobPost post = savePost("A post to like while its count is still pending");
+
+        assertThat(like(post.getPostId())).containsEntry("changed", true);
+        assertThat(likeCountOfOnlyPost()).isEqualTo(1);
+
+        likeCounter.flush();
+
+        assertThat(jobPostRepository.findById(post.getPostId()).orElseThrow().getLikeCount()).isEqualTo(1);
+        assertThat(likeCountOfOnlyPost()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("POST and DELETE /api/posts/{postId}/like - repeating either changes nothing")
+    void likeAndUnlike_AreIdempotent() {
+        JobPost post = savePost("A post that is liked twice and unliked twice");
+
+        assertThat(like(post.getPostId())).containsEntry("liked", true).containsEntry("changed", true);
+        assertThat(like(post.getPostId())).containsEntry("liked", true).containsEntry("changed", false);
+        assertThat(likeCountOfOnlyPost()).isEqualTo(1);
+
+        assertThat(unlike(post.getPostId())).containsEntry("liked", false).containsEntry("changed", true);
+        assertThat(unlike(post.getPostId())).containsEntry("liked", false).containsEntry("changed", false);
+        assertThat(likeCountOfOnlyPost()).isEqualTo(0);
+        assertThat(jobPostLikeRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("POST /api/posts/{postId}/like - returns 404 for a missing post")
+    void likePost_ReturnsNotFoundForMissingPost() {
+        HttpStatus status = webClient.post()
+                .uri("/api/posts/99999/like?userId=" + testUser.getId())
+                .header("Authorization", "Bearer " + accessToken)
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(HttpStatus.valueOf(response.statusCode().value())))
+                .block();
+
+        assertThat(status).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/trending - ranks posts by recent likes and comments")
+    void getTrendingPosts_RanksByEngagement() {
+        JobPost commented = savePost("A post with one like and one comment, the most engaged with");
+        JobPost liked = savePost("A post with a single like and nothing else going on");
+        JobPost quiet = savePost("A post that nobody likes or comments on this week");
+        like(commented.getPostId());
+        like(liked.getPostId());
+        webClient.post()
+                .uri("/api/jobpost/addcomment/" + commented.getPostId())
+                .header("Authorization", "Bearer " + accessToken)
+                .bodyValue(new CommentRequest("Interested!", testUser.getId()))
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+
+        trendingPosts.refresh();
+        List<TrendingPostResponse> trending = webClient.get()
+                .uri("/api/posts/trending?limit=100")
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<TrendingPostResponse>>() {})
+                .block();
+
+        // earlier tests' posts may still be ranked in memory but are gone from the database
+        assertThat(trending).extracting(response -> response.getPost().getId())
+                .containsExactly(commented.getPostId(), liked.getPostId())
+                .doesNotContain(quiet.getPostId());
+        assertThat(trending.get(0).getPost().getLikeCount()).isEqualTo(1);
+        assertThat(trending.get(0).getScore()).isGreaterThan(trending.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/likes - reports the like state of every requested post")
+    void getLikeStates_ReturnsStatePerPost() {
+        JobPost liked = savePost("A post the test user likes before asking");
+        JobPost notLiked = savePost("A post the test user never gets round to liking");
+        like(liked.getPostId());
+
+        Map<String, Boolean> states = webClient.get()
+                .uri("/api/posts/likes?userId=" + testUser.getId()
+                        + "&postIds=" + liked.getPostId() + "," + notLiked.getPostId() + ",99999")
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Boolean>>() {})
+                .block();
+
+        assertThat(states).containsExactly(
+                Map.entry(String.valueOf(liked.getPostId()), true),
+                Map.entry(String.valueOf(notLiked.getPostId()), false),
+                Map.entry("99999", false));
+    }
+
+    @Test
+    @DisplayName("GET /api/users/{userId}/posts - pages newest first by cursor header")
+    void getPostsByUser_PagesByCursor() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int day = 3; day >= 1; day--) {
+            jobPostRepository.save(JobPost.builder()
+                    .username(testUser.getUsername())
+                    .authorId(testUser.getId())
+                    .description("Post from " + day + " days ago")
+                    .createdAt(now.minusDays(day))
+                    .build());
+        }
+
+        ResponseEntity<List<JobPostResponse>> first = timelinePage(null);
+        assertThat(first.getBody()).extracting(JobPostResponse::getContent)
+                .containsExactly("Post from 1 days ago", "Post from 2 days ago");
+        String cursor = first.getHeaders().getFirst("X-Next-Cursor");
+        assertThat(cursor).isNotNull();
+
+        ResponseEntity<List<JobPostResponse>> second = timelinePage(cursor);
+        assertThat(second.getBody()).extracting(JobPostResponse::getContent).containsExactly("Post from 3 days ago");
+        assertThat(second.getHeaders().containsHeader("X-Next-Cursor")).isFalse();
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/{postId}/comments - pages through comments oldest first and counts them")
+    void getCommentPage_PagesThroughThreadAndCountsComments() {
+        JobPost post = savePost("A post that collects a short comment thread");
+        for (String content : List.of("first", "second", "third")) {
+            webClient.post()
+                    .uri("/api/jobpost/addcomment/" + post.getPostId())
+                    .header("Authorization", "Bearer " + accessToken)
+                    .bodyValue(new CommentRequest(content, testUser.getId()))
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block();
+        }
+
+        CommentPageResponse first = commentPage(post.getPostId(), null);
+        assertThat(first.getComments()).extracting(CommentResponse::content).containsExactly("first", "second");
+        assertThat(first.getComments()).extracting(CommentResponse::username).containsOnly(testUser.getUsername());
+        assertThat(first.isHasMore()).isTrue();
+
+        CommentPageResponse second = commentPage(post.getPostId(), first.getNextCursor());
+        assertThat(second.getComments()).extracting(CommentResponse::content).containsExactly("third");
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+
+        List<JobPostResponse> posts = webClient.get()
+                .uri("/api/users/" + testUser.getId() + "/posts")
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<JobPostResponse>>() {})
+                .block();
+        assertThat(posts).singleElement().extracting(JobPostResponse::getCommentCount).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/{postId}/comments - returns 404 for a missing post")
+    void getCommentPage_ReturnsNotFoundForMissingPost() {
+        HttpStatus status = webClient.get()
+                .uri("/api/posts/99999/comments")
+                .header("Authorization", "Bearer " + accessToken)
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(HttpStatus.valueOf(response.statusCode().value())))
+                .block();
+
+        assertThat(status).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private ResponseEntity<List<JobPostResponse>> timelinePage(String cursor) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/users/" + testUser.getId() + "/posts")
+                        .queryParam("size", 2)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build())
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .toEntityList(JobPostResponse.class)
+                .block();
+    }
+
+    private CommentPageResponse commentPage(Long postId, String cursor) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/posts/" + postId + "/comments")
+                        .queryParam("size", 2)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build())
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(CommentPageResponse.class)
+                .block();
+    }
+
+    private JobPost savePost(String description) {
+        return jobPostRepository.save(JobPost.builder()
+                .username(testUser.getUsername())
+                .authorId(testUser.getId())
+                .description(description)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private Map<String, Object> like(Long postId) {
+        return webClient.post()
+                .uri("/api/posts/" + postId + "/like?userId=" + testUser.getId())
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .block();
+    }
+
+    private Map<String, Object> unlike(Long postId) {
+        return webClient.delete()
+                .uri("/api/posts/" + postId + "/like?userId=" + testUser.getId())
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .block();
+    }
+
+    private long likeCountOfOnlyPost() {
+        List<JobPostResponse> posts = webClient.get()
+                .uri("/api/users/" + testUser.getId() + "/posts")
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<JobPostResponse>>() {})
+                .block();
+
+        assertThat(posts).hasSize(1);
+        return posts.get(0).getLikeCount();
+    }
 }
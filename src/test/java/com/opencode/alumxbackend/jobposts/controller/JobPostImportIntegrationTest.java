@@ -0,0 +1,214 @@
+package com.opencode.alumxbackend.jobposts.controller;
+
+import com.opencode.alumxbackend.auth.dto.LoginRequest;
+import com.opencode.alumxbackend.auth.dto.LoginResponse;
+import com.opencode.alumxbackend.jobposts.dto.JobPostImportError;
+import com.opencode.alumxbackend.jobposts.dto.JobPostImportResult;
+import com.opencode.alumxbackend.jobposts.model.JobPost;
+import com.opencode.alumxbackend.jobposts.repository.CommentRepository;
+import com.opencode.alumxbackend.jobposts.repository.JobPostLikeRepository;
+import com.opencode.alumxbackend.jobposts.repository.JobPostRepository;
+import com.opencode.alumxbackend.notifications.repository.NotificationRepository;
+import com.opencode.alumxbackend.users.model.User;
+import com.opencode.alumxbackend.users.model.UserRole;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class JobPostImportIntegrationTest {
+
+    private static final String DESCRIPTION = "Backend engineer wanted to build our payments platform in Java";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostRepository jobPostRepository;
+
+    @Autowired
+    private JobPostLikeRepository jobPostLikeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private WebClient webClient;
+    private User author;
+    private String adminToken;
+    private String authorToken;
+
+    @BeforeEach
+    void setUp() {
+        webClient = WebClient.create("http://localhost:" + port);
+        jobPostLikeRepository.deleteAll();
+        commentRepository.deleteAll();
+        jobPostRepository.deleteAll();
+        notificationRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userRepository.save(user("importadmin", "importadmin@test.com", UserRole.ADMIN));
+        author = userRepository.save(user("importauthor", "importauthor@test.com", UserRole.ALUMNI));
+
+        adminToken = login("importadmin@test.com");
+        authorToken = login("importauthor@test.com");
+    }
+
+    @Test
+    @DisplayName("POST /api/admin/job-posts/import - imports NDJSON and reports bad lines")
+    void importNdjson_ImportsValidLinesAndReportsTheRest() {
+        String body = String.join("\n",
+                "{\"username\": \"importauthor\", \"description\": \"" + DESCRIPTION + "\", \"imageUrls\": [\"https://example.com/a.png\", \"https://example.com/b.png\"]}",
+                "",
+                "{\"username\": \"nobody\", \"description\": \"" + DESCRIPTION + "\"}",
+                "{\"username\": \"importauthor\", \"description\": ",
+                "{\"username\": \"importauthor\", \"description\": \"Too short\"}",
+                "{\"username\": \"importauthor\", \"description\": \"" + DESCRIPTION + " again\"}");
+
+        JobPostImportResult result = importPosts(MediaType.APPLICATION_NDJSON, body);
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(JobPostImportError::line).containsExactly(3L, 4L, 5L);
+        assertThat(result.getErrors().get(0).message()).isEqualTo("Username does not exist: nobody");
+
+        List<JobPost> posts = jobPostRepository.findAll();
+        assertThat(posts).hasSize(2);
+        assertThat(posts).allSatisfy(post -> assertThat(post.getAuthorId()).isEqualTo(author.getId()));
+        Long withImages = posts.stream()
+                .filter(post -> post.getDescription().equals(DESCRIPTION))
+                .findFirst().orElseThrow().getPostId();
+        assertThat(jdbcTemplate.queryForList("SELECT image_url FROM job_post_images WHERE post_id = ?", String.class, withImages))
+                .containsExactlyInAnyOrder("https://example.com/a.png", "https://example.com/b.png");
+    }
+
+    @Test
+    @DisplayName("POST /api/admin/job-posts/import - imports CSV with quoted multi-line fields")
+    void importCsv_HandlesQuotedFields() {
+        String body = "username,description,imageUrls\r\n"
+                + "importauthor,\"" + DESCRIPTION + ",\nwith a \"\"quoted\"\" second line\",https://example.com/a.png https://example.com/b.png\r\n"
+                + "importauthor,\"" + DESCRIPTION + "\",not a url\r\n"
+                + "importauthor,\"" + DESCRIPTION + "\",\r\n";
+
+        JobPostImportResult result = importPosts(MediaType.parseMediaType("text/csv"), body);
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).containsExactly(new JobPostImportError(4, "Invalid URL: not"));
+        assertThat(jobPostRepository.findAll()).extracting(JobPost::getDescription)
+                .contains(DESCRIPTION + ",\nwith a \"quoted\" second line");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_post_images", Long.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("POST /api/admin/job-posts/import - reports oversized rows and reads on past them")
+    void import_OversizedRows_AreReportedAsLineErrors() {
+        String huge = "x".repeat(70_000);
+        String ndjson = String.join("\n",
+                "{\"username\": \"importauthor\", \"description\": \"" + huge + "\"}",
+                "{\"username\": \"importauthor\", \"description\": \"" + DESCRIPTION + "\"}");
+        String csv = "username,description\n"
+                + "importauthor,\"" + huge + ",\n" + huge + "\"\n"
+                + "importauthor,\"" + DESCRIPTION + "\"\n";
+
+        JobPostImportResult fromNdjson = importPosts(MediaType.APPLICATION_NDJSON, ndjson);
+        JobPostImportResult fromCsv = importPosts(MediaType.parseMediaType("text/csv"), csv);
+
+        assertThat(fromNdjson.getImported()).isEqualTo(1);
+        assertThat(fromNdjson.getErrors()).containsExactly(new JobPostImportError(1, "Row is longer than 65536 characters"));
+        assertThat(fromCsv.getImported()).isEqualTo(1);
+        assertThat(fromCsv.getErrors()).containsExactly(new JobPostImportError(2, "Row is longer than 65536 characters"));
+        assertThat(jobPostRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("POST /api/admin/job-posts/import - CSV without the required columns is rejected")
+    void importCsv_MissingColumns_ReturnsBadRequest() {
+        HttpStatus status = importStatus(adminToken, MediaType.parseMediaType("text/csv"), "user,text\nimportauthor,hello\n");
+
+        assertThat(status).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(jobPostRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("POST /api/admin/job-posts/import - non-admins are forbidden")
+    void import_NotAdmin_ReturnsForbidden() {
+        String body = "{\"username\": \"importauthor\", \"description\": \"" + DESCRIPTION + "\"}";
+
+        HttpStatus status = importStatus(authorToken, MediaType.APPLICATION_NDJSON, body);
+
+        assertThat(status).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(jobPostRepository.count()).isZero();
+    }
+
+    private JobPostImportResult importPosts(MediaType contentType, String body) {
+        return webClient.post()
+                .uri("/api/admin/job-posts/import")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(contentType)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(JobPostImportResult.class)
+                .block();
+    }
+
+    private HttpStatus importStatus(String token, MediaType contentType, String body) {
+        return webClient.post()
+                .uri("/api/admin/job-posts/import")
+                .header("Authorization", "Bearer " + token)
+                .contentType(contentType)
+                .bodyValue(body)
+                .exchangeToMono(response -> response.releaseBody().thenReturn(HttpStatus.valueOf(response.statusCode().value())))
+                .block();
+    }
+
+    private User user(String username, String email, UserRole role) {
+        return User.builder()
+                .username(username)
+                .name(username)
+                .email(email)
+                .passwordHash(passwordEncoder.encode("password123"))
+                .role(role)
+                .profileCompleted(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private String login(String email) {
+        LoginResponse response = webClient.post()
+                .uri("/api/auth/login")
+                .bodyValue(new LoginRequest(email, "password123"))
+                .retrieve()
+                .bodyToMono(LoginResponse.class)
+                .block();
+        return response.getAccessToken();
+    }
+}
@@ -2,9 +2,12 @@ package com.opencode.alumxbackend.jobposts.controller;
 
 import com.opencode.alumxbackend.auth.dto.LoginRequest;
 import com.opencode.alumxbackend.auth.dto.LoginResponse;
+import com.opencode.alumxbackend.jobposts.dto.CursorPostResponse;
+import com.opencode.alumxbackend.jobposts.dto.JobPostResponse;
 import com.opencode.alumxbackend.jobposts.dto.PagedPostResponse;
 import com.opencode.alumxbackend.jobposts.model.JobPost;
 import com.opencode.alumxbackend.jobposts.repository.JobPostRepository;
+import com.opencode.alumxbackend.notifications.repository.NotificationRepository;
 import com.opencode.alumxbackend.users.model.User;
 import com.opencode.alumxbackend.users.model.UserRole;
 import com.opencode.alumxbackend.users.repository.UserRepository;
@@ -13,11 +16,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -37,6 +44,9 @@ class PostSearchIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private NotificationRepository notificationRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -52,6 +62,7 @@ class PostSearchIntegrationTest {
 
         // Clean up
         jobPostRepository.deleteAll();
+        notificationRepository.deleteAll();
         userRepository.deleteAll();
 
         // Create test user
@@ -93,6 +104,7 @@ class PostSearchIntegrationTest {
     private void createTestPost(String description, LocalDateTime createdAt) {
         JobPost post = JobPost.builder()
                 .username(testUser.getUsername())
+                .authorId(testUser.getId())
                 .description(description)
                 .createdAt(createdAt)
                 .build();
@@ -388,4 +400,90 @@ class PostSearchIntegrationTest {
         // Oldest post should be last
         assertThat(response.getPosts().get(4).getContent().toLowerCase()).contains("backend");
     }
+
+    private CursorPostResponse searchByCursor(String keyword, String cursor, int size) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/posts/search/cursor")
+                        .queryParamIfPresent("keyword", Optional.ofNullable(keyword))
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .queryParam("size", size)
+                        .build())
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(CursorPostResponse.class)
+                .block();
+    }
+
+    @Test
+    void testCursorSearch_WalksAllPostsNewestFirst() {
+        List<String> contents = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPostResponse page = searchByCursor(null, cursor, 2);
+            assertThat(page).isNotNull();
+            assertThat(page.getPosts()).hasSizeLessThanOrEqualTo(2);
+            assertThat(page.getNextCursor() != null).isEqualTo(page.isHasMore());
+            page.getPosts().stream().map(JobPostResponse::getContent).forEach(contents::add);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(contents).hasSize(5).doesNotHaveDuplicates();
+        assertThat(contents.get(0).toLowerCase()).contains("devops");
+        assertThat(contents.get(4).toLowerCase()).contains("backend");
+    }
+
+    @Test
+    void testCursorSearch_ByKeyword() {
+        CursorPostResponse first = searchByCursor("java", null, 1);
+
+        assertThat(first).isNotNull();
+        assertThat(first.getPosts()).hasSize(1);
+        assertThat(first.isHasMore()).isTrue();
+
+        CursorPostResponse second = searchByCursor("java", first.getNextCursor(), 1);
+        assertThat(second.getPosts()).hasSize(1);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(List.of(first.getPosts().get(0).getContent(), second.getPosts().get(0).getContent()))
+                .allSatisfy(content -> assertThat(content.toLowerCase()).contains("java"))
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void testCursorSearch_NoResults() {
+        CursorPostResponse response = searchByCursor("nonexistentkeyword12345", null, 10);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getPosts()).isEmpty();
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testCursorSearch_RejectsBadRequests() {
+        assertThat(cursorSearchStatus("/api/posts/search/cursor?cursor=not-a-cursor"))
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(cursorSearchStatus("/api/posts/search/cursor?sort=relevance"))
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(cursorSearchStatus("/api/posts/search/cursor?size=101"))
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        // a newest-first cursor does not fit a relevance-sorted search
+        String recentCursor = searchByCursor(null, null, 1).getNextCursor();
+        assertThat(cursorSearchStatus("/api/posts/search/cursor?keyword=java&cursor=" + recentCursor))
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private HttpStatus cursorSearchStatus(String uri) {
+        return webClient.get()
+                .uri(uri)
+                .header("Authorization", "Bearer " + accessToken)
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(HttpStatus.valueOf(response.statusCode().value())))
+                .block();
+    }
 }
@@ -0,0 +1,98 @@
+package com.opencode.alumxbackend.jobposts.index;
+
+import com.opencode.alumxbackend.jobposts.dto.TrendingScore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingWindowTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+    private static final long START = 1_000 * DAY;
+
+    private TrendingWindow window;
+
+    @BeforeEach
+    void setup() {
+        window = new TrendingWindow(7 * DAY, HOUR, DAY, START);
+    }
+
+    @Test
+    void ranksByPointsHighestFirstAndNewerPostOnTies() {
+        window.record(1L, 1, START);
+        window.record(2L, 3, START);
+        window.record(3L, 1, START);
+
+        assertThat(window.top(10, START)).extracting(TrendingScore::postId).containsExactly(2L, 3L, 1L);
+        assertThat(window.top(1, START)).extracting(TrendingScore::postId).containsExactly(2L);
+    }
+
+    @Test
+    void pointsHalveEveryHalfLife() {
+        window.record(1L, 4, START);
+        window.record(2L, 3, START + DAY);
+
+        List<TrendingScore> ranked = window.top(10, START + DAY);
+
+        // post 1's four points are a day old and worth two; post 2's three are fresh
+        assertThat(ranked).extracting(TrendingScore::postId).containsExactly(2L, 1L);
+        assertThat(ranked.get(0).score()).isCloseTo(3, within(1e-9));
+        assertThat(ranked.get(1).score()).isCloseTo(2, within(1e-9));
+    }
+
+    @Test
+    void bucketsExpireOnceTheWindowSlidesPastThem() {
+        window.record(1L, 5, START);
+        window.record(2L, 1, START + 3 * DAY);
+
+        // a week of halving leaves post 1's five points worth less than post 2's four-day-old one
+        assertThat(window.top(10, START + 7 * DAY - 1)).extracting(TrendingScore::postId).containsExactly(2L, 1L);
+        assertThat(window.top(10, START + 7 * DAY)).extracting(TrendingScore::postId).containsExactly(2L);
+        assertThat(window.size()).isEqualTo(1);
+
+        assertThat(window.top(10, START + 30 * DAY)).isEmpty();
+        assertThat(window.size()).isZero();
+    }
+
+    @Test
+    void scoresMatchADirectSumAfterManySlides() {
+        long at = START;
+        for (int hour = 0; hour < 400; hour++) {
+            window.record(7L, 1, at);
+            at += HOUR;
+        }
+
+        // the last 168 hourly points, each decayed by its age
+        double expected = 0;
+        long now = at - HOUR;
+        for (int age = 0; age < 168; age++) {
+            expected += Math.pow(2, -(double) (age * HOUR) / DAY);
+        }
+        assertThat(window.top(1, now).get(0).score()).isCloseTo(expected, within(1e-6));
+    }
+
+    @Test
+    void ignoresPointsOlderThanTheWindow() {
+        window.record(1L, 1, START - 8 * DAY);
+
+        assertThat(window.top(10, START)).isEmpty();
+    }
+
+    @Test
+    void takenBackPointsAndRemovedPostsDropOut() {
+        window.record(1L, 1, START);
+        window.record(1L, -1, START);
+        window.record(2L, 2, START);
+        window.record(3L, 1, START);
+        window.remove(2L);
+
+        assertThat(window.top(10, START)).extracting(TrendingScore::postId).containsExactly(3L);
+        assertThat(window.size()).isEqualTo(1);
+    }
+}
@@ -1,7 +1,10 @@
 package com.opencode.alumxbackend.jobposts.service;
 
+import com.opencode.alumxbackend.common.exception.Errors.BadRequestException;
 import com.opencode.alumxbackend.common.exception.Errors.ResourceNotFoundException;
 import com.opencode.alumxbackend.jobposts.dto.JobPostResponse;
+import com.opencode.alumxbackend.jobposts.dto.PostTimelineCursor;
+import com.opencode.alumxbackend.jobposts.dto.PostTimelinePage;
 import com.opencode.alumxbackend.jobposts.model.JobPost;
 import com.opencode.alumxbackend.jobposts.repository.JobPostRepository;
 import com.opencode.alumxbackend.users.model.User;
@@ -14,11 +17,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,6 +38,9 @@ class JobPostServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private JobPostLikeCounter likeCounter;
+
     @InjectMocks
     private JobPostServiceImpl jobPostService;
 
@@ -56,6 +64,7 @@ class JobPostServiceImplTest {
 
         testPost1 = JobPost.builder()
                 .username("testuser")
+                .authorId(1L)
                 .description("This is the first test job post description")
                 .createdAt(LocalDateTime.now().minusDays(1))
                 .build();
@@ -64,6 +73,7 @@ class JobPostServiceImplTest {
 
         testPost2 = JobPost.builder()
                 .username("testuser")
+                .authorId(1L)
                 .description("This is the second test job post description")
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -74,36 +84,38 @@ class JobPostServiceImplTest {
     @Test
     @DisplayName("getPostsByUser - returns posts when user exists and has posts")
     void getPostsByUser_ReturnsPostsWhenUserExistsAndHasPosts() {
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(jobPostRepository.findByUsernameOrderByCreatedAtDesc("testuser"))
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(jobPostRepository.findTimeline(1L, Limit.of(21)))
                 .thenReturn(List.of(testPost2, testPost1));
 
-        List<JobPostResponse> result = jobPostService.getPostsByUser(1L);
+        PostTimelinePage result = jobPostService.getPostsByUser(1L, null, 20);
 
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getId()).isEqualTo(2L);
-        assertThat(result.get(1).getId()).isEqualTo(1L);
-        assertThat(result.get(0).getContent()).isEqualTo("This is the second test job post description");
+        assertThat(result.posts()).hasSize(2);
+        assertThat(result.posts().get(0).getId()).isEqualTo(2L);
+        assertThat(result.posts().get(1).getId()).isEqualTo(1L);
+        assertThat(result.posts().get(0).getContent()).isEqualTo("This is the second test job post description");
+        assertThat(result.nextCursor()).isNull();
     }
 
     @Test
     @DisplayName("getPostsByUser - returns empty list when user exists but has no posts")
     void getPostsByUser_ReturnsEmptyListWhenUserHasNoPosts() {
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(jobPostRepository.findByUsernameOrderByCreatedAtDesc("testuser"))
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(jobPostRepository.findTimeline(1L, Limit.of(21)))
                 .thenReturn(Collections.emptyList());
 
-        List<JobPostResponse> result = jobPostService.getPostsByUser(1L);
+        PostTimelinePage result = jobPostService.getPostsByUser(1L, null, 20);
 
-        assertThat(result).isEmpty();
+        assertThat(result.posts()).isEmpty();
+        assertThat(result.nextCursor()).isNull();
     }
 
     @Test
     @DisplayName("getPostsByUser - throws ResourceNotFoundException when user does not exist")
     void getPostsByUser_ThrowsExceptionWhenUserNotFound() {
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userRepository.existsById(999L)).thenReturn(false);
 
-        assertThatThrownBy(() -> jobPostService.getPostsByUser(999L))
+        assertThatThrownBy(() -> jobPostService.getPostsByUser(999L, null, 20))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("User")
                 .hasMessageContaining("999");
@@ -112,18 +124,63 @@ class JobPostServiceImplTest {
     @Test
     @DisplayName("getPostsByUser - response contains all required fields")
     void getPostsByUser_ResponseContainsAllRequiredFields() {
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(jobPostRepository.findByUsernameOrderByCreatedAtDesc("testuser"))
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(jobPostRepository.findTimeline(1L, Limit.of(21)))
                 .thenReturn(List.of(testPost1));
 
-        List<JobPostResponse> result = jobPostService.getPostsByUser(1L);
+        PostTimelinePage result = jobPostService.getPostsByUser(1L, null, 20);
 
-        assertThat(result).hasSize(1);
-        JobPostResponse response = result.get(0);
+        assertThat(result.posts()).hasSize(1);
+        JobPostResponse response = result.posts().get(0);
         assertThat(response.getId()).isNotNull();
         assertThat(response.getTitle()).isNotNull();
         assertThat(response.getContent()).isNotNull();
         assertThat(response.getCreatedAt()).isNotNull();
         assertThat(response.getUpdatedAt()).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("getPostsByUser - like counts include likes not yet flushed")
+    void getPostsByUser_IncludesPendingLikeCounts() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(jobPostRepository.findTimeline(1L, Limit.of(21)))
+                .thenReturn(List.of(testPost2, testPost1));
+        when(likeCounter.likeCounts(List.of(2L, 1L))).thenReturn(Map.of(2L, 5L, 1L, 0L));
+
+        PostTimelinePage result = jobPostService.getPostsByUser(1L, null, 20);
+
+        assertThat(result.posts()).extracting(JobPostResponse::getLikeCount).containsExactly(5L, 0L);
+    }
+
+    @Test
+    @DisplayName("getPostsByUser - a full page carries a cursor that continues after its last post")
+    void getPostsByUser_PagesByCursor() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(jobPostRepository.findTimeline(1L, Limit.of(2)))
+                .thenReturn(List.of(testPost2, testPost1));
+
+        PostTimelinePage first = jobPostService.getPostsByUser(1L, null, 1);
+
+        assertThat(first.posts()).extracting(JobPostResponse::getId).containsExactly(2L);
+        PostTimelineCursor cursor = PostTimelineCursor.decode(first.nextCursor());
+        assertThat(cursor.postId()).isEqualTo(2L);
+        assertThat(cursor.createdAt()).isEqualTo(testPost2.getCreatedAt().truncatedTo(ChronoUnit.MICROS));
+
+        when(jobPostRepository.findTimelineAfter(1L, cursor.createdAt(), 2L, Limit.of(2)))
+                .thenReturn(List.of(testPost1));
+
+        PostTimelinePage second = jobPostService.getPostsByUser(1L, cursor, 1);
+
+        assertThat(second.posts()).extracting(JobPostResponse::getId).containsExactly(1L);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("getPostsByUser - rejects page sizes out of range")
+    void getPostsByUser_RejectsBadPageSize() {
+        assertThatThrownBy(() -> jobPostService.getPostsByUser(1L, null, 0))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> jobPostService.getPostsByUser(1L, null, JobPostServiceImpl.MAX_TIMELINE_PAGE_SIZE + 1))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
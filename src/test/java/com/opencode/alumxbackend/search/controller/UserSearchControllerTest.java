@@ -3,7 +3,14 @@ package com.opencode.alumxbackend.search.controller;
 import com.opencode.alumxbackend.auth.dto.LoginRequest;
 import com.opencode.alumxbackend.auth.dto.LoginResponse;
 import com.opencode.alumxbackend.notifications.repository.NotificationRepository;
+import com.opencode.alumxbackend.search.dto.AlumniMatchResponse;
+import com.opencode.alumxbackend.search.dto.FacetCount;
+import com.opencode.alumxbackend.search.dto.FacetedUserSearchResponse;
+import com.opencode.alumxbackend.search.index.UserAutocompleteIndex;
+import com.opencode.alumxbackend.search.index.UserIndexes;
+import com.opencode.alumxbackend.search.repository.UserAutocompleteRepository;
 import com.opencode.alumxbackend.users.dto.UserResponseDto;
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
 import com.opencode.alumxbackend.users.model.User;
 import com.opencode.alumxbackend.users.model.UserRole;
 import com.opencode.alumxbackend.users.repository.UserRepository;
@@ -17,6 +24,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.ActiveProfiles;
@@ -27,6 +35,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -45,6 +54,12 @@ class UserSearchControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserIndexes userIndexes;
+
+    @Autowired
+    private UserAutocompleteRepository autocompleteRepository;
+
     private WebClient webClient;
     private String authToken;
 
@@ -59,6 +74,7 @@ class UserSearchControllerTest {
         createUser("alice123", "Alice Wonder", "alice@test.com");
         createUser("bob_builder", "Bob Builder", "bob@test.com");
         createUser("charlie99", "Charlie Brown", "charlie@test.com");
+        userIndexes.refresh();
         LoginRequest loginRequest = new LoginRequest("johnDoe", "password123");
         LoginResponse loginResponse = webClient.post()
                 .uri("/api/auth/login")
@@ -92,6 +108,19 @@ class UserSearchControllerTest {
                 .block();
     }
 
+    private ResponseEntity<List<UserResponseDto>> searchPage(String query, int page, int size) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/users/search")
+                        .queryParam("q", query)
+                        .queryParam("page", page)
+                        .queryParam("size", size)
+                        .build())
+                .header("Authorization", "Bearer " + authToken)
+                .retrieve()
+                .toEntity(new ParameterizedTypeReference<List<UserResponseDto>>() {})
+                .block();
+    }
+
     private HttpStatusCode searchUsersAndGetStatus(String query) {
         return webClient.get()
                 .uri(uriBuilder -> uriBuilder.path("/api/users/search").queryParam("q", query).build())
@@ -162,6 +191,249 @@ class UserSearchControllerTest {
     }
 
 
+    @Nested
+    @DisplayName("Ranking and Paging")
+    class RankingAndPagingTests {
+        @Test
+        @DisplayName("Should rank a username prefix match above a match inside the username")
+        void rankPrefixMatchFirst() {
+            createUser("doejohn", "Doe Johnson", "doejohn@test.com");
+
+            List<UserResponseDto> result = searchUsers("john");
+
+            assertThat(result).extracting(UserResponseDto::getName).startsWith("John Doe");
+            assertThat(result).extracting(UserResponseDto::getName).contains("Doe Johnson");
+        }
+
+        @Test
+        @DisplayName("Should find users through their education without duplicating them")
+        void searchByEducation() {
+            userRepository.save(User.builder()
+                    .username("graduate")
+                    .name("Grace Graduate")
+                    .email("grace@test.com")
+                    .passwordHash(passwordEncoder.encode("password123"))
+                    .role(UserRole.ALUMNI)
+                    .profileCompleted(true)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .education(List.of("IIIT Allahabad", "IIIT Allahabad M.Tech"))
+                    .build());
+
+            List<UserResponseDto> result = searchUsers("allahabad");
+
+            assertThat(result).extracting(UserResponseDto::getName).containsExactly("Grace Graduate");
+        }
+
+        @Test
+        @DisplayName("Should page results and point to the next page while more exist")
+        void pagesResults() {
+            ResponseEntity<List<UserResponseDto>> first = searchPage("o", 0, 2);
+            assertThat(first.getBody()).hasSize(2);
+            assertThat(first.getHeaders().getFirst("X-Next-Page")).isEqualTo("1");
+
+            ResponseEntity<List<UserResponseDto>> last = searchPage("o", 1, 2);
+            assertThat(last.getBody()).isNotEmpty();
+            assertThat(last.getBody()).extracting(UserResponseDto::getId)
+                    .doesNotContainAnyElementsOf(first.getBody().stream().map(UserResponseDto::getId).toList());
+            assertThat(last.getHeaders().containsHeader("X-Next-Page")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should treat LIKE wildcards in the query literally")
+        void wildcardsAreLiteral() {
+            assertThat(searchUsers("%")).isEmpty();
+            assertThat(searchUsers("_")).extracting(UserResponseDto::getName).containsExactly("Bob Builder");
+        }
+
+        @Test
+        @DisplayName("Should reject a page size above the maximum")
+        void rejectsOversizedPage() {
+            HttpStatusCode status = webClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/api/users/search")
+                            .queryParam("q", "john")
+                            .queryParam("size", 101)
+                            .build())
+                    .header("Authorization", "Bearer " + authToken)
+                    .exchangeToMono(response -> Mono.just(response.statusCode()))
+                    .block();
+            assertThat(status.value()).isEqualTo(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Autocomplete")
+    class AutocompleteTests {
+        private List<UserSummaryResponse> autocomplete(String query, int limit) {
+            return webClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/api/users/autocomplete")
+                            .queryParam("q", query)
+                            .queryParam("limit", limit)
+                            .build())
+                    .header("Authorization", "Bearer " + authToken)
+                    .retrieve()
+                    .bodyToMono(new ParameterizedTypeReference<List<UserSummaryResponse>>() {})
+                    .block();
+        }
+
+        @Test
+        @DisplayName("Should complete usernames and later words of the name")
+        void completesUsernameAndSurname() {
+            assertThat(autocomplete("jo", 10)).extracting(UserSummaryResponse::getUsername)
+                    .containsExactly("johnDoe");
+            assertThat(autocomplete("BROW", 10)).extracting(UserSummaryResponse::getName)
+                    .containsExactly("Charlie Brown");
+            assertThat(autocomplete("zz", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should follow users registered after startup")
+        void completesNewUsers() {
+            createUser("joanna", "Joanna Reyes", "joanna@test.com");
+            userIndexes.refresh();
+
+            assertThat(autocomplete("jo", 10)).extracting(UserSummaryResponse::getUsername)
+                    .containsExactlyInAnyOrder("johnDoe", "joanna");
+            assertThat(autocomplete("jo", 1)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should match later name words and accents in the database fallback")
+        void fallbackMatchesLikeTheIndex() {
+            createUser("zoe", "Zoë Ångström", "zoe@test.com");
+
+            assertThat(autocompleteRepository.findByPrefix(UserAutocompleteIndex.normalize("Angs"), 10))
+                    .extracting(UserSummaryResponse::getUsername)
+                    .containsExactly("zoe");
+            assertThat(autocompleteRepository.findByPrefix(UserAutocompleteIndex.normalize("ZOE A"), 10))
+                    .extracting(UserSummaryResponse::getUsername)
+                    .containsExactly("zoe");
+            assertThat(autocompleteRepository.findByPrefix("brow", 10))
+                    .extracting(UserSummaryResponse::getName)
+                    .containsExactly("Charlie Brown");
+        }
+
+        @Test
+        @DisplayName("Should reject a limit above the maximum")
+        void rejectsOversizedLimit() {
+            HttpStatusCode status = webClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/api/users/autocomplete")
+                            .queryParam("q", "jo")
+                            .queryParam("limit", 21)
+                            .build())
+                    .header("Authorization", "Bearer " + authToken)
+                    .exchangeToMono(response -> Mono.just(response.statusCode()))
+                    .block();
+            assertThat(status.value()).isEqualTo(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Faceted Search")
+    class FacetTests {
+        private FacetedUserSearchResponse facets(String query) {
+            return webClient.get()
+                    .uri("/api/users/facets?" + query)
+                    .header("Authorization", "Bearer " + authToken)
+                    .retrieve()
+                    .bodyToMono(FacetedUserSearchResponse.class)
+                    .block();
+        }
+
+        @Test
+        @DisplayName("Should filter by facets and count each facet's values")
+        void filtersAndCounts() {
+            userRepository.save(User.builder()
+                    .username("recruiter")
+                    .name("Rita Recruiter")
+                    .email("rita@test.com")
+                    .passwordHash(passwordEncoder.encode("password123"))
+                    .role(UserRole.ALUMNI)
+                    .profileCompleted(true)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .currentCompany("Acme, Inc.")
+                    .skills(List.of("Java", "Go"))
+                    .build());
+            userIndexes.refresh();
+
+            FacetedUserSearchResponse all = facets("size=2");
+            assertThat(all.getTotal()).isEqualTo(6);
+            assertThat(all.getUsers()).hasSize(2);
+            assertThat(all.getFacets().get("role")).extracting(FacetCount::getValue, FacetCount::getCount)
+                    .containsExactly(tuple("STUDENT", 5), tuple("ALUMNI", 1));
+
+            FacetedUserSearchResponse acme = facets("company=Acme, Inc.&skill=java");
+            assertThat(acme.getUsers()).extracting(UserSummaryResponse::getUsername).containsExactly("recruiter");
+            assertThat(acme.getFacets().get("skill")).extracting(FacetCount::getValue).containsExactly("Go", "Java");
+
+            assertThat(facets("role=student&skill=java").getTotal()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject a page size above the maximum")
+        void rejectsOversizedPage() {
+            HttpStatusCode status = webClient.get()
+                    .uri("/api/users/facets?size=101")
+                    .header("Authorization", "Bearer " + authToken)
+                    .exchangeToMono(response -> Mono.just(response.statusCode()))
+                    .block();
+            assertThat(status.value()).isEqualTo(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Alumni Matching")
+    class MatchTests {
+        private User saveUser(String username, UserRole role, List<String> skills) {
+            return userRepository.save(User.builder()
+                    .username(username)
+                    .name(username)
+                    .email(username + "@test.com")
+                    .passwordHash(passwordEncoder.encode("password123"))
+                    .role(role)
+                    .profileCompleted(true)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .skills(skills)
+                    .build());
+        }
+
+        @Test
+        @DisplayName("Should suggest alumni sharing the most skills")
+        void suggestsAlumniBySkillOverlap() {
+            User mentee = saveUser("mentee", UserRole.STUDENT, List.of("Java", "Kafka"));
+            saveUser("kafkaMentor", UserRole.ALUMNI, List.of("Kafka"));
+            saveUser("javaKafkaMentor", UserRole.ALUMNI, List.of("java", "Kafka"));
+            saveUser("classmate", UserRole.STUDENT, List.of("Java", "Kafka"));
+            userIndexes.refresh();
+
+            List<AlumniMatchResponse> matches = webClient.get()
+                    .uri("/api/users/{userId}/matches", mentee.getId())
+                    .header("Authorization", "Bearer " + authToken)
+                    .retrieve()
+                    .bodyToMono(new ParameterizedTypeReference<List<AlumniMatchResponse>>() {})
+                    .block();
+
+            assertThat(matches).extracting(match -> match.getUser().getUsername())
+                    .containsExactly("javaKafkaMentor", "kafkaMentor");
+            // labels are kept as first written anywhere, so compare ignoring case
+            assertThat(matches.get(0).getSharedSkills()).usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+                    .containsExactlyInAnyOrder("Java", "Kafka");
+        }
+
+        @Test
+        @DisplayName("Should return 404 for an unknown user")
+        void unknownUser() {
+            HttpStatusCode status = webClient.get()
+                    .uri("/api/users/{userId}/matches", 999_999)
+                    .header("Authorization", "Bearer " + authToken)
+                    .exchangeToMono(response -> Mono.just(response.statusCode()))
+                    .block();
+            assertThat(status.value()).isEqualTo(404);
+        }
+    }
+
     @Nested
     @DisplayName("Negative Test Cases - Invalid Search Queries")
     class NegativeTests {
@@ -0,0 +1,83 @@
+package com.opencode.alumxbackend.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactBitmapTest {
+
+    @Test
+    void matchesABitSetAcrossSparseAndDenseGroups() {
+        Random random = new Random(7);
+        for (int range : new int[] {100, 70_000, 1 << 20}) {
+            for (int density : new int[] {1, 3, 40}) {
+                CompactBitmap left = new CompactBitmap();
+                CompactBitmap right = new CompactBitmap();
+                BitSet leftBits = new BitSet();
+                BitSet rightBits = new BitSet();
+                for (int i = 0; i < range / density; i++) {
+                    int value = random.nextInt(range);
+                    left.add(value);
+                    leftBits.set(value);
+                    value = random.nextInt(range);
+                    right.add(value);
+                    rightBits.set(value);
+                }
+                // removals shrink dense groups back below the array threshold
+                for (int i = 0; i < range / density / 2; i++) {
+                    int value = random.nextInt(range);
+                    left.remove(value);
+                    leftBits.clear(value);
+                }
+
+                BitSet and = (BitSet) leftBits.clone();
+                and.and(rightBits);
+                BitSet or = (BitSet) leftBits.clone();
+                or.or(rightBits);
+
+                assertThat(left.cardinality()).isEqualTo(leftBits.cardinality());
+                assertThat(left.andCardinality(right)).isEqualTo(and.cardinality());
+                // Arrays.equals, since an AssertJ diff of arrays this large takes minutes
+                assertThat(Arrays.equals(left.and(right).toArray(0, Integer.MAX_VALUE), and.stream().toArray())).isTrue();
+                assertThat(Arrays.equals(left.or(right).toArray(0, Integer.MAX_VALUE), or.stream().toArray())).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void pagesInAscendingOrder() {
+        CompactBitmap bitmap = CompactBitmap.of(5, 70_000, 3, 1 << 20, 65_535);
+
+        assertThat(bitmap.toArray(0, 2)).containsExactly(3, 5);
+        assertThat(bitmap.toArray(2, 2)).containsExactly(65_535, 70_000);
+        assertThat(bitmap.toArray(4, 2)).containsExactly(1 << 20);
+        assertThat(bitmap.toArray(5, 2)).isEmpty();
+    }
+
+    @Test
+    void unionsDoNotShareStateWithTheirInputs() {
+        CompactBitmap left = CompactBitmap.of(1, 2);
+        CompactBitmap right = CompactBitmap.of(3);
+
+        CompactBitmap union = left.or(right);
+        union.add(4);
+        union.remove(1);
+
+        assertThat(left.toArray(0, 10)).containsExactly(1, 2);
+        assertThat(right.toArray(0, 10)).containsExactly(3);
+    }
+
+    @Test
+    void emptiedGroupsAreDropped() {
+        CompactBitmap bitmap = CompactBitmap.of(1, 100_000);
+        bitmap.remove(1);
+        bitmap.remove(100_000);
+
+        assertThat(bitmap.isEmpty()).isTrue();
+        assertThat(bitmap.contains(1)).isFalse();
+    }
+}
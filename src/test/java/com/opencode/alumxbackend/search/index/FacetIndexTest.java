@@ -0,0 +1,113 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.FacetCount;
+import com.opencode.alumxbackend.search.dto.UserFacet;
+import com.opencode.alumxbackend.search.dto.UserFacetDocument;
+import com.opencode.alumxbackend.search.dto.UserFacetPage;
+import com.opencode.alumxbackend.users.model.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class FacetIndexTest {
+
+    private FacetIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new FacetIndex();
+        index.put(new UserFacetDocument(1L, UserRole.ALUMNI, "Acme", "Pune", List.of("Java", "Go"), List.of("Spring")));
+        index.put(new UserFacetDocument(2L, UserRole.ALUMNI, "Globex", "Pune", List.of("java"), List.of()));
+        index.put(new UserFacetDocument(3L, UserRole.STUDENT, null, "Delhi", List.of("Python"), List.of("Django")));
+    }
+
+    @Test
+    void countsEveryValueWhenNothingIsFiltered() {
+        UserFacetPage page = index.search(Map.of(), 0, 10, 10);
+
+        assertThat(page.userIds()).containsExactly(1L, 2L, 3L);
+        assertThat(page.total()).isEqualTo(3);
+        assertThat(page.facets().get(UserFacet.SKILL))
+                .extracting(FacetCount::getValue, FacetCount::getCount)
+                .containsExactly(tuple("Java", 2), tuple("Go", 1), tuple("Python", 1));
+        assertThat(page.facets().get(UserFacet.COMPANY)).extracting(FacetCount::getValue).containsExactly("Acme", "Globex");
+    }
+
+    @Test
+    void intersectsFacetsAndUnionsValuesWithinOne() {
+        UserFacetPage page = index.search(Map.of(
+                UserFacet.LOCATION, List.of("pune", "DELHI"),
+                UserFacet.SKILL, List.of(" JAVA ")), 0, 10, 10);
+
+        assertThat(page.userIds()).containsExactly(1L, 2L);
+        assertThat(page.total()).isEqualTo(2);
+    }
+
+    @Test
+    void countsAFacetAgainstTheOtherFiltersOnly() {
+        UserFacetPage page = index.search(Map.of(
+                UserFacet.COMPANY, List.of("acme"),
+                UserFacet.SKILL, List.of("java")), 0, 10, 10);
+
+        assertThat(page.userIds()).containsExactly(1L);
+        // picking Acme still shows what Globex would add among Java users
+        assertThat(page.facets().get(UserFacet.COMPANY))
+                .extracting(FacetCount::getValue, FacetCount::getCount)
+                .containsExactly(tuple("Acme", 1), tuple("Globex", 1));
+        assertThat(page.facets().get(UserFacet.ROLE))
+                .extracting(FacetCount::getValue, FacetCount::getCount)
+                .containsExactly(tuple("ALUMNI", 1));
+    }
+
+    @Test
+    void updatesMoveOnlyTheChangedValues() {
+        index.put(new UserFacetDocument(1L, UserRole.ALUMNI, "Globex", "Pune", List.of("Go"), List.of("Spring")));
+
+        assertThat(index.search(Map.of(UserFacet.COMPANY, List.of("acme")), 0, 10, 10).total()).isZero();
+        assertThat(index.search(Map.of(UserFacet.COMPANY, List.of("globex")), 0, 10, 10).userIds()).containsExactly(1L, 2L);
+        assertThat(index.search(Map.of(UserFacet.SKILL, List.of("java")), 0, 10, 10).userIds()).containsExactly(2L);
+
+        index.remove(2L);
+        UserFacetPage page = index.search(Map.of(), 0, 10, 10);
+        assertThat(page.userIds()).containsExactly(1L, 3L);
+        assertThat(page.facets().get(UserFacet.SKILL)).extracting(FacetCount::getValue).containsExactly("Go", "Python");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void reportsALabelAsItsUserRewritesIt() {
+        index.put(new UserFacetDocument(1L, UserRole.ALUMNI, "ACME", "Pune", List.of("Java", "Go"), List.of("Spring")));
+        index.put(new UserFacetDocument(2L, UserRole.ALUMNI, "Globex", "Pune", List.of("JAVA"), List.of()));
+
+        UserFacetPage page = index.search(Map.of(), 0, 10, 10);
+        assertThat(page.facets().get(UserFacet.COMPANY)).extracting(FacetCount::getValue).containsExactly("ACME", "Globex");
+        assertThat(page.facets().get(UserFacet.SKILL)).extracting(FacetCount::getValue).containsExactly("JAVA", "Go", "Python");
+    }
+
+    @Test
+    void countsFromTheMatchingUsersWhenFewerMatchThanValues() {
+        UserFacetPage page = index.search(Map.of(UserFacet.LOCATION, List.of("delhi")), 0, 10, 10);
+
+        assertThat(page.userIds()).containsExactly(3L);
+        assertThat(page.facets().get(UserFacet.SKILL))
+                .extracting(FacetCount::getValue, FacetCount::getCount)
+                .containsExactly(tuple("Python", 1));
+        assertThat(page.facets().get(UserFacet.LOCATION))
+                .extracting(FacetCount::getValue, FacetCount::getCount)
+                .containsExactly(tuple("Pune", 2), tuple("Delhi", 1));
+    }
+
+    @Test
+    void pagesMatchesAndLimitsFacetValues() {
+        assertThat(index.search(Map.of(), 1, 1, 1).userIds()).containsExactly(2L);
+        assertThat(index.search(Map.of(), 3, 1, 1).userIds()).isEmpty();
+        assertThat(index.search(Map.of(), 0, 1, 1).facets().get(UserFacet.SKILL))
+                .extracting(FacetCount::getValue).containsExactly("Java");
+        assertThat(index.search(Map.of(UserFacet.SKILL, List.of("rust")), 0, 10, 10).total()).isZero();
+    }
+}
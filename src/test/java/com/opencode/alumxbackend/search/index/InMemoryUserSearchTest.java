@@ -0,0 +1,100 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.service.UserSearchService;
+import com.opencode.alumxbackend.users.dto.UserResponseDto;
+import com.opencode.alumxbackend.users.model.User;
+import com.opencode.alumxbackend.users.model.UserRole;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:inmemorysearch;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "users.search.in-memory.enabled=true"
+})
+@ActiveProfiles("test")
+class InMemoryUserSearchTest {
+
+    @Autowired
+    private UserSearchService searchService;
+
+    @Autowired
+    private InMemoryUserSearch inMemorySearch;
+
+    @Autowired
+    private UserIndexes userIndexes;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setup() {
+        userRepository.deleteAll();
+        userIndexes.refresh();
+    }
+
+    @Test
+    @DisplayName("search is answered from memory without a database statement")
+    void searchesWithoutTheDatabase() {
+        save("graduate", "Grace Graduate", List.of("IIIT Allahabad"));
+        userIndexes.refresh();
+        assertThat(inMemorySearch.isReady()).isTrue();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<UserResponseDto> result = searchService.search("allahabad");
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(result).extracting(UserResponseDto::getName).containsExactly("Grace Graduate");
+    }
+
+    @Test
+    @DisplayName("committed updates and deletes are reflected in the index")
+    void followsUserChanges() {
+        User user = save("mover", "Morgan Mover", List.of());
+        userIndexes.refresh();
+        assertThat(searchService.search("morgan")).hasSize(1);
+
+        user.setCurrentCompany("Globex");
+        user.setSkills(List.of("Kubernetes"));
+        user.setUpdatedAt(LocalDateTime.now());
+        userRepository.save(user);
+        userIndexes.refresh();
+        assertThat(searchService.search("globex")).extracting(UserResponseDto::getId).containsExactly(user.getId());
+        assertThat(searchService.search("ubernet")).extracting(UserResponseDto::getId).containsExactly(user.getId());
+
+        userRepository.delete(user);
+        userIndexes.refresh();
+        assertThat(searchService.search("morgan")).isEmpty();
+    }
+
+    private User save(String username, String name, List<String> education) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .name(name)
+                .email(username + "@test.com")
+                .passwordHash("not-used")
+                .role(UserRole.ALUMNI)
+                .profileCompleted(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .education(education)
+                .build());
+    }
+}
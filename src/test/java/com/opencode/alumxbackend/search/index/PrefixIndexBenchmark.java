@@ -0,0 +1,92 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplete latency over 500k generated users, reported as a sampled
+ * distribution so the p99 can be read off directly. Prefixes of up to four
+ * characters hit the precomputed lists, longer ones rank their key range on
+ * the fly.
+ *
+ * Run after {@code mvn test-compile} with
+ * {@code java -Xmx2g -cp target/test-classes:target/classes:<test classpath> com.opencode.alumxbackend.search.index.PrefixIndexBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class PrefixIndexBenchmark {
+
+    private static final String[] SYLLABLES = {
+            "an", "ar", "ba", "da", "el", "ha", "ja", "ka", "la", "li", "ma", "mi",
+            "na", "ni", "ob", "ra", "ri", "sa", "sh", "ta", "ti", "va", "ya", "zo"
+    };
+
+    @Param({"500000"})
+    private int users;
+
+    @Param({"s", "sha", "shar", "shari"})
+    private String prefix;
+
+    private PrefixIndex index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        List<PrefixIndex.Entry> entries = new ArrayList<>(users);
+        for (long id = 1; id <= users; id++) {
+            String first = word(random);
+            String last = word(random);
+            UserSummaryResponse user = PrefixIndexTest.user(id, first + last + id, capitalize(first) + " " + capitalize(last));
+            // a few well-connected users, a long tail with none
+            long popularity = (long) Math.floor(Math.pow(random.nextDouble(), 8) * 500);
+            entries.add(PrefixIndex.entry(user, popularity));
+        }
+        index = new PrefixIndex();
+        index.putAll(entries);
+    }
+
+    @Benchmark
+    public List<UserSummaryResponse> complete() {
+        return index.complete(prefix, 10);
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0, n = 2 + random.nextInt(2); i < n; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PrefixIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import com.opencode.alumxbackend.users.model.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+    private final PrefixIndex index = new PrefixIndex();
+
+    @Test
+    void completesUsernamesAndEveryNameWordMostPopularFirst() {
+        index.put(PrefixIndex.entry(user(1L, "jdoe", "John Doe"), 3));
+        index.put(PrefixIndex.entry(user(2L, "johnny", "Johnny Cash"), 10));
+        index.put(PrefixIndex.entry(user(3L, "mary", "Mary Johnson"), 0));
+
+        assertThat(ids(index.complete("jo", 10))).containsExactly(2L, 1L, 3L);
+        assertThat(ids(index.complete("JOHN D", 10))).containsExactly(1L);
+        assertThat(ids(index.complete("doe", 10))).containsExactly(1L);
+        assertThat(ids(index.complete("jd", 10))).containsExactly(1L);
+        assertThat(ids(index.complete("jo", 2))).containsExactly(2L, 1L);
+        assertThat(index.complete("zz", 10)).isEmpty();
+    }
+
+    @Test
+    void ignoresAccentsCaseAndExtraSpaces() {
+        index.put(PrefixIndex.entry(user(1L, "jose", "José  Álvarez"), 0));
+
+        assertThat(ids(index.complete("  alv", 10))).containsExactly(1L);
+        assertThat(ids(index.complete("jose a", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void renamesAndRemovalsDropTheOldKeys() {
+        index.put(PrefixIndex.entry(user(1L, "oldname", "Old Name"), 0));
+        index.upsert(user(1L, "newname", "New Name"));
+
+        assertThat(index.complete("old", 10)).isEmpty();
+        assertThat(index.complete("o", 10)).isEmpty();
+        assertThat(ids(index.complete("new", 10))).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.complete("n", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void precomputedShortPrefixesRefillWhenATopUserDrops() {
+        for (long id = 1; id <= PrefixIndex.MAX_RESULTS + 5; id++) {
+            index.put(PrefixIndex.entry(user(id, "amy" + id, "Amy " + id), id));
+        }
+        long top = PrefixIndex.MAX_RESULTS + 5;
+        long firstLeftOut = 5;
+        assertThat(ids(index.complete("a", PrefixIndex.MAX_RESULTS))).startsWith(top).doesNotContain(firstLeftOut);
+
+        index.remove(top);
+        assertThat(ids(index.complete("a", PrefixIndex.MAX_RESULTS))).doesNotContain(top).endsWith(firstLeftOut);
+
+        index.updatePopularity(1L, 1_000);
+        assertThat(ids(index.complete("am", 1))).containsExactly(1L);
+        index.updatePopularity(1L, 0);
+        assertThat(ids(index.complete("am", PrefixIndex.MAX_RESULTS))).doesNotContain(1L).endsWith(firstLeftOut);
+    }
+
+    @Test
+    void bulkLoadAndRecountRankShortPrefixesLikeSingleUpdates() {
+        index.putAll(List.of(
+                PrefixIndex.entry(user(1L, "sam", "Sam One"), 1),
+                PrefixIndex.entry(user(2L, "sara", "Sara Two"), 5),
+                PrefixIndex.entry(user(3L, "tom", "Tom Sanders"), 2)));
+        assertThat(ids(index.complete("s", 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(index.complete("sa", 10))).containsExactly(2L, 3L, 1L);
+
+        int changed = index.updatePopularities(Map.of(1L, 9L, 2L, 5L));
+        assertThat(changed).isEqualTo(2);
+        assertThat(ids(index.complete("sa", 10))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(index.complete("sand", 10))).containsExactly(3L);
+    }
+
+    static UserSummaryResponse user(Long id, String username, String name) {
+        return new UserSummaryResponse(id, username, name, UserRole.STUDENT, null, null, null);
+    }
+
+    private static List<Long> ids(List<UserSummaryResponse> users) {
+        return users.stream().map(UserSummaryResponse::getId).toList();
+    }
+}
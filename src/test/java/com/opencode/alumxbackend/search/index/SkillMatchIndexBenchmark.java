@@ -0,0 +1,99 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.SkillMatch;
+import com.opencode.alumxbackend.search.dto.UserSkillDocument;
+import com.opencode.alumxbackend.users.model.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-10 alumni matches over 100k generated users, two thirds of them
+ * alumni, scored on one thread and on the default fork/join parallelism.
+ * Skill popularity is skewed so a few values sit on most profiles, which is
+ * what makes their posting lists long.
+ *
+ * Run after {@code mvn test-compile} with
+ * {@code java -cp target/test-classes:target/classes:<test classpath> com.opencode.alumxbackend.search.index.SkillMatchIndexBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SkillMatchIndexBenchmark {
+
+    @Param({"100000"})
+    private int users;
+
+    /**
+     * 0 means one thread per available processor, as in production.
+     */
+    @Param({"1", "0"})
+    private int parallelism;
+
+    private SkillMatchIndex index;
+    private ForkJoinPool pool;
+    private Random queries;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        index = new SkillMatchIndex();
+        for (long id = 1; id <= users; id++) {
+            index.put(new UserSkillDocument(id,
+                    random.nextInt(3) == 0 ? UserRole.STUDENT : UserRole.ALUMNI,
+                    values(random, "skill", 400, 3 + random.nextInt(10)),
+                    values(random, "tech", 200, random.nextInt(5)),
+                    values(random, "framework", 100, random.nextInt(5)),
+                    values(random, "language", 30, random.nextInt(3))));
+        }
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        queries = new Random(7);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<SkillMatch> topTen() {
+        return index.match(1L + queries.nextInt(users), 10, pool);
+    }
+
+    // half-normal ranks: low-numbered values are far more common
+    private static List<String> values(Random random, String prefix, int distinct, int count) {
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(prefix + (int) Math.min(distinct - 1, Math.abs(random.nextGaussian()) * distinct / 3));
+        }
+        return values;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SkillMatchIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.SkillMatch;
+import com.opencode.alumxbackend.search.dto.UserSkillDocument;
+import com.opencode.alumxbackend.users.model.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillMatchIndexTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private SkillMatchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new SkillMatchIndex();
+        index.put(document(1L, UserRole.STUDENT, List.of("Java", "Kafka"), List.of("Spring")));
+        index.put(document(2L, UserRole.ALUMNI, List.of("java"), List.of("Spring")));
+        index.put(document(3L, UserRole.ALUMNI, List.of("Kafka"), List.of()));
+        index.put(document(4L, UserRole.ALUMNI, List.of("Python"), List.of()));
+        index.put(document(5L, UserRole.STUDENT, List.of("Java", "Kafka"), List.of("Spring")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void ranksAlumniByWeightedOverlapAndSkipsEveryoneElse() {
+        List<SkillMatch> matches = index.match(1L, 10, pool);
+
+        // user 5 shares everything but is a student, user 4 shares nothing
+        assertThat(matches).extracting(SkillMatch::userId).containsExactly(2L, 3L);
+        assertThat(matches.get(0).sharedSkills()).containsExactly("Java", "Spring");
+        assertThat(matches.get(0).score()).isGreaterThan(matches.get(1).score());
+        assertThat(index.match(1L, 1, pool)).extracting(SkillMatch::userId).containsExactly(2L);
+        assertThat(index.match(99L, 10, pool)).isNull();
+    }
+
+    @Test
+    void rareSharedSkillsOutweighCommonOnes() {
+        for (long id = 10; id < 20; id++) {
+            index.put(document(id, UserRole.ALUMNI, List.of("Git"), List.of()));
+        }
+        index.put(document(20L, UserRole.STUDENT, List.of("Git", "Elixir"), List.of()));
+        index.put(document(21L, UserRole.ALUMNI, List.of("Elixir"), List.of()));
+
+        assertThat(index.match(20L, 1, pool)).extracting(SkillMatch::userId).containsExactly(21L);
+    }
+
+    @Test
+    void followsRoleChangesAndRemovals() {
+        index.put(document(5L, UserRole.ALUMNI, List.of("Java", "Kafka"), List.of("Spring")));
+        assertThat(index.match(1L, 1, pool)).extracting(SkillMatch::userId).containsExactly(5L);
+
+        index.remove(5L);
+        index.put(document(2L, UserRole.ALUMNI, List.of("Python"), List.of()));
+        assertThat(index.match(1L, 10, pool)).extracting(SkillMatch::userId).containsExactly(3L);
+        assertThat(index.candidateCount()).isEqualTo(3);
+    }
+
+    @Test
+    void parallelScoringMatchesSingleThreadedScoring() {
+        SkillMatchIndex large = new SkillMatchIndex();
+        Random random = new Random(11);
+        // few distinct skills, so one user's postings far exceed a leaf
+        for (long id = 1; id <= 3L * SkillMatchIndex.LEAF_POSTINGS; id++) {
+            List<String> skills = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                skills.add("skill" + random.nextInt(20));
+            }
+            large.put(document(id, random.nextBoolean() ? UserRole.ALUMNI : UserRole.STUDENT, skills, List.of()));
+        }
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            for (long userId = 1; userId <= 20; userId++) {
+                assertThat(large.match(userId, 25, pool)).isEqualTo(large.match(userId, 25, single));
+            }
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    private static UserSkillDocument document(Long id, UserRole role, List<String> skills, List<String> frameworks) {
+        return new UserSkillDocument(id, role, skills, List.of(), frameworks, List.of());
+    }
+}
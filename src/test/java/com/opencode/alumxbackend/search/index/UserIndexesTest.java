@@ -0,0 +1,165 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.UserIndexDocument;
+import com.opencode.alumxbackend.search.repository.UserIndexRepository;
+import com.opencode.alumxbackend.users.event.UserChangedEvent;
+import com.opencode.alumxbackend.users.model.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserIndexesTest {
+
+    private final FakeRepository repository = new FakeRepository();
+    private final RecordingIndex index = new RecordingIndex();
+    private final UserIndexes indexes = new UserIndexes(repository, List.of(index), 0);
+
+    @Test
+    @DisplayName("a change that commits while the load runs is applied once it finishes")
+    void appliesChangesThatRaceTheLoad() {
+        repository.users.put(1L, document(1L, "before"));
+        repository.duringLoad = () -> {
+            repository.users.put(1L, document(1L, "after"));
+            repository.users.put(2L, document(2L, "new"));
+            indexes.onUserChanged(changed(1L));
+            indexes.onUserChanged(changed(2L));
+        };
+
+        indexes.load();
+
+        assertThat(index.ready).isTrue();
+        assertThat(index.users.get(1L).name()).isEqualTo("after");
+        assertThat(index.users.get(2L).name()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("refresh puts changed users and removes deleted ones")
+    void refreshAppliesRecordedChanges() {
+        repository.users.put(1L, document(1L, "one"));
+        repository.users.put(2L, document(2L, "two"));
+        indexes.load();
+
+        repository.users.put(1L, document(1L, "renamed"));
+        repository.users.remove(2L);
+        indexes.onUserChanged(changed(1L));
+        indexes.onUserChanged(changed(2L));
+        assertThat(index.users.get(1L).name()).isEqualTo("one");
+
+        indexes.refresh();
+
+        assertThat(index.users.get(1L).name()).isEqualTo("renamed");
+        assertThat(index.users).doesNotContainKey(2L);
+    }
+
+    @Test
+    @DisplayName("a failed load records nothing and is retried")
+    void retriesAFailedLoad() {
+        repository.users.put(1L, document(1L, "one"));
+        repository.failLoads = 1;
+
+        indexes.load();
+        indexes.onUserChanged(changed(1L));
+
+        assertThat(index.ready).isFalse();
+        assertThat(repository.idReads).isZero();
+
+        indexes.refreshOrRetry();
+
+        assertThat(index.ready).isTrue();
+        assertThat(index.users).containsOnlyKeys(1L);
+        assertThat(repository.idReads).isZero();
+    }
+
+    @Test
+    @DisplayName("users whose refresh failed are refreshed again next time")
+    void keepsChangesWhenARefreshFails() {
+        indexes.load();
+        repository.users.put(3L, document(3L, "three"));
+        indexes.onUserChanged(changed(3L));
+        repository.failIdReads = 1;
+
+        indexes.refresh();
+        assertThat(index.users).isEmpty();
+
+        indexes.refresh();
+        assertThat(index.users).containsOnlyKeys(3L);
+    }
+
+    private static UserIndexDocument document(Long id, String name) {
+        return new UserIndexDocument(id, "user" + id, name, "user" + id + "@test.com", UserRole.ALUMNI, null,
+                null, null, null, List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+
+    private static UserChangedEvent changed(Long id) {
+        return new UserChangedEvent(id, "user" + id + "@test.com", "user" + id, UserChangedEvent.ChangeType.UPDATED);
+    }
+
+    private static final class FakeRepository implements UserIndexRepository {
+
+        private final TreeMap<Long, UserIndexDocument> users = new TreeMap<>();
+        private Runnable duringLoad;
+        private int failLoads;
+        private int failIdReads;
+        private int idReads;
+
+        @Override
+        public List<UserIndexDocument> findAfter(long afterId, int limit) {
+            if (failLoads > 0) {
+                failLoads--;
+                throw new IllegalStateException("database unavailable");
+            }
+            List<UserIndexDocument> batch = new ArrayList<>(users.tailMap(afterId, false).values());
+            if (duringLoad != null) {
+                Runnable commit = duringLoad;
+                duringLoad = null;
+                commit.run();
+            }
+            return batch.subList(0, Math.min(limit, batch.size()));
+        }
+
+        @Override
+        public List<UserIndexDocument> findByIds(Collection<Long> userIds) {
+            idReads++;
+            if (failIdReads > 0) {
+                failIdReads--;
+                throw new IllegalStateException("database unavailable");
+            }
+            return userIds.stream().filter(users::containsKey).map(users::get).toList();
+        }
+    }
+
+    private static final class RecordingIndex implements UserIndex {
+
+        private final Map<Long, UserIndexDocument> users = new ConcurrentHashMap<>();
+        private volatile boolean ready;
+
+        @Override
+        public void reset() {
+            ready = false;
+            users.clear();
+        }
+
+        @Override
+        public void put(UserIndexDocument document) {
+            users.put(document.id(), document);
+        }
+
+        @Override
+        public void remove(Long userId) {
+            users.remove(userId);
+        }
+
+        @Override
+        public void loaded() {
+            ready = true;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.opencode.alumxbackend.search.index;
+
+import com.opencode.alumxbackend.search.dto.UserSearchDocument;
+import com.opencode.alumxbackend.users.dto.UserResponseDto;
+import com.opencode.alumxbackend.users.model.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSearchIndexTest {
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new UserSearchIndex();
+        index.put(document(1L, "johnDoe", "John Doe", "Acme", List.of("IIIT Allahabad")));
+        index.put(document(2L, "doejohn", "Doe Johnson", null, List.of()));
+        index.put(document(3L, "bob_builder", "Bob Builder", "Builders Inc", List.of()));
+        index.put(document(4L, "alice123", "Alice Wonder", null, List.of("NIT Trichy")));
+    }
+
+    @Test
+    void shortAndLongQueriesMatchSubstringsCaseInsensitively() {
+        assertThat(ids(index.search("J", 0, 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.search("ohnso", 0, 10))).containsExactly(2L);
+        assertThat(ids(index.search("allahabad", 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search("nonexistent", 0, 10))).isEmpty();
+    }
+
+    @Test
+    void trigramsFromDifferentFieldsDoNotMakeAMatch() {
+        // "abc" comes from the username and "bcd" from the name, but no field contains "abcd"
+        index.put(document(5L, "abcx", "Ybcd", null, List.of()));
+        assertThat(index.search("abcd", 0, 10)).isEmpty();
+        assertThat(ids(index.search("bcd", 0, 10))).containsExactly(5L);
+    }
+
+    @Test
+    void ranksLikeTheDatabaseSearch() {
+        assertThat(ids(index.search("john", 0, 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.search("doejohn", 0, 10))).containsExactly(2L);
+        assertThat(ids(index.search("o", 0, 10))).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void multiWordQueriesMatchWholeWordsInAnyOrder() {
+        // "Doe Johnson" contains the phrase itself and ranks first; "John Doe" only has both words
+        assertThat(ids(index.search("doe john", 0, 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.search("builder bob", 0, 10))).containsExactly(3L);
+    }
+
+    @Test
+    void pagesThroughRankedResults() {
+        assertThat(ids(index.search("o", 0, 2))).containsExactly(1L, 2L);
+        assertThat(ids(index.search("o", 2, 2))).containsExactly(3L, 4L);
+        assertThat(index.search("o", 4, 2)).isEmpty();
+    }
+
+    @Test
+    void updatesReplaceAndRemovalsDropTheOldPostings() {
+        index.put(document(1L, "johnDoe", "John Doe", "Globex", List.of()));
+        assertThat(index.search("acme", 0, 10)).isEmpty();
+        assertThat(index.search("allahabad", 0, 10)).isEmpty();
+        assertThat(ids(index.search("globex", 0, 10))).containsExactly(1L);
+
+        index.remove(2L);
+        assertThat(ids(index.search("john", 0, 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.bytes()).isPositive();
+    }
+
+    private static UserSearchDocument document(Long id, String username, String name, String company, List<String> education) {
+        UserResponseDto user = new UserResponseDto(id, name, username + "@test.com", UserRole.STUDENT, LocalDateTime.now());
+        return new UserSearchDocument(user, username, name, company, education, List.of(), List.of(), List.of());
+    }
+
+    private static List<Long> ids(List<UserResponseDto> users) {
+        return users.stream().map(UserResponseDto::getId).toList();
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 @SpringBootTest
 @ActiveProfiles("test")
@@ -68,4 +69,23 @@ class UserSearchServiceTest {
         System.out.println("=====================================================");
         System.out.println(result);
     }
+
+    @Test
+    @DisplayName("Service Layer Test : matches users by their skills")
+    void searchBySkill() {
+
+        userRepository.save(User.builder()
+                .username("kube")
+                .name("Kay Ops")
+                .email("kube@test.com")
+                .passwordHash(passwordEncoder.encode("password"))
+                .role(UserRole.ALUMNI)
+                .profileCompleted(false)
+                .skills(List.of("Kubernetes"))
+                .build());
+
+        List<UserResponseDto> result = service.search("ubernet");
+
+        assertEquals(List.of("Kay Ops"), result.stream().map(UserResponseDto::getName).toList());
+    }
 }
@@ -130,7 +130,18 @@ public class UserControllerTest {
 
     }
 
-
-
-
-}
\ No newline at end of file
+    @Test
+    @DisplayName("profile and aura endpoints return 404 for an unknown user")
+    void unknownUserReturnsNotFound(){
+
+        for (String path : new String[] {"/profile", "/aura", "/aura/colors"}) {
+            int status = webClient.get()
+                    .uri("/api/users/"+(testUser.getId()+1000)+path)
+                    .header("Authorization","Bearer "+authTokenUser1)
+                    .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                    .block();
+
+            assertThat(status).isEqualTo(404);
+        }
+    }
+}
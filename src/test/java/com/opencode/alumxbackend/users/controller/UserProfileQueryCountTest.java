@@ -0,0 +1,374 @@
+package com.opencode.alumxbackend.users.controller;
+
+import com.opencode.alumxbackend.auth.dto.LoginRequest;
+import com.opencode.alumxbackend.auth.dto.LoginResponse;
+import com.opencode.alumxbackend.jobposts.repository.CommentRepository;
+import com.opencode.alumxbackend.notifications.repository.NotificationRepository;
+import com.opencode.alumxbackend.users.dto.AuraElement;
+import com.opencode.alumxbackend.users.dto.ColorAwareAuraResponse;
+import com.opencode.alumxbackend.users.dto.UserProfileResponse;
+import com.opencode.alumxbackend.users.dto.UserProfileUpdateRequest;
+import com.opencode.alumxbackend.users.dto.UserSummaryResponse;
+import com.opencode.alumxbackend.users.model.User;
+import com.opencode.alumxbackend.users.model.UserRole;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class UserProfileQueryCountTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private WebClient webClient;
+    private User testUser;
+    private String authToken;
+
+    @BeforeEach
+    void setup() {
+        webClient = WebClient.create("http://localhost:" + port);
+
+        commentRepository.deleteAll();
+        notificationRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.save(User.builder()
+                .username("fullprofile")
+                .email("fullprofile@example.com")
+                .name("Full Profile")
+                .passwordHash(passwordEncoder.encode("password"))
+                .role(UserRole.ALUMNI)
+                .profileCompleted(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .skills(List.of("Java", "SQL"))
+                .education(List.of("IIIT Allahabad"))
+                .techStack(List.of("Spring", "Postgres"))
+                .frameworks(List.of("Spring Boot"))
+                .languages(List.of("English", "Hindi"))
+                .communicationSkills(List.of("Writing"))
+                .softSkills(List.of("Mentoring"))
+                .experience(List.of("Backend Engineer"))
+                .internships(List.of("Summer Intern"))
+                .projects(List.of("AlumX"))
+                .certifications(List.of("OCP"))
+                .hobbies(List.of("Chess", "Running"))
+                .build());
+
+        LoginResponse loginResponse = webClient.post()
+                .uri("/api/auth/login")
+                .bodyValue(new LoginRequest("fullprofile", "password"))
+                .retrieve()
+                .bodyToMono(LoginResponse.class)
+                .block();
+        authToken = loginResponse.getAccessToken();
+    }
+
+    @Test
+    @DisplayName("profile with every attribute list filled loads in two statements")
+    void profileLoadsInConstantStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        UserProfileResponse profile = webClient.get()
+                .uri("/api/users/" + testUser.getId() + "/profile")
+                .header("Authorization", "Bearer " + authToken)
+                .retrieve()
+                .bodyToMono(UserProfileResponse.class)
+                .block();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        assertThat(profile).isNotNull();
+        assertThat(profile.getUsername()).isEqualTo("fullprofile");
+        assertThat(profile.getRole()).isEqualTo(UserRole.ALUMNI);
+        assertThat(profile.getSkills()).containsExactlyInAnyOrder("Java", "SQL");
+        assertThat(profile.getEducation()).containsExactly("IIIT Allahabad");
+        assertThat(profile.getTechStack()).containsExactlyInAnyOrder("Spring", "Postgres");
+        assertThat(profile.getFrameworks()).containsExactly("Spring Boot");
+        assertThat(profile.getLanguages()).containsExactlyInAnyOrder("English", "Hindi");
+        assertThat(profile.getCommunicationSkills()).containsExactly("Writing");
+        assertThat(profile.getSoftSkills()).containsExactly("Mentoring");
+        assertThat(profile.getExperience()).containsExactly("Backend Engineer");
+        assertThat(profile.getInternships()).containsExactly("Summer Intern");
+        assertThat(profile.getProjects()).containsExactly("AlumX");
+        assertThat(profile.getCertifications()).containsExactly("OCP");
+        assertThat(profile.getHobbies()).containsExactlyInAnyOrder("Chess", "Running");
+        assertThat(profile.getProfileCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("profile with no attribute lists still loads in two statements")
+    void emptyProfileLoadsInConstantStatements() {
+        User bare = userRepository.save(User.builder()
+                .username("bareprofile")
+                .email("bareprofile@example.com")
+                .name("Bare Profile")
+                .passwordHash(passwordEncoder.encode("password"))
+                .role(UserRole.STUDENT)
+                .profileCompleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        UserProfileResponse profile = webClient.get()
+                .uri("/api/users/" + bare.getId() + "/profile")
+                .header("Authorization", "Bearer " + authToken)
+                .retrieve()
+                .bodyToMono(UserProfileResponse.class)
+                .block();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(profile).isNotNull();
+        assertThat(profile.getSkills()).isEmpty();
+        assertThat(profile.getHobbies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("If-None-Match with the current ETag gets 304 without touching the database")
+    void conditionalGetIsServedFromCache() {
+        ResponseEntity<UserProfileResponse> first = getProfile(null);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotNull();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ResponseEntity<UserProfileResponse> second = getProfile(etag);
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("updating the profile changes its ETag and evicts the cached copy")
+    void updateInvalidatesCachedProfile() {
+        String etag = getProfile(null).getHeaders().getETag();
+
+        UserProfileUpdateRequest update = new UserProfileUpdateRequest();
+        update.setSkills(List.of("Kotlin"));
+        webClient.patch()
+                .uri("/api/users/" + testUser.getId() + "/profile")
+                .header("Authorization", "Bearer " + authToken)
+                .bodyValue(update)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+
+        ResponseEntity<UserProfileResponse> after = getProfile(etag);
+
+        assertThat(after.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(after.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(after.getBody().getSkills()).containsExactly("Kotlin");
+    }
+
+    @Test
+    @DisplayName("aura endpoints answer 304 for their own ETag")
+    void auraSupportsConditionalGet() {
+        for (String path : List.of("/aura", "/aura/colors")) {
+            String etag = webClient.get()
+                    .uri("/api/users/" + testUser.getId() + path)
+                    .header("Authorization", "Bearer " + authToken)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block()
+                    .getHeaders().getETag();
+
+            ResponseEntity<Void> revalidated = webClient.get()
+                    .uri("/api/users/" + testUser.getId() + path)
+                    .header("Authorization", "Bearer " + authToken)
+                    .header(HttpHeaders.IF_NONE_MATCH, etag)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block();
+
+            assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        }
+    }
+
+    @Test
+    @DisplayName("batch aura request loads every profile in two statements and skips unknown ids")
+    void batchAurasLoadInConstantStatements() {
+        User second = userRepository.save(User.builder()
+                .username("secondprofile")
+                .email("secondprofile@example.com")
+                .name("Second Profile")
+                .passwordHash(passwordEncoder.encode("password"))
+                .role(UserRole.STUDENT)
+                .profileCompleted(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .skills(List.of("Go"))
+                .build());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Map<String, ColorAwareAuraResponse> auras = getAuras(testUser.getId() + "," + second.getId() + ",999999");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(auras).containsOnlyKeys(String.valueOf(testUser.getId()), String.valueOf(second.getId()));
+        assertThat(auras.get(String.valueOf(second.getId())).getSkills())
+                .extracting(AuraElement::getName)
+                .containsExactly("Go");
+
+        statistics.clear();
+        Map<String, ColorAwareAuraResponse> again = getAuras(testUser.getId() + "," + second.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(again).isEqualTo(auras);
+    }
+
+    @Test
+    @DisplayName("batch aura request rejects more than 100 ids")
+    void batchAurasRejectsOversizedRequest() {
+        String ids = LongStream.rangeClosed(1, 101)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        HttpStatusCode status = webClient.get()
+                .uri("/api/users/auras?ids=" + ids)
+                .header("Authorization", "Bearer " + authToken)
+                .exchangeToMono(response -> Mono.just(response.statusCode()))
+                .block();
+
+        assertThat(status).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("summaries keep request order, use one statement, and come from cached profiles when possible")
+    void summariesLoadInOneStatement() {
+        User second = userRepository.save(User.builder()
+                .username("summaryprofile")
+                .email("summaryprofile@example.com")
+                .name("Summary Profile")
+                .passwordHash(passwordEncoder.encode("password"))
+                .role(UserRole.STUDENT)
+                .profileCompleted(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .currentCompany("Acme")
+                .location("Pune")
+                .build());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<UserSummaryResponse> summaries = getSummaries(second.getId() + ",999999," + testUser.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(summaries).extracting(UserSummaryResponse::getId).containsExactly(second.getId(), testUser.getId());
+        assertThat(summaries.get(0).getRole()).isEqualTo(UserRole.STUDENT);
+        assertThat(summaries.get(0).getCurrentCompany()).isEqualTo("Acme");
+        assertThat(summaries.get(0).getLocation()).isEqualTo("Pune");
+
+        // both profiles cached now, so the summaries need no statement at all
+        getProfile(null);
+        webClient.get()
+                .uri("/api/users/" + second.getId() + "/profile")
+                .header("Authorization", "Bearer " + authToken)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+        statistics.clear();
+
+        List<UserSummaryResponse> cached = getSummaries(testUser.getId() + "," + second.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(cached).extracting(UserSummaryResponse::getUsername).containsExactly("fullprofile", "summaryprofile");
+        assertThat(cached.get(0).getRole()).isEqualTo(UserRole.ALUMNI);
+    }
+
+    @Test
+    @DisplayName("summaries reject more than 500 ids")
+    void summariesRejectOversizedRequest() {
+        String ids = LongStream.rangeClosed(1, 501)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        HttpStatusCode status = webClient.get()
+                .uri("/api/users/summaries?ids=" + ids)
+                .header("Authorization", "Bearer " + authToken)
+                .exchangeToMono(response -> Mono.just(response.statusCode()))
+                .block();
+
+        assertThat(status).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private List<UserSummaryResponse> getSummaries(String ids) {
+        return webClient.get()
+                .uri("/api/users/summaries?ids=" + ids)
+                .header("Authorization", "Bearer " + authToken)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<UserSummaryResponse>>() {})
+                .block();
+    }
+
+    private Map<String, ColorAwareAuraResponse> getAuras(String ids) {
+        return webClient.get()
+                .uri("/api/users/auras?ids=" + ids)
+                .header("Authorization", "Bearer " + authToken)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, ColorAwareAuraResponse>>() {})
+                .block();
+    }
+
+    private ResponseEntity<UserProfileResponse> getProfile(String ifNoneMatch) {
+        return webClient.get()
+                .uri("/api/users/" + testUser.getId() + "/profile")
+                .header("Authorization", "Bearer " + authToken)
+                .headers(headers -> {
+                    if (ifNoneMatch != null) {
+                        headers.setIfNoneMatch(ifNoneMatch);
+                    }
+                })
+                .retrieve()
+                .toEntity(UserProfileResponse.class)
+                .block();
+    }
+}
@@ -0,0 +1,72 @@
+package com.opencode.alumxbackend.users.service;
+
+import com.opencode.alumxbackend.users.dto.AuraElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Color resolution for a typical aura: values listed in the mapping (in
+ * mixed case), values only found under careerFields, and values that need a
+ * generated color.
+ *
+ * Run after {@code mvn test-compile} with
+ * {@code java -cp target/test-classes:target/classes:<test classpath> com.opencode.alumxbackend.users.service.AuraColorServiceBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuraColorServiceBenchmark {
+
+    private AuraColorServiceImpl service;
+
+    private final List<String> mappedSkills = List.of(
+            "Java", "spring boot", "REACT", "Python", "Docker", "Kubernetes", "Git", "Figma");
+    private final List<String> careerFieldSkills = List.of(
+            "Machine Learning", "NLP", "AWS", "CI/CD");
+    private final List<String> unknownSkills = List.of(
+            "Haskell", "Elixir", "COBOL", "Fortran", "Zig", "OCaml", "Erlang", "Prolog");
+
+    @Setup
+    public void setup() {
+        service = new AuraColorServiceImpl("", 10_000);
+        service.init();
+    }
+
+    @Benchmark
+    public List<AuraElement> mappedValues() {
+        return service.mapToColorAwareElements("skills", mappedSkills);
+    }
+
+    @Benchmark
+    public List<AuraElement> careerFieldValues() {
+        return service.mapToColorAwareElements("skills", careerFieldSkills);
+    }
+
+    @Benchmark
+    public List<AuraElement> generatedValues() {
+        return service.mapToColorAwareElements("skills", unknownSkills);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuraColorServiceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
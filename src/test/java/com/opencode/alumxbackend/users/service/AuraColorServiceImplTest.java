@@ -0,0 +1,80 @@
+package com.opencode.alumxbackend.users.service;
+
+import com.opencode.alumxbackend.users.dto.AuraElement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuraColorServiceImplTest {
+
+    private AuraColorServiceImpl service;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void looksUpConfiguredColorsIgnoringCaseAndSurroundingSpace() {
+        service = new AuraColorServiceImpl("", 100);
+        service.init();
+
+        assertThat(service.getColor("skills", "Java")).isEqualTo("#E07B39");
+        assertThat(service.getColor("skills", "  spring BOOT ")).isEqualTo("#4BAF4F");
+    }
+
+    @Test
+    void fallsBackToCareerFieldsThenToGeneratedColor() {
+        service = new AuraColorServiceImpl("", 100);
+        service.init();
+
+        assertThat(service.getColor("skills", "Machine Learning")).isEqualTo("#FF6F61");
+
+        // same formula as before the index: hash bytes with a floor of 0x50
+        int hash = "Haskell".hashCode();
+        String expected = String.format("#%02X%02X%02X",
+                Math.max(80, (hash & 0xFF0000) >> 16), Math.max(80, (hash & 0x00FF00) >> 8), Math.max(80, hash & 0xFF));
+        assertThat(service.getColor("skills", "Haskell")).isEqualTo(expected);
+        assertThat(service.getColor("skills", " ")).isEqualTo("#808080");
+    }
+
+    @Test
+    void mapsElementsSkippingBlankValues() {
+        service = new AuraColorServiceImpl("", 100);
+        service.init();
+
+        List<AuraElement> elements = service.mapToColorAwareElements("languages", Arrays.asList("Go", null, " ", "rust"));
+
+        assertThat(elements).extracting(AuraElement::getName).containsExactly("Go", "rust");
+        assertThat(elements).extracting(AuraElement::getColor).containsExactly("#00ADD8", "#DEA584");
+    }
+
+    @Test
+    void reloadSwapsMappingAndKeepsItWhenTheFileIsBroken(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("aura-colors.json");
+        Files.writeString(file, "{\"skills\": {\"Java\": \"#111111\"}}");
+        service = new AuraColorServiceImpl(file.toString(), 100);
+        service.init();
+        long firstVersion = service.getMappingVersion();
+        assertThat(service.getColor("skills", "java")).isEqualTo("#111111");
+
+        Files.writeString(file, "{\"skills\": {\"Java\": \"#222222\"}}");
+        service.reload();
+        assertThat(service.getColor("skills", "java")).isEqualTo("#222222");
+        assertThat(service.getMappingVersion()).isNotEqualTo(firstVersion);
+
+        Files.writeString(file, "{ not json");
+        service.reload();
+        assertThat(service.getColor("skills", "java")).isEqualTo("#222222");
+    }
+}
@@ -0,0 +1,215 @@
+package com.opencode.alumxbackend.users.service;
+
+import com.opencode.alumxbackend.users.dto.UserProfileResponse;
+import com.opencode.alumxbackend.users.dto.UserProfileUpdateRequest;
+import com.opencode.alumxbackend.users.model.User;
+import com.opencode.alumxbackend.users.model.UserRole;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC work done by a typical profile edit (swap one skill, add one
+ * hobby on a profile with ten values in every list): once the way the entity
+ * used to be updated, by replacing the lists, and once through
+ * {@link UserService#updateUserProfile}.
+ */
+// the user indexes refresh in the background; keep their reads out of the count
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:profilebenchmark;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "users.index.refresh-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class ProfileUpdateStatementBenchmarkTest {
+
+    private static final AtomicInteger roundTrips = new AtomicInteger();
+    private static final AtomicInteger rowStatements = new AtomicInteger();
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long userId;
+
+    @BeforeEach
+    void setup() {
+        userRepository.deleteAll();
+        userId = userRepository.save(User.builder()
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .name("Benchmark User")
+                .passwordHash("not-used")
+                .role(UserRole.ALUMNI)
+                .profileCompleted(true)
+                .skills(values("skill"))
+                .education(values("education"))
+                .techStack(values("tech"))
+                .frameworks(values("framework"))
+                .languages(values("language"))
+                .communicationSkills(values("communication"))
+                .softSkills(values("soft"))
+                .experience(values("experience"))
+                .internships(values("internship"))
+                .projects(values("project"))
+                .certifications(values("certification"))
+                .hobbies(values("hobby"))
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("diff-based profile update issues fewer statements than replacing the lists")
+    void diffBasedUpdateIssuesFewerStatements() {
+        List<String> skills = new ArrayList<>(values("skill"));
+        skills.set(3, "skill-replaced");
+        List<String> hobbies = new ArrayList<>(values("hobby"));
+        hobbies.add("hobby-new");
+
+        reset();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            user.setSkills(new ArrayList<>(skills));
+            user.setHobbies(new ArrayList<>(hobbies));
+            User saved = userRepository.save(user);
+            // the old response mapping read every list
+            saved.getEducation().size();
+            saved.getTechStack().size();
+            saved.getFrameworks().size();
+            saved.getLanguages().size();
+            saved.getCommunicationSkills().size();
+            saved.getSoftSkills().size();
+            saved.getExperience().size();
+            saved.getInternships().size();
+            saved.getProjects().size();
+            saved.getCertifications().size();
+        });
+        int replaceRoundTrips = roundTrips.get();
+        int replaceRows = rowStatements.get();
+
+        skills.set(4, "skill-replaced-again");
+        hobbies.add("hobby-newer");
+        UserProfileUpdateRequest request = new UserProfileUpdateRequest();
+        request.setSkills(skills);
+        request.setHobbies(hobbies);
+
+        reset();
+        UserProfileResponse response = userService.updateUserProfile(userId, request);
+        int diffRoundTrips = roundTrips.get();
+        int diffRows = rowStatements.get();
+
+        // select user, select attributes, delete 1 skill, insert 1 skill, insert 1 hobby, update user
+        assertThat(diffRows).isEqualTo(6);
+        assertThat(diffRoundTrips).isLessThan(replaceRoundTrips);
+        assertThat(diffRows).isLessThan(replaceRows);
+
+        assertThat(response.getSkills()).containsExactlyInAnyOrderElementsOf(skills);
+        assertThat(response.getHobbies()).containsExactlyInAnyOrderElementsOf(hobbies);
+        assertThat(response.getEducation()).containsExactlyInAnyOrderElementsOf(values("education"));
+        assertThat(userService.getUserProfile(userId).getSkills()).containsExactlyInAnyOrderElementsOf(skills);
+    }
+
+    @Test
+    @DisplayName("duplicates and removals are applied as a multiset")
+    void diffBasedUpdateKeepsDuplicateCounts() {
+        UserProfileUpdateRequest request = new UserProfileUpdateRequest();
+        request.setSkills(List.of("skill-0", "skill-0", "skill-1"));
+        userService.updateUserProfile(userId, request);
+
+        request.setSkills(List.of("skill-0", "skill-2"));
+        userService.updateUserProfile(userId, request);
+
+        assertThat(userService.getUserProfile(userId).getSkills())
+                .containsExactlyInAnyOrder("skill-0", "skill-2");
+    }
+
+    private static List<String> values(String prefix) {
+        return IntStream.range(0, 10).mapToObj(i -> prefix + "-" + i).toList();
+    }
+
+    private static void reset() {
+        roundTrips.set(0);
+        rowStatements.set(0);
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        // Wraps the pool so every statement execution (a batch counts once) is one round trip
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? counting(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource counting(DataSource target) {
+            return proxy(DataSource.class, target, (result, method) ->
+                    result instanceof Connection connection ? proxy(Connection.class, connection, (statementResult, connectionMethod) ->
+                            statementResult instanceof Statement statement ? countingStatement(statement) : statementResult) : result);
+        }
+
+        private static Statement countingStatement(Statement target) {
+            Class<? extends Statement> type = target instanceof java.sql.PreparedStatement
+                    ? java.sql.PreparedStatement.class : Statement.class;
+            return (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("execute")) {
+                    roundTrips.incrementAndGet();
+                    if (!name.contains("Batch")) {
+                        rowStatements.incrementAndGet();
+                    }
+                } else if (name.equals("addBatch")) {
+                    rowStatements.incrementAndGet();
+                }
+                return invoke(target, method, args);
+            });
+        }
+
+        private interface ResultWrapper {
+            Object wrap(Object result, java.lang.reflect.Method method);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, ResultWrapper wrapper) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> wrapper.wrap(invoke(target, method, args), method));
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.opencode.alumxbackend.users.service;
+
+import com.opencode.alumxbackend.users.dto.UserIdentifiersView;
+import com.opencode.alumxbackend.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserIdentifierFilterTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @Test
+    @DisplayName("picks up users registered through another instance at the next catch-up")
+    void catchUp_AddsUsersRegisteredElsewhere() {
+        when(userRepository.findIdentifiersAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new UserIdentifiersView(1L, "first@test.com", "first")));
+        UserIdentifierFilter filter = new UserIdentifierFilter(userRepository, 1000, 0.01, 60_000);
+        filter.warmUp();
+        assertThat(filter.mightExist("second@test.com")).isFalse();
+
+        when(userRepository.findIdentifiersAfter(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(new UserIdentifiersView(2L, "second@test.com", "second")));
+        filter.catchUp();
+
+        assertThat(filter.mightExist("second@test.com")).isTrue();
+        assertThat(filter.mightExist("first")).isTrue();
+    }
+
+    @Test
+    @DisplayName("reads again from where the previous catch-up started, for ids that committed late")
+    void catchUp_OverlapsThePreviousCatchUp() {
+        when(userRepository.findIdentifiersAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new UserIdentifiersView(1L, "first@test.com", "first")));
+        UserIdentifierFilter filter = new UserIdentifierFilter(userRepository, 1000, 0.01, 60_000);
+        filter.warmUp();
+
+        // id 3 is read while id 2 has not committed yet
+        when(userRepository.findIdentifiersAfter(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(new UserIdentifiersView(3L, "third@test.com", "third")));
+        filter.catchUp();
+        assertThat(filter.mightExist("second@test.com")).isFalse();
+
+        when(userRepository.findIdentifiersAfter(eq(1L), any(Pageable.class))).thenReturn(List.of(
+                new UserIdentifiersView(2L, "second@test.com", "second"),
+                new UserIdentifiersView(3L, "third@test.com", "third")));
+        filter.catchUp();
+
+        assertThat(filter.mightExist("second@test.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("answers maybe for everything once catch-ups have fallen behind")
+    void mightExist_TrueWhileStale() throws InterruptedException {
+        when(userRepository.findIdentifiersAfter(eq(0L), any(Pageable.class))).thenReturn(List.of());
+        UserIdentifierFilter filter = new UserIdentifierFilter(userRepository, 1000, 0.01, 1);
+        filter.warmUp();
+
+        Thread.sleep(10);
+
+        assertThat(filter.mightExist("nobody@test.com")).isTrue();
+    }
+}